@@ -0,0 +1,32 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.in.web.dto.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.exception.BusinessException;
+import org.bson.types.ObjectId;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public record NotificationInboxCursorDTO(LocalDateTime createdAt, String id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static NotificationInboxCursorDTO decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0 || !ObjectId.isValid(raw.substring(separator + 1))) {
+                throw new BusinessException("Cursor de paginação inválido");
+            }
+            return new NotificationInboxCursorDTO(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BusinessException("Cursor de paginação inválido", ex);
+        }
+    }
+}
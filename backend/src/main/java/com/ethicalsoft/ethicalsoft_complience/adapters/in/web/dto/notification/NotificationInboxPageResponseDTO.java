@@ -0,0 +1,15 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.in.web.dto.notification;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class NotificationInboxPageResponseDTO {
+    List<NotificationResponseDTO> content;
+    int size;
+    boolean hasNext;
+    String nextCursor;
+}
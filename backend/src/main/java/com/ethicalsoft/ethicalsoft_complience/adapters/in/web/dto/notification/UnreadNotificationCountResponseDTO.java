@@ -0,0 +1,4 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.in.web.dto.notification;
+
+public record UnreadNotificationCountResponseDTO(long unread) {
+}
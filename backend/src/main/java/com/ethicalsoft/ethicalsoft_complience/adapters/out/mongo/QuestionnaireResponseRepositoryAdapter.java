@@ -1,19 +1,40 @@
 package com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo;
 
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.QuestionnaireAnswerPage;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.QuestionnaireResponse;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.repository.QuestionnaireResponseRepository;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.QuestionnaireResponseStatus;
 import com.ethicalsoft.ethicalsoft_complience.domain.repository.QuestionnaireResponseRepositoryPort;
+import com.mongodb.client.result.UpdateResult;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.MongoExpression;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class QuestionnaireResponseRepositoryAdapter implements QuestionnaireResponseRepositoryPort {
 
+    private static final String ANSWER_COUNT = "{ $size: { $ifNull: ['$answers', []] } }";
+    private static final String ANSWERED_COUNT = "{ $size: { $filter: { input: { $ifNull: ['$answers', []] }, "
+            + "cond: { $ne: [{ $ifNull: ['$$this.response', null] }, null] } } } }";
+
     private final QuestionnaireResponseRepository delegate;
+    private final MongoTemplate mongoTemplate;
 
     @Override
     public Optional<QuestionnaireResponse> findByQuestionnaireIdAndRepresentativeId(Integer questionnaireId, Long representativeId) {
@@ -49,4 +70,90 @@ public class QuestionnaireResponseRepositoryAdapter implements QuestionnaireResp
     public QuestionnaireResponse save(QuestionnaireResponse response) {
         return delegate.save(response);
     }
+
+    @Override
+    public Optional<QuestionnaireAnswerPage> findAnswerPage(Long projectId,
+                                                            Integer questionnaireId,
+                                                            Long representativeId,
+                                                            int fromIndex,
+                                                            int pageSize) {
+        Query query = pageProjection(Query.query(responseCriteria(projectId, questionnaireId, representativeId)), fromIndex, pageSize);
+        return Optional.ofNullable(mongoTemplate.findOne(query, QuestionnaireAnswerPage.class, collectionName()));
+    }
+
+    @Override
+    public Optional<QuestionnaireAnswerPage> applyAnswers(Long projectId,
+                                                          Integer questionnaireId,
+                                                          Long representativeId,
+                                                          List<QuestionnaireResponse.AnswerDocument> answers,
+                                                          int fromIndex,
+                                                          int pageSize) {
+        Map<Long, QuestionnaireResponse.AnswerDocument> byQuestion = new LinkedHashMap<>();
+        answers.forEach(answer -> byQuestion.put(answer.getQuestionId(), answer));
+        if (byQuestion.isEmpty()) {
+            return findAnswerPage(projectId, questionnaireId, representativeId, fromIndex, pageSize);
+        }
+
+        Criteria criteria = responseCriteria(projectId, questionnaireId, representativeId)
+                .and("answers.questionId").all(List.copyOf(byQuestion.keySet()));
+        if (fromIndex > 0) {
+            criteria = criteria.and("answers." + fromIndex).exists(true);
+        }
+        Query query = pageProjection(Query.query(criteria), fromIndex, pageSize);
+
+        Update update = new Update();
+        int index = 0;
+        for (QuestionnaireResponse.AnswerDocument answer : byQuestion.values()) {
+            String filter = "a" + index++;
+            String path = "answers.$[" + filter + "].";
+            update.set(path + "response", answer.getResponse())
+                    .set(path + "justification", answer.getJustification())
+                    .set(path + "evidence", answer.getEvidence())
+                    .set(path + "attachments", answer.getAttachments())
+                    .filterArray(Criteria.where(filter + ".questionId").is(answer.getQuestionId()));
+        }
+        update.inc("version", 1);
+
+        return Optional.ofNullable(mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), QuestionnaireAnswerPage.class, collectionName()));
+    }
+
+    @Override
+    public boolean updateStatus(String id, Long expectedVersion, QuestionnaireResponseStatus status, LocalDateTime submissionDate) {
+        UpdateResult result = mongoTemplate.updateFirst(
+                Query.query(Criteria.where("_id").is(id).and("version").is(expectedVersion)),
+                new Update().set("status", status).set("submissionDate", submissionDate).inc("version", 1),
+                QuestionnaireResponse.class);
+        return result.getModifiedCount() > 0;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillVersions() {
+        try {
+            UpdateResult result = mongoTemplate.updateMulti(Query.query(Criteria.where("version").exists(false)),
+                    new Update().set("version", 0L), QuestionnaireResponse.class);
+            if (result.getModifiedCount() > 0) {
+                log.info("[questionnaire-response] {} registros de respostas receberam versão inicial", result.getModifiedCount());
+            }
+        } catch (Exception ex) {
+            log.error("[questionnaire-response] Falha ao inicializar versão dos registros de respostas", ex);
+        }
+    }
+
+    private Criteria responseCriteria(Long projectId, Integer questionnaireId, Long representativeId) {
+        return Criteria.where("projectId").is(projectId)
+                .and("questionnaireId").is(questionnaireId)
+                .and("representativeId").is(representativeId);
+    }
+
+    private Query pageProjection(Query query, int fromIndex, int pageSize) {
+        query.fields().include("status", "submissionDate", "version").slice("answers", fromIndex, pageSize);
+        query.fields().project(MongoExpression.create(ANSWER_COUNT)).as("answerCount");
+        query.fields().project(MongoExpression.create(ANSWERED_COUNT)).as("answeredCount");
+        return query;
+    }
+
+    private String collectionName() {
+        return mongoTemplate.getCollectionName(QuestionnaireResponse.class);
+    }
 }
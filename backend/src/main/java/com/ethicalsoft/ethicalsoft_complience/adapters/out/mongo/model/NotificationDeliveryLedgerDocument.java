@@ -0,0 +1,30 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "notification_delivery_ledger")
+public class NotificationDeliveryLedgerDocument {
+    @Id
+    private String key;
+
+    private String type;
+    private String recipient;
+    private String scope;
+    private LocalDate day;
+
+    private LocalDateTime claimedAt;
+}
@@ -19,6 +19,9 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @Document(collection = "notifications")
 @CompoundIndex(name = "recipient_status_idx", def = "{ 'recipient.userId': 1, 'status': 1 }")
+@CompoundIndex(name = "recipient_status_created_idx", def = "{ 'recipient.userId': 1, 'status': 1, 'createdAt': -1, '_id': -1 }")
+@CompoundIndex(name = "recipient_created_idx", def = "{ 'recipient.userId': 1, 'createdAt': -1, '_id': -1 }")
+@CompoundIndex(name = "status_updated_idx", def = "{ 'status': 1, 'updatedAt': 1 }")
 public class NotificationDocument {
     @Id
     private String id;
@@ -36,5 +39,7 @@ public class NotificationDocument {
     private LocalDateTime updatedAt;
 
     private String templateKey;
+
+    private String deliveryKey;
 }
 
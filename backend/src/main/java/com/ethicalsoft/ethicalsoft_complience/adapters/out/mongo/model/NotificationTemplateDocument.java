@@ -8,10 +8,11 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "notification_templates")
@@ -30,4 +31,7 @@ public class NotificationTemplateDocument {
     private String templateLink;
 
     private List<String> channels;
+
+    private Long version;
+    private LocalDateTime updatedAt;
 }
@@ -0,0 +1,26 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "notification_unread_counters")
+public class NotificationUnreadCounterDocument {
+    @Id
+    private Long userId;
+
+    private long unread;
+
+    private LocalDateTime updatedAt;
+}
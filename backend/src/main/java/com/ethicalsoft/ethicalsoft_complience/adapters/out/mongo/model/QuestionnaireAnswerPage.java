@@ -0,0 +1,26 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.QuestionnaireResponseStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionnaireAnswerPage {
+	@Id
+	private String id;
+	private QuestionnaireResponseStatus status;
+	private LocalDateTime submissionDate;
+	private List<QuestionnaireResponse.AnswerDocument> answers;
+	private int answerCount;
+	private int answeredCount;
+	private Long version;
+}
@@ -6,6 +6,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
@@ -16,6 +18,7 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Document(collection = "questionnaire_responses")
+@CompoundIndex(name = "project_questionnaire_representative_idx", def = "{ 'projectId': 1, 'questionnaireId': 1, 'representativeId': 1 }")
 public class QuestionnaireResponse {
 	@Id
 	private String id;
@@ -26,6 +29,8 @@ public class QuestionnaireResponse {
 	private QuestionnaireResponseStatus status;
 	private LocalDateTime submissionDate;
 	private List<AnswerDocument> answers;
+	@Version
+	private Long version;
 
 	@Getter
 	@Setter
@@ -0,0 +1,11 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.dto;
+
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+
+@Data
+public class ProjectResponseCountDTO {
+	@Id
+	private Long projectId;
+	private long count;
+}
@@ -0,0 +1,22 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.dto;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.QuestionnaireResponseStatus;
+import lombok.Data;
+import org.springframework.data.annotation.Id;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+public class QuestionnaireProgressDTO {
+	@Id
+	private Integer questionnaireId;
+	private List<RespondentProgressDTO> respondents;
+
+	@Data
+	public static class RespondentProgressDTO {
+		private Long representativeId;
+		private QuestionnaireResponseStatus status;
+		private LocalDateTime submissionDate;
+	}
+}
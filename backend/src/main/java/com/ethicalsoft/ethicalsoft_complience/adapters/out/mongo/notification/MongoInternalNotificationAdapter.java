@@ -3,27 +3,59 @@ package com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.notification;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.NotificationDocument;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.NotificationPartyDocument;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.repository.NotificationRepository;
-import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.repository.NotificationTemplateRepository;
 import com.ethicalsoft.ethicalsoft_complience.application.port.notification.InternalNotificationPort;
 import com.ethicalsoft.ethicalsoft_complience.application.port.notification.ListInternalNotificationsPort;
-import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationTemplatePort;
 import com.ethicalsoft.ethicalsoft_complience.application.port.notification.UpdateInternalNotificationStatusPort;
 import com.ethicalsoft.ethicalsoft_complience.domain.notification.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class MongoInternalNotificationAdapter implements InternalNotificationPort, ListInternalNotificationsPort, UpdateInternalNotificationStatusPort, NotificationTemplatePort {
+public class MongoInternalNotificationAdapter implements InternalNotificationPort, ListInternalNotificationsPort, UpdateInternalNotificationStatusPort {
+
+    private static final String DELIVERY_KEY_INDEX = "delivery_key_idx";
+    private static final int DUPLICATE_KEY_CODE = 11000;
 
     private final NotificationRepository notificationMongoRepository;
-    private final NotificationTemplateRepository templateMongoRepository;
+    private final MongoTemplate mongoTemplate;
+    private final NotificationUnreadCounter unreadCounter;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureDeliveryKeyIndex() {
+        try {
+            mongoTemplate.indexOps(NotificationDocument.class)
+                    .ensureIndex(new Index().on("deliveryKey", Sort.Direction.ASC).named(DELIVERY_KEY_INDEX).unique().sparse());
+        } catch (Exception ex) {
+            log.error("[notification-mongo] Falha ao garantir índice único de chave de entrega", ex);
+        }
+    }
 
     @Override
     public Notification save(Notification notification) {
@@ -34,7 +66,16 @@ public class MongoInternalNotificationAdapter implements InternalNotificationPor
                 doc.getRecipient() != null ? doc.getRecipient().getEmail() : null,
                 doc.getStatus());
 
-        NotificationDocument saved = notificationMongoRepository.save(doc);
+        NotificationDocument saved;
+        if (doc.getId() == null) {
+            saved = notificationMongoRepository.save(doc);
+            unreadCounter.applyTransition(recipientUserId(saved), null, saved.getStatus());
+        } else {
+            NotificationDocument previous = mongoTemplate.findAndReplace(Query.query(Criteria.where("_id").is(doc.getId())), doc,
+                    FindAndReplaceOptions.options().upsert());
+            saved = doc;
+            unreadCounter.applyTransition(recipientUserId(saved), previous != null ? previous.getStatus() : null, saved.getStatus());
+        }
 
         log.info("[notification-mongo] Notificação interna salva id={} templateKey={} recipientUserId={}",
                 saved.getId(),
@@ -44,6 +85,59 @@ public class MongoInternalNotificationAdapter implements InternalNotificationPor
         return toDomain(saved);
     }
 
+    @Override
+    public BatchSaveResult saveAll(List<Notification> notifications, String deliveryKey) {
+        if (notifications == null || notifications.isEmpty()) {
+            return new BatchSaveResult(List.of(), List.of());
+        }
+        List<NotificationDocument> documents = notifications.stream().map(this::toDocument).toList();
+        documents.stream()
+                .filter(document -> document.getId() == null)
+                .forEach(document -> document.setId(new ObjectId().toHexString()));
+        if (deliveryKey != null) {
+            assignDeliveryKeys(documents, deliveryKey);
+        }
+
+        Set<Integer> failedIndexes = new HashSet<>();
+        List<FailedNotification> failures = new ArrayList<>();
+        int alreadySaved = 0;
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationDocument.class)
+                    .insert(documents)
+                    .execute();
+        } catch (BulkOperationException ex) {
+            for (var error : ex.getErrors()) {
+                failedIndexes.add(error.getIndex());
+                if (error.getCode() == DUPLICATE_KEY_CODE && documents.get(error.getIndex()).getDeliveryKey() != null) {
+                    alreadySaved++;
+                } else {
+                    failures.add(new FailedNotification(error.getIndex(), notifications.get(error.getIndex()), error.getMessage()));
+                }
+            }
+        }
+
+        List<Notification> saved = new ArrayList<>(documents.size() - failedIndexes.size());
+        for (int i = 0; i < documents.size(); i++) {
+            if (!failedIndexes.contains(i)) {
+                saved.add(toDomain(documents.get(i)));
+            }
+        }
+        Map<Long, Long> unreadByRecipient = saved.stream()
+                .filter(notification -> notification.status() == NotificationStatus.UNREAD)
+                .filter(notification -> notification.recipient() != null && notification.recipient().userId() != null)
+                .collect(Collectors.groupingBy(notification -> notification.recipient().userId(), Collectors.counting()));
+        unreadCounter.incrementAll(unreadByRecipient);
+
+        log.info("[notification-mongo] Lote de notificações internas salvo total={} salvas={} jaSalvas={} falhas={}",
+                documents.size(), saved.size(), alreadySaved, failures.size());
+        failures.forEach(failure -> log.warn("[notification-mongo] Falha ao salvar notificação interna indice={} templateKey={} recipientUserId={} erro={}",
+                failure.index(),
+                failure.notification().templateKey(),
+                failure.notification().recipient() != null ? failure.notification().recipient().userId() : null,
+                failure.error()));
+        return new BatchSaveResult(saved, failures);
+    }
+
     @Override
     public List<Notification> listUnseenForRecipient(Long recipientUserId) {
         return notificationMongoRepository
@@ -53,27 +147,87 @@ public class MongoInternalNotificationAdapter implements InternalNotificationPor
                 .toList();
     }
 
+    @Override
+    public List<Notification> listInboxPage(Long recipientUserId, NotificationStatus status, LocalDateTime beforeCreatedAt, String beforeId, int limit) {
+        Criteria criteria = Criteria.where("recipient.userId").is(recipientUserId);
+        if (status != null) {
+            criteria = criteria.and("status").is(status);
+        } else {
+            criteria = criteria.and("status").ne(NotificationStatus.DELETED);
+        }
+        if (beforeCreatedAt != null && beforeId != null) {
+            criteria = criteria.orOperator(
+                    Criteria.where("createdAt").lt(beforeCreatedAt),
+                    Criteria.where("createdAt").is(beforeCreatedAt).and("_id").lt(new ObjectId(beforeId)));
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("_id")))
+                .limit(limit);
+        return mongoTemplate.find(query, NotificationDocument.class).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public long countUnread(Long recipientUserId) {
+        return unreadCounter.read(recipientUserId);
+    }
+
+    @Override
+    public List<Notification> listAfter(Long recipientUserId, String afterId, int limit) {
+        Query query = Query.query(Criteria.where("recipient.userId").is(recipientUserId)
+                        .and("status").ne(NotificationStatus.DELETED)
+                        .and("_id").gt(new ObjectId(afterId)))
+                .with(Sort.by(Sort.Order.asc("_id")))
+                .limit(limit);
+        return mongoTemplate.find(query, NotificationDocument.class).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Notification> listByIds(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return notificationMongoRepository.findAllById(ids).stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
     @Override
     public Optional<Notification> findById(String id) {
         return notificationMongoRepository.findById(id).map(this::toDomain);
     }
 
     @Override
-    public Optional<NotificationTemplate> findByKey(String key) {
-        return templateMongoRepository.findByKey(key)
-                .map(t -> new NotificationTemplate(
-                        t.getKey(),
-                        t.getWhoCanSend(),
-                        t.getRecipients(),
-                        t.getTitle(),
-                        t.getBody(),
-                        t.getTemplateLink(),
-                        t.getChannels() == null ? java.util.List.of() : t.getChannels().stream()
-                                .map(s -> s == null ? null : s.toUpperCase(Locale.ROOT))
-                                .filter(java.util.Objects::nonNull)
-                                .map(NotificationChannel::valueOf)
-                                .toList()
-                ));
+    public Optional<Notification> updateStatus(String id, NotificationStatus status, LocalDateTime updatedAt) {
+        NotificationDocument previous = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(id)),
+                new Update().set("status", status).set("updatedAt", updatedAt),
+                NotificationDocument.class);
+        if (previous == null) {
+            return Optional.empty();
+        }
+        unreadCounter.applyTransition(recipientUserId(previous), previous.getStatus(), status);
+        previous.setStatus(status);
+        previous.setUpdatedAt(updatedAt);
+        return Optional.of(toDomain(previous));
+    }
+
+    private void assignDeliveryKeys(List<NotificationDocument> documents, String deliveryKey) {
+        Map<String, Integer> occurrences = new HashMap<>();
+        for (NotificationDocument document : documents) {
+            String recipient = document.getRecipient() == null ? ""
+                    : document.getRecipient().getUserId() != null ? String.valueOf(document.getRecipient().getUserId())
+                    : Objects.toString(document.getRecipient().getEmail(), "");
+            String key = deliveryKey + ":" + document.getTemplateKey() + ":" + recipient;
+            document.setDeliveryKey(key + ":" + occurrences.merge(key, 1, Integer::sum));
+        }
+    }
+
+    private Long recipientUserId(NotificationDocument document) {
+        return document.getRecipient() != null ? document.getRecipient().getUserId() : null;
     }
 
     private NotificationDocument toDocument(Notification n) {
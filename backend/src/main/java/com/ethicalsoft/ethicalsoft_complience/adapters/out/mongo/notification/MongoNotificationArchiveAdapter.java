@@ -0,0 +1,116 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.NotificationArchiveDocument;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.NotificationDocument;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationArchivePort;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationStatus;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Component
+@Slf4j
+public class MongoNotificationArchiveAdapter implements NotificationArchivePort {
+
+    private static final String ARCHIVE_TTL_INDEX = "archived_ttl_idx";
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration archiveTtl;
+
+    public MongoNotificationArchiveAdapter(MongoTemplate mongoTemplate,
+                                           MeterRegistry meterRegistry,
+                                           @Value("${app.notification.archive.ttl:P365D}") Duration archiveTtl) {
+        this.mongoTemplate = mongoTemplate;
+        this.archiveTtl = archiveTtl;
+        Gauge.builder("notification.collection.size", mongoTemplate, template -> template.estimatedCount(NotificationDocument.class))
+                .tag("collection", "notifications")
+                .register(meterRegistry);
+        Gauge.builder("notification.collection.size", mongoTemplate, template -> template.estimatedCount(NotificationArchiveDocument.class))
+                .tag("collection", "notifications_archive")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureTtlIndex() {
+        try {
+            mongoTemplate.indexOps(NotificationArchiveDocument.class)
+                    .ensureIndex(new Index().on("archivedAt", Sort.Direction.ASC).named(ARCHIVE_TTL_INDEX).expire(archiveTtl));
+        } catch (Exception ex) {
+            log.error("[notification-archive] Falha ao garantir índice TTL do arquivo de notificações ttl={}", archiveTtl, ex);
+        }
+    }
+
+    @Override
+    public int archiveReadBefore(LocalDateTime readBefore, int limit) {
+        Query candidates = Query.query(Criteria.where("status").is(NotificationStatus.READ).orOperator(
+                        Criteria.where("updatedAt").lt(readBefore),
+                        Criteria.where("updatedAt").is(null).and("createdAt").lt(readBefore)))
+                .with(Sort.by(Sort.Order.asc("updatedAt"), Sort.Order.asc("createdAt")))
+                .limit(limit);
+        List<NotificationDocument> documents = mongoTemplate.find(candidates, NotificationDocument.class);
+        if (documents.isEmpty()) {
+            return 0;
+        }
+
+        LocalDateTime archivedAt = LocalDateTime.now();
+        BulkOperations copies = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationArchiveDocument.class);
+        documents.forEach(document -> copies.replaceOne(byId(document.getId()), toArchive(document, archivedAt),
+                FindAndReplaceOptions.options().upsert()));
+        copies.execute();
+
+        List<String> ids = documents.stream().map(NotificationDocument::getId).toList();
+        long removed = mongoTemplate.remove(Query.query(Criteria.where("_id").in(ids).and("status").is(NotificationStatus.READ)),
+                NotificationDocument.class).getDeletedCount();
+        if (removed < ids.size()) {
+            discardReactivatedCopies(ids);
+        }
+        return (int) removed;
+    }
+
+    private void discardReactivatedCopies(List<String> ids) {
+        Query stillHot = Query.query(Criteria.where("_id").in(ids));
+        stillHot.fields().include("_id");
+        List<String> reactivated = mongoTemplate.find(stillHot, NotificationDocument.class).stream()
+                .map(NotificationDocument::getId)
+                .toList();
+        if (reactivated.isEmpty()) {
+            return;
+        }
+        mongoTemplate.remove(Query.query(Criteria.where("_id").in(reactivated)), NotificationArchiveDocument.class);
+        log.info("[notification-archive] {} notificações alteradas durante o arquivamento permaneceram na coleção ativa", reactivated.size());
+    }
+
+    private Query byId(String id) {
+        return Query.query(Criteria.where("_id").is(id));
+    }
+
+    private NotificationArchiveDocument toArchive(NotificationDocument document, LocalDateTime archivedAt) {
+        return NotificationArchiveDocument.builder()
+                .id(document.getId())
+                .sender(document.getSender())
+                .recipient(document.getRecipient())
+                .title(document.getTitle())
+                .content(document.getContent())
+                .status(document.getStatus())
+                .createdAt(document.getCreatedAt())
+                .updatedAt(document.getUpdatedAt())
+                .templateKey(document.getTemplateKey())
+                .archivedAt(archivedAt)
+                .build();
+    }
+}
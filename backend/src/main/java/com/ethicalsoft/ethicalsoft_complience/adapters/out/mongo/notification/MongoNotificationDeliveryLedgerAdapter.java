@@ -0,0 +1,126 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.NotificationDeliveryLedgerDocument;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationDeliveryLedgerPort;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationDeliveryKey;
+import com.ethicalsoft.ethicalsoft_complience.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+@Component
+@Slf4j
+public class MongoNotificationDeliveryLedgerAdapter implements NotificationDeliveryLedgerPort {
+
+    private static final String CLAIMED_TTL_INDEX = "claimed_ttl_idx";
+    private static final int DUPLICATE_KEY_CODE = 11000;
+
+    private final MongoTemplate mongoTemplate;
+    private final Duration ledgerTtl;
+
+    private final Counter claimedCounter;
+    private final Counter duplicateCounter;
+
+    public MongoNotificationDeliveryLedgerAdapter(MongoTemplate mongoTemplate,
+                                                  MeterRegistry meterRegistry,
+                                                  @Value("${app.notification.delivery-ledger.ttl:P3D}") Duration ledgerTtl) {
+        this.mongoTemplate = mongoTemplate;
+        this.ledgerTtl = ledgerTtl;
+        this.claimedCounter = meterRegistry.counter("notification.delivery.ledger.claimed");
+        this.duplicateCounter = meterRegistry.counter("notification.delivery.ledger.duplicates");
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void ensureTtlIndex() {
+        try {
+            mongoTemplate.indexOps(NotificationDeliveryLedgerDocument.class)
+                    .ensureIndex(new Index().on("claimedAt", Sort.Direction.ASC).named(CLAIMED_TTL_INDEX).expire(ledgerTtl));
+        } catch (Exception ex) {
+            log.error("[notification-ledger] Falha ao garantir índice TTL do registro de entregas ttl={}", ledgerTtl, ex);
+        }
+    }
+
+    @Override
+    public Set<NotificationDeliveryKey> claimAll(Collection<NotificationDeliveryKey> keys) {
+        Map<String, NotificationDeliveryKey> unique = new LinkedHashMap<>();
+        keys.forEach(key -> unique.putIfAbsent(key.value(), key));
+        if (unique.isEmpty()) {
+            return Set.of();
+        }
+        List<NotificationDeliveryKey> ordered = new ArrayList<>(unique.values());
+        LocalDateTime claimedAt = LocalDateTime.now();
+        List<NotificationDeliveryLedgerDocument> documents = ordered.stream().map(key -> toDocument(key, claimedAt)).toList();
+
+        Set<Integer> rejected = new HashSet<>();
+        try {
+            mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationDeliveryLedgerDocument.class)
+                    .insert(documents)
+                    .execute();
+        } catch (BulkOperationException ex) {
+            boolean unexpected = false;
+            for (var error : ex.getErrors()) {
+                rejected.add(error.getIndex());
+                unexpected |= error.getCode() != DUPLICATE_KEY_CODE;
+            }
+            if (unexpected) {
+                releaseClaimed(ordered, rejected);
+                throw new BusinessException("Falha ao registrar entregas de notificação: " + ex.getMessage());
+            }
+        }
+
+        Set<NotificationDeliveryKey> claimed = new LinkedHashSet<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            if (!rejected.contains(i)) {
+                claimed.add(ordered.get(i));
+            }
+        }
+        claimedCounter.increment(claimed.size());
+        duplicateCounter.increment(rejected.size());
+        return claimed;
+    }
+
+    @Override
+    public void release(Collection<NotificationDeliveryKey> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        List<String> ids = keys.stream().map(NotificationDeliveryKey::value).toList();
+        mongoTemplate.remove(Query.query(Criteria.where("_id").in(ids)), NotificationDeliveryLedgerDocument.class);
+    }
+
+    private void releaseClaimed(List<NotificationDeliveryKey> ordered, Set<Integer> rejected) {
+        List<NotificationDeliveryKey> inserted = new ArrayList<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            if (!rejected.contains(i)) {
+                inserted.add(ordered.get(i));
+            }
+        }
+        release(inserted);
+    }
+
+    private NotificationDeliveryLedgerDocument toDocument(NotificationDeliveryKey key, LocalDateTime claimedAt) {
+        return NotificationDeliveryLedgerDocument.builder()
+                .key(key.value())
+                .type(key.type().name())
+                .recipient(key.recipient())
+                .scope(key.scope())
+                .day(key.day())
+                .claimedAt(claimedAt)
+                .build();
+    }
+}
@@ -0,0 +1,135 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.NotificationTemplateDocument;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.repository.NotificationTemplateRepository;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationTemplatePort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationTemplateRegistryPort;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationChannel;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@Slf4j
+public class NotificationTemplateRegistryAdapter implements NotificationTemplatePort, NotificationTemplateRegistryPort {
+
+    private final NotificationTemplateRepository templateRepository;
+    private final Map<String, CachedTemplate> templatesByKey = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter reloadCounter;
+
+    public NotificationTemplateRegistryAdapter(NotificationTemplateRepository templateRepository, MeterRegistry meterRegistry) {
+        this.templateRepository = templateRepository;
+        this.hitCounter = meterRegistry.counter("notification.template.registry.hits");
+        this.missCounter = meterRegistry.counter("notification.template.registry.misses");
+        this.reloadCounter = meterRegistry.counter("notification.template.registry.reloads");
+        meterRegistry.gaugeMapSize("notification.template.registry.size", List.of(), templatesByKey);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            int loaded = reloadAll();
+            log.info("[notification-template] {} templates carregados em memória", loaded);
+        } catch (Exception ex) {
+            log.error("[notification-template] Falha ao carregar templates em memória; consultas seguirão para o banco", ex);
+        }
+    }
+
+    @Override
+    public Optional<NotificationTemplate> findByKey(String key) {
+        CachedTemplate cached = templatesByKey.get(key);
+        if (cached != null) {
+            hitCounter.increment();
+            return Optional.of(cached.template());
+        }
+        missCounter.increment();
+        return templateRepository.findByKey(key).map(this::store);
+    }
+
+    @Override
+    public int reloadAll() {
+        List<NotificationTemplateDocument> documents = templateRepository.findAll();
+        Set<String> keys = new HashSet<>();
+        documents.forEach(document -> {
+            store(document);
+            keys.add(document.getKey());
+        });
+        templatesByKey.keySet().retainAll(keys);
+        reloadCounter.increment(documents.size());
+        return documents.size();
+    }
+
+    @Override
+    public int refreshChanged() {
+        List<NotificationTemplateDocument> versions = templateRepository.findAllVersions();
+        Set<String> keys = new HashSet<>();
+        int refreshed = 0;
+        for (NotificationTemplateDocument version : versions) {
+            keys.add(version.getKey());
+            CachedTemplate cached = templatesByKey.get(version.getKey());
+            if (cached != null && cached.isSameVersion(version)) {
+                continue;
+            }
+            Optional<NotificationTemplateDocument> document = templateRepository.findByKey(version.getKey());
+            if (document.isPresent()) {
+                store(document.get());
+                refreshed++;
+            }
+        }
+        int removed = templatesByKey.size();
+        templatesByKey.keySet().retainAll(keys);
+        removed -= templatesByKey.size();
+        if (refreshed > 0 || removed > 0) {
+            reloadCounter.increment(refreshed);
+            log.info("[notification-template] Registro de templates atualizado alterados={} removidos={}", refreshed, removed);
+        }
+        return refreshed + removed;
+    }
+
+    private NotificationTemplate store(NotificationTemplateDocument document) {
+        NotificationTemplate template = toDomain(document);
+        templatesByKey.put(document.getKey(), new CachedTemplate(template, document.getVersion(), document.getUpdatedAt()));
+        return template;
+    }
+
+    private NotificationTemplate toDomain(NotificationTemplateDocument t) {
+        return new NotificationTemplate(
+                t.getKey(),
+                t.getWhoCanSend(),
+                t.getRecipients(),
+                t.getTitle(),
+                t.getBody(),
+                t.getTemplateLink(),
+                t.getChannels() == null ? List.of() : t.getChannels().stream()
+                        .map(s -> s == null ? null : s.toUpperCase(Locale.ROOT))
+                        .filter(Objects::nonNull)
+                        .map(NotificationChannel::valueOf)
+                        .toList(),
+                t.getVersion()
+        );
+    }
+
+    private record CachedTemplate(NotificationTemplate template, Long version, LocalDateTime updatedAt) {
+
+        boolean isSameVersion(NotificationTemplateDocument document) {
+            return Objects.equals(version, document.getVersion()) && Objects.equals(updatedAt, document.getUpdatedAt());
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.NotificationDocument;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.NotificationUnreadCounterDocument;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.MergeOperation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationUnreadCounter {
+
+    static final String BACKFILL_COLLECTION = "mongo_backfills";
+    static final String BACKFILL_ID = "notification_unread_counters_v1";
+
+    private final MongoTemplate mongoTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        try {
+            if (mongoTemplate.exists(Query.query(Criteria.where("_id").is(BACKFILL_ID)), BACKFILL_COLLECTION)) {
+                return;
+            }
+            LocalDateTime now = LocalDateTime.now();
+            mongoTemplate.updateMulti(new Query(), new Update().set("unread", 0L).set("updatedAt", now), NotificationUnreadCounterDocument.class);
+            mongoTemplate.aggregate(Aggregation.newAggregation(
+                    Aggregation.match(Criteria.where("status").is(NotificationStatus.UNREAD).and("recipient.userId").ne(null)),
+                    Aggregation.group("recipient.userId").count().as("unread"),
+                    Aggregation.addFields().addFieldWithValue("updatedAt", now).build(),
+                    Aggregation.merge()
+                            .intoCollection(mongoTemplate.getCollectionName(NotificationUnreadCounterDocument.class))
+                            .on("_id")
+                            .whenMatched(MergeOperation.WhenDocumentsMatch.replaceDocument())
+                            .whenDocumentsDontMatch(MergeOperation.WhenDocumentsDontMatch.insertNewDocument())
+                            .build()
+            ), NotificationDocument.class, Document.class);
+            mongoTemplate.insert(new Document("_id", BACKFILL_ID).append("appliedAt", now), BACKFILL_COLLECTION);
+            log.info("[notification-mongo] Contadores de não lidas recalculados a partir das notificações");
+        } catch (Exception ex) {
+            log.error("[notification-mongo] Falha ao recalcular contadores de não lidas", ex);
+        }
+    }
+
+    public long read(Long userId) {
+        if (userId == null) {
+            return 0;
+        }
+        NotificationUnreadCounterDocument counter = mongoTemplate.findById(userId, NotificationUnreadCounterDocument.class);
+        return counter != null ? Math.max(0, counter.getUnread()) : 0;
+    }
+
+    public void increment(Long userId, long delta) {
+        if (userId == null || delta == 0) {
+            return;
+        }
+        mongoTemplate.upsert(byUser(userId), incrementBy(delta), NotificationUnreadCounterDocument.class);
+    }
+
+    public void incrementAll(Map<Long, Long> deltasByUser) {
+        if (deltasByUser.isEmpty()) {
+            return;
+        }
+        BulkOperations operations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationUnreadCounterDocument.class);
+        deltasByUser.forEach((userId, delta) -> operations.upsert(byUser(userId), incrementBy(delta)));
+        operations.execute();
+    }
+
+    public void applyTransition(Long userId, NotificationStatus previous, NotificationStatus current) {
+        boolean wasUnread = previous == NotificationStatus.UNREAD;
+        boolean isUnread = current == NotificationStatus.UNREAD;
+        if (wasUnread != isUnread) {
+            increment(userId, isUnread ? 1 : -1);
+        }
+    }
+
+    private Query byUser(Long userId) {
+        return Query.query(Criteria.where("_id").is(userId));
+    }
+
+    private Update incrementBy(long delta) {
+        return new Update().inc("unread", delta).set("updatedAt", LocalDateTime.now());
+    }
+}
@@ -1,5 +1,6 @@
 package com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.query;
 
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.QuestionnaireAnswerPage;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.QuestionnaireResponse;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Questionnaire;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.request.QuestionnaireAnswerPageRequestDTO;
@@ -7,6 +8,7 @@ import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.re
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.QuestionnaireAnswerResponseDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.QuestionnaireResponseSummaryDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.QuestionnaireResponseStatus;
+import com.ethicalsoft.ethicalsoft_complience.application.port.project.ProjectSummaryPort;
 import com.ethicalsoft.ethicalsoft_complience.application.port.questionnaire.QuestionnaireResponsePort;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.SendNotificationUseCase;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.command.SendNotificationCommand;
@@ -15,22 +17,19 @@ import com.ethicalsoft.ethicalsoft_complience.domain.repository.QuestionnaireRep
 import com.ethicalsoft.ethicalsoft_complience.domain.repository.QuestionnaireResponseRepositoryPort;
 import com.ethicalsoft.ethicalsoft_complience.domain.service.*;
 import com.ethicalsoft.ethicalsoft_complience.exception.BusinessException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
-import org.springframework.util.CollectionUtils;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class QuestionnaireResponseAdapter implements QuestionnaireResponsePort {
 
@@ -42,6 +41,30 @@ public class QuestionnaireResponseAdapter implements QuestionnaireResponsePort {
     private final LinkMapper linkMapper;
     private final RepresentativeAccessPolicy representativeAccessPolicy;
     private final SendNotificationUseCase sendNotificationUseCase;
+    private final ProjectSummaryPort projectSummaryPort;
+    private final int maxSubmitAttempts;
+
+    public QuestionnaireResponseAdapter(QuestionnaireRepositoryPort questionnaireRepository,
+                                        QuestionnaireResponseRepositoryPort questionnaireResponseRepository,
+                                        QuestionnaireAnswerPolicy answerPolicy,
+                                        QuestionnaireStatusCalculator statusCalculator,
+                                        PageSliceResolver pageSliceResolver,
+                                        LinkMapper linkMapper,
+                                        RepresentativeAccessPolicy representativeAccessPolicy,
+                                        SendNotificationUseCase sendNotificationUseCase,
+                                        ProjectSummaryPort projectSummaryPort,
+                                        @Value("${app.questionnaire.submit.max-attempts:5}") int maxSubmitAttempts) {
+        this.questionnaireRepository = questionnaireRepository;
+        this.questionnaireResponseRepository = questionnaireResponseRepository;
+        this.answerPolicy = answerPolicy;
+        this.statusCalculator = statusCalculator;
+        this.pageSliceResolver = pageSliceResolver;
+        this.linkMapper = linkMapper;
+        this.representativeAccessPolicy = representativeAccessPolicy;
+        this.sendNotificationUseCase = sendNotificationUseCase;
+        this.projectSummaryPort = projectSummaryPort;
+        this.maxSubmitAttempts = Math.max(1, maxSubmitAttempts);
+    }
 
     @Override
     public QuestionnaireAnswerPageResponseDTO getAnswerPage(Long projectId,
@@ -51,9 +74,9 @@ public class QuestionnaireResponseAdapter implements QuestionnaireResponsePort {
             log.info("[questionnaire-response] Buscando respostas paginadas projeto={} questionario={} pagina={}", projectId, questionnaireId, pageable.getPageNumber());
             Long effectiveRepresentativeId = representativeAccessPolicy.resolveRepresentativeId(projectId);
 
-            QuestionnaireResponse response = loadResponse(projectId, questionnaireId, effectiveRepresentativeId);
-            List<QuestionnaireResponse.AnswerDocument> answers = Optional.ofNullable(response.getAnswers()).orElseGet(List::of);
-            if (CollectionUtils.isEmpty(answers)) {
+            int fromIndex = pageSliceResolver.startIndex(pageable.getPageNumber(), pageable.getPageSize());
+            QuestionnaireAnswerPage page = loadAnswerPage(projectId, questionnaireId, effectiveRepresentativeId, fromIndex, pageable.getPageSize());
+            if (page.getAnswerCount() == 0) {
                 return QuestionnaireAnswerPageResponseDTO.builder()
                         .pageNumber(pageable.getPageNumber())
                         .pageSize(pageable.getPageSize())
@@ -63,20 +86,8 @@ public class QuestionnaireResponseAdapter implements QuestionnaireResponsePort {
                         .build();
             }
 
-            int total = answers.size();
-            PageSliceResolver.PageSlice slice = pageSliceResolver.resolve(pageable.getPageNumber(), pageable.getPageSize(), total);
-            List<QuestionnaireAnswerResponseDTO> pageAnswers = answers.subList(slice.fromIndex(), slice.toIndex()).stream()
-                    .map(this::toAnswerResponse)
-                    .toList();
-
-            boolean completed = QuestionnaireResponseStatus.COMPLETED.equals(response.getStatus());
-            return QuestionnaireAnswerPageResponseDTO.builder()
-                    .pageNumber(pageable.getPageNumber())
-                    .pageSize(pageable.getPageSize())
-                    .totalPages(slice.totalPages())
-                    .completed(completed)
-                    .answers(pageAnswers)
-                    .build();
+            PageSliceResolver.PageSlice slice = pageSliceResolver.resolve(pageable.getPageNumber(), pageable.getPageSize(), page.getAnswerCount());
+            return toPageResponse(pageable.getPageNumber(), pageable.getPageSize(), slice, page.getStatus(), page);
         } catch (Exception ex) {
             log.error("[questionnaire-response] Falha ao buscar respostas paginadas projeto={} questionario={} pagina={}", projectId, questionnaireId, pageable.getPageNumber(), ex);
             throw ex;
@@ -91,24 +102,25 @@ public class QuestionnaireResponseAdapter implements QuestionnaireResponsePort {
             log.info("[questionnaire-response] Recebendo respostas projeto={} questionario={} pagina={}", projectId, questionnaireId, request.getPageNumber());
             Questionnaire questionnaire = loadQuestionnaire(projectId, questionnaireId);
             Long effectiveRepresentativeId = representativeAccessPolicy.resolveRepresentativeId(projectId);
-            QuestionnaireResponse response = loadResponse(projectId, questionnaireId, effectiveRepresentativeId);
-            pageSliceResolver.resolve(request.getPageNumber(), request.getPageSize(), response.getAnswers().size());
-            Map<Long, QuestionnaireResponse.AnswerDocument> answerMap = response.getAnswers().stream()
-                    .collect(Collectors.toMap(QuestionnaireResponse.AnswerDocument::getQuestionId, ans -> ans));
-
-            request.getAnswers().forEach(dto -> answerPolicy.applyAnswer(dto, answerMap));
+            int fromIndex = pageSliceResolver.startIndex(request.getPageNumber(), request.getPageSize());
+            List<QuestionnaireResponse.AnswerDocument> answers = request.getAnswers().stream()
+                    .map(answerPolicy::toAnswer)
+                    .toList();
 
-            QuestionnaireResponseStatus status = statusCalculator.calculateStatus(response.getAnswers());
-            response.setStatus(status);
-            response.setSubmissionDate(status == QuestionnaireResponseStatus.COMPLETED ? LocalDateTime.now() : null);
-            questionnaireResponseRepository.save(response);
+            AppliedPage applied = applyWithRetry(projectId, questionnaireId, effectiveRepresentativeId, answers, fromIndex, request);
+            QuestionnaireAnswerPage page = applied.page();
+            QuestionnaireResponseStatus status = applied.status();
+            if (effectiveRepresentativeId != null) {
+                projectSummaryPort.recordResponseStatusChange(projectId, page.getStatus(), status);
+            }
 
             if (QuestionnaireResponseStatus.COMPLETED.equals(status)) {
-                triggerQuestionnaireSubmittedNotification(questionnaire, response, effectiveRepresentativeId);
+                triggerQuestionnaireSubmittedNotification(questionnaire, applied.submissionDate(), effectiveRepresentativeId);
             }
 
             log.info("[questionnaire-response] Respostas registradas projeto={} questionario={} representante={} status={}", projectId, questionnaireId, effectiveRepresentativeId, status);
-            return getAnswerPage(projectId, questionnaireId, PageRequest.of(request.getPageNumber(), request.getPageSize()));
+            PageSliceResolver.PageSlice slice = pageSliceResolver.resolve(request.getPageNumber(), request.getPageSize(), page.getAnswerCount());
+            return toPageResponse(request.getPageNumber(), request.getPageSize(), slice, status, page);
         } catch (Exception ex) {
             log.error("[questionnaire-response] Falha ao registrar respostas projeto={} questionario={}", projectId, questionnaireId, ex);
             throw ex;
@@ -132,6 +144,22 @@ public class QuestionnaireResponseAdapter implements QuestionnaireResponsePort {
         }
     }
 
+    private QuestionnaireAnswerPageResponseDTO toPageResponse(int pageNumber,
+                                                              int pageSize,
+                                                              PageSliceResolver.PageSlice slice,
+                                                              QuestionnaireResponseStatus status,
+                                                              QuestionnaireAnswerPage page) {
+        return QuestionnaireAnswerPageResponseDTO.builder()
+                .pageNumber(pageNumber)
+                .pageSize(pageSize)
+                .totalPages(slice.totalPages())
+                .completed(QuestionnaireResponseStatus.COMPLETED.equals(status))
+                .answers(Optional.ofNullable(page.getAnswers()).orElseGet(List::of).stream()
+                        .map(this::toAnswerResponse)
+                        .toList())
+                .build();
+    }
+
     private QuestionnaireAnswerResponseDTO toAnswerResponse(QuestionnaireResponse.AnswerDocument answer) {
         return QuestionnaireAnswerResponseDTO.builder()
                 .questionId(answer.getQuestionId())
@@ -153,28 +181,71 @@ public class QuestionnaireResponseAdapter implements QuestionnaireResponsePort {
         return questionnaire;
     }
 
-    private QuestionnaireResponse loadResponse(Long projectId,
-                                                Integer questionnaireId,
-                                                Long representativeId) {
-        if (representativeId == null) {
-            return questionnaireResponseRepository
-                    .findByProjectIdAndQuestionnaireIdAndRepresentativeId(projectId, questionnaireId, null)
-                    .orElseThrow(() -> new BusinessException("Registro de respostas não encontrado"));
-        }
-
+    private QuestionnaireAnswerPage loadAnswerPage(Long projectId,
+                                                   Integer questionnaireId,
+                                                   Long representativeId,
+                                                   int fromIndex,
+                                                   int pageSize) {
         return questionnaireResponseRepository
-                .findByProjectIdAndQuestionnaireIdAndRepresentativeId(projectId, questionnaireId, representativeId)
+                .findAnswerPage(projectId, questionnaireId, representativeId, fromIndex, pageSize)
                 .orElseThrow(() -> new BusinessException("Registro de respostas não encontrado"));
     }
 
+    private AppliedPage applyWithRetry(Long projectId,
+                                       Integer questionnaireId,
+                                       Long representativeId,
+                                       List<QuestionnaireResponse.AnswerDocument> answers,
+                                       int fromIndex,
+                                       QuestionnaireAnswerPageRequestDTO request) {
+        for (int attempt = 1; ; attempt++) {
+            QuestionnaireAnswerPage page = questionnaireResponseRepository
+                    .applyAnswers(projectId, questionnaireId, representativeId, answers, fromIndex, request.getPageSize())
+                    .orElseThrow(() -> rejectedSubmission(projectId, questionnaireId, representativeId, request));
+
+            QuestionnaireResponseStatus status = statusCalculator.calculateStatus(page.getAnsweredCount(), page.getAnswerCount());
+            LocalDateTime submissionDate = status == QuestionnaireResponseStatus.COMPLETED ? LocalDateTime.now() : null;
+            boolean unchanged = status == page.getStatus() && submissionDate == null;
+            if (unchanged || questionnaireResponseRepository.updateStatus(page.getId(), page.getVersion(), status, submissionDate)) {
+                return new AppliedPage(page, status, submissionDate);
+            }
+            if (attempt >= maxSubmitAttempts) {
+                log.warn("[questionnaire-response] Conflito de versão persistente projeto={} questionario={} representante={} tentativas={}", projectId, questionnaireId, representativeId, attempt);
+                throw new BusinessException("As respostas foram alteradas simultaneamente, tente novamente");
+            }
+            log.info("[questionnaire-response] Conflito de versão projeto={} questionario={} representante={} tentativa={}", projectId, questionnaireId, representativeId, attempt);
+            pauseBeforeRetry(attempt);
+        }
+    }
+
+    private void pauseBeforeRetry(int attempt) {
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(1, 5L * attempt + 2));
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException("Envio de respostas interrompido");
+        }
+    }
+
+    private BusinessException rejectedSubmission(Long projectId,
+                                                 Integer questionnaireId,
+                                                 Long representativeId,
+                                                 QuestionnaireAnswerPageRequestDTO request) {
+        int total = loadAnswerPage(projectId, questionnaireId, representativeId, 0, 1).getAnswerCount();
+        pageSliceResolver.resolve(request.getPageNumber(), request.getPageSize(), total);
+        return new BusinessException("Questão inválida para este questionário");
+    }
+
+    private record AppliedPage(QuestionnaireAnswerPage page, QuestionnaireResponseStatus status, LocalDateTime submissionDate) {}
+
     private void triggerQuestionnaireSubmittedNotification(Questionnaire questionnaire,
-                                                           QuestionnaireResponse response,
+                                                           LocalDateTime submittedAt,
                                                            Long representativeId) {
         Map<String, Object> context = new java.util.HashMap<>();
         context.put("projectId", questionnaire.getProject() != null ? questionnaire.getProject().getId() : null);
         context.put("questionnaireId", questionnaire.getId());
         context.put("representativeId", representativeId);
-        context.put("submittedAt", response.getSubmissionDate());
-        sendNotificationUseCase.execute(new SendNotificationCommand(NotificationType.QUESTIONNAIRE_SUBMITTED, context));
+        context.put("submittedAt", submittedAt);
+        sendNotificationUseCase.execute(new SendNotificationCommand(NotificationType.QUESTIONNAIRE_SUBMITTED, context,
+                "QUESTIONNAIRE_SUBMITTED:" + questionnaire.getId() + ":" + representativeId + ":" + submittedAt));
     }
 }
@@ -2,11 +2,16 @@ package com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.repository;
 
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.NotificationTemplateDocument;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface NotificationTemplateRepository extends MongoRepository<NotificationTemplateDocument, String> {
 
     Optional<NotificationTemplateDocument> findByKey(String key);
+
+    @Query(value = "{}", fields = "{ 'key': 1, 'version': 1, 'updatedAt': 1 }")
+    List<NotificationTemplateDocument> findAllVersions();
 }
 
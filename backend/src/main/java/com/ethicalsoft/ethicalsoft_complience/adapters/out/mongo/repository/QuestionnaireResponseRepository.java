@@ -1,9 +1,14 @@
 package com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.repository;
 
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.QuestionnaireResponse;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.dto.ProjectResponseCountDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.dto.QuestionnaireProgressDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.QuestionnaireResponseStatus;
+import org.springframework.data.mongodb.repository.Aggregation;
 import org.springframework.data.mongodb.repository.MongoRepository;
 import org.springframework.data.mongodb.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +27,19 @@ public interface QuestionnaireResponseRepository extends MongoRepository<Questio
 
     @Query(value = "{ 'projectId': ?0, 'questionnaireId': ?1 }", fields = "{ 'representativeId': 1, 'status': 1, 'submissionDate': 1 }")
     List<QuestionnaireResponse> findSummariesByProjectAndQuestionnaire(Long projectId, Integer questionnaireId);
+
+    long countByProjectIdAndStatusAndRepresentativeIdIsNotNull(Long projectId, QuestionnaireResponseStatus status);
+
+    @Aggregation(pipeline = {
+            "{ $match: { 'projectId': ?0, 'questionnaireId': { $in: ?1 }, 'representativeId': { $ne: null } } }",
+            "{ $project: { '_id': 0, 'questionnaireId': 1, 'representativeId': 1, 'status': 1, 'submissionDate': 1 } }",
+            "{ $group: { '_id': '$questionnaireId', 'respondents': { $push: { 'representativeId': '$representativeId', 'status': '$status', 'submissionDate': '$submissionDate' } } } }"
+    })
+    List<QuestionnaireProgressDTO> aggregateProgressByQuestionnaireIds(Long projectId, Collection<Integer> questionnaireIds);
+
+    @Aggregation(pipeline = {
+            "{ $match: { 'projectId': { $in: ?0 }, 'status': 'COMPLETED', 'representativeId': { $ne: null } } }",
+            "{ $group: { '_id': '$projectId', 'count': { $sum: 1 } } }"
+    })
+    List<ProjectResponseCountDTO> countCompletedByProjectIds(Collection<Long> projectIds);
 }
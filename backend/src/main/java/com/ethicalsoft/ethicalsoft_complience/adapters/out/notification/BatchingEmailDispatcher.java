@@ -0,0 +1,197 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationDeliveryBatchPort;
+import com.ethicalsoft.ethicalsoft_complience.common.util.TokenBucketRateLimiter;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationDeliveryKey;
+import com.ethicalsoft.ethicalsoft_complience.exception.EmailSendingException;
+import com.ethicalsoft.ethicalsoft_complience.exception.PartialEmailSendingException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.Address;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@Slf4j
+public class BatchingEmailDispatcher implements NotificationDeliveryBatchPort {
+
+    private final ThreadLocal<List<MimeMessage>> pending = new ThreadLocal<>();
+
+    private final JavaMailSender mailSender;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final ExecutorService executor;
+    private final int batchSize;
+    private final int maxAttempts;
+
+    private final Timer batchTimer;
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+
+    public BatchingEmailDispatcher(JavaMailSender mailSender,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.email.batch-size:50}") int batchSize,
+                                   @Value("${app.email.send-concurrency:2}") int concurrency,
+                                   @Value("${app.email.rate-limit.per-second:0}") double permitsPerSecond,
+                                   @Value("${app.email.rate-limit.burst:50}") int burst,
+                                   @Value("${app.email.max-attempts:3}") int maxAttempts) {
+        this.mailSender = mailSender;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.rateLimiter = new TokenBucketRateLimiter(permitsPerSecond, burst);
+        this.executor = Executors.newFixedThreadPool(Math.max(1, concurrency));
+        this.batchTimer = meterRegistry.timer("notification.email.batch");
+        this.sentCounter = meterRegistry.counter("notification.email.sent");
+        this.failedCounter = meterRegistry.counter("notification.email.failed");
+    }
+
+    @Override
+    public void runBatched(Runnable delivery) {
+        if (pending.get() != null) {
+            delivery.run();
+            return;
+        }
+        List<MimeMessage> messages = new ArrayList<>();
+        pending.set(messages);
+        try {
+            delivery.run();
+        } catch (RuntimeException ex) {
+            if (!messages.isEmpty()) {
+                log.warn("[notification-email] Entrega interrompida, {} e-mails pendentes descartados", messages.size());
+            }
+            throw ex;
+        } finally {
+            pending.remove();
+        }
+        flush(messages);
+    }
+
+    public void dispatch(MimeMessage message) {
+        List<MimeMessage> messages = pending.get();
+        if (messages != null) {
+            messages.add(message);
+        } else {
+            flush(List.of(message));
+        }
+    }
+
+    private void flush(List<MimeMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        List<MimeMessage> remaining = messages;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            if (attempt > 1) {
+                log.warn("[notification-email] Reenviando {} e-mails de lotes com falha tentativa={}", remaining.size(), attempt);
+            }
+            remaining = sendChunks(remaining);
+            if (remaining.isEmpty()) {
+                return;
+            }
+        }
+        failedCounter.increment(remaining.size());
+        String failure = "Falha ao enviar " + remaining.size() + " de " + messages.size() + " e-mails";
+        Set<String> failedRecipients = recipientsOf(remaining);
+        if (failedRecipients == null) {
+            throw new EmailSendingException(failure, null);
+        }
+        throw new PartialEmailSendingException(failure, failedRecipients);
+    }
+
+    private Set<String> recipientsOf(List<MimeMessage> messages) {
+        Set<String> recipients = new HashSet<>();
+        for (MimeMessage message : messages) {
+            try {
+                Address[] addresses = message.getAllRecipients();
+                if (addresses == null) {
+                    return null;
+                }
+                for (Address address : addresses) {
+                    if (!(address instanceof InternetAddress internetAddress)) {
+                        return null;
+                    }
+                    recipients.add(NotificationDeliveryKey.normalizeRecipient(internetAddress.getAddress()));
+                }
+            } catch (MessagingException ex) {
+                log.warn("[notification-email] Não foi possível identificar destinatários de e-mail com falha", ex);
+                return null;
+            }
+        }
+        return recipients;
+    }
+
+    private List<MimeMessage> sendChunks(List<MimeMessage> messages) {
+        List<Future<List<MimeMessage>>> futures = new ArrayList<>();
+        for (int from = 0; from < messages.size(); from += batchSize) {
+            List<MimeMessage> chunk = messages.subList(from, Math.min(from + batchSize, messages.size()));
+            futures.add(executor.submit(() -> sendChunk(chunk)));
+        }
+        List<MimeMessage> failed = new ArrayList<>();
+        for (Future<List<MimeMessage>> future : futures) {
+            failed.addAll(await(future));
+        }
+        return failed;
+    }
+
+    private List<MimeMessage> sendChunk(List<MimeMessage> chunk) throws InterruptedException {
+        rateLimiter.acquire(chunk.size());
+        long startedAt = System.nanoTime();
+        try {
+            mailSender.send(chunk.toArray(MimeMessage[]::new));
+            sentCounter.increment(chunk.size());
+            return List.of();
+        } catch (MailSendException ex) {
+            List<MimeMessage> failed = chunk.stream()
+                    .filter(message -> ex.getFailedMessages().containsKey(message))
+                    .toList();
+            if (failed.isEmpty()) {
+                failed = chunk;
+            }
+            log.error("[notification-email] {} de {} e-mails do lote falharam", failed.size(), chunk.size(), ex);
+            sentCounter.increment(chunk.size() - failed.size());
+            return failed;
+        } catch (MailException ex) {
+            log.error("[notification-email] Falha ao enviar lote de {} e-mails", chunk.size(), ex);
+            return chunk;
+        } finally {
+            batchTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private List<MimeMessage> await(Future<List<MimeMessage>> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new EmailSendingException("Envio de e-mails interrompido", ex);
+        } catch (ExecutionException ex) {
+            throw new EmailSendingException("Falha ao enviar lote de e-mails", ex.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,19 +1,38 @@
 package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification;
 
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationDigestPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationDigestPort.DigestEntry;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.CompiledNotificationTemplate;
 import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationChannel;
 import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationTemplate;
-import lombok.RequiredArgsConstructor;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.EnumMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Consumer;
 
 @Component
-@RequiredArgsConstructor
 public class ChannelSender {
 
     private final NotificationChannelSender channelSender;
+    private final NotificationTemplateCompiler templateCompiler;
+    private final NotificationDigestPort notificationDigestPort;
+    private final boolean digestEnabled;
+
+    public ChannelSender(NotificationChannelSender channelSender,
+                         NotificationTemplateCompiler templateCompiler,
+                         NotificationDigestPort notificationDigestPort,
+                         @Value("${app.notification.digest.enabled:false}") boolean digestEnabled) {
+        this.channelSender = channelSender;
+        this.templateCompiler = templateCompiler;
+        this.notificationDigestPort = notificationDigestPort;
+        this.digestEnabled = digestEnabled;
+    }
 
     public void send(NotificationTemplate template,
                      Map<String, String> placeholders,
@@ -26,7 +45,13 @@ public class ChannelSender {
         requestCustomizer.accept(builder);
         NotificationDispatchRequest request = builder.build();
 
-        Map<NotificationChannel, Runnable> channelActions = buildChannelActions(template, placeholders, request);
+        CompiledNotificationTemplate compiled = templateCompiler.compile(template);
+        if (shouldCoalesce(template, request)) {
+            bufferForDigest(compiled, placeholders, request);
+            return;
+        }
+
+        Map<NotificationChannel, Runnable> channelActions = buildChannelActions(compiled, placeholders, request);
         template.channels().forEach(channel -> {
             Runnable action = channelActions.get(channel);
             if (action != null) {
@@ -35,28 +60,40 @@ public class ChannelSender {
         });
     }
 
-    private Map<NotificationChannel, Runnable> buildChannelActions(NotificationTemplate template,
+    private boolean shouldCoalesce(NotificationTemplate template, NotificationDispatchRequest request) {
+        return digestEnabled
+                && request.getRecipientEmail() != null
+                && NotificationType.fromTemplateKey(template.key()).map(NotificationType::coalescible).orElse(false);
+    }
+
+    private void bufferForDigest(CompiledNotificationTemplate template,
+                                 Map<String, String> placeholders,
+                                 NotificationDispatchRequest request) {
+        notificationDigestPort.buffer(new DigestEntry(
+                null,
+                NotificationType.fromTemplateKey(template.key()).orElseThrow(),
+                request.getRecipientUserId(),
+                request.getRecipientEmail(),
+                request.getRecipientName(),
+                Optional.ofNullable(request.getRecipientRoles()).orElse(List.of()),
+                template.renderTitle(placeholders),
+                template.renderBody(placeholders),
+                LocalDateTime.now()));
+    }
+
+    private Map<NotificationChannel, Runnable> buildChannelActions(CompiledNotificationTemplate template,
                                                                    Map<String, String> placeholders,
                                                                    NotificationDispatchRequest request) {
         Map<NotificationChannel, Runnable> actions = new EnumMap<>(NotificationChannel.class);
-        for (NotificationChannel channel : template.channels()) {
+        for (NotificationChannel channel : template.template().channels()) {
             if (!channelSender.supports(channel)) {
                 continue;
             }
             switch (channel) {
                 case INTERNAL -> actions.put(NotificationChannel.INTERNAL, () ->
-                        channelSender.sendInternal(
-                                template.key(),
-                                template.title(),
-                                template.body(),
-                                placeholders,
-                                request));
+                        channelSender.sendInternal(template, placeholders, request));
                 case EMAIL -> actions.put(NotificationChannel.EMAIL, () ->
-                        channelSender.sendEmail(
-                                template.title(),
-                                template.templateLink(),
-                                placeholders,
-                                request));
+                        channelSender.sendEmail(template, placeholders, request));
                 default -> {
                 }
             }
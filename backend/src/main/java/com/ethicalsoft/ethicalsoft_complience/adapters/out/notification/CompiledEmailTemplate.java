@@ -0,0 +1,102 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification;
+
+import freemarker.template.ObjectWrapper;
+import freemarker.template.Template;
+import freemarker.template.TemplateException;
+import freemarker.template.TemplateHashModel;
+import freemarker.template.TemplateModel;
+import freemarker.template.TemplateModelException;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+final class CompiledEmailTemplate {
+
+    private final Template template;
+    private final ObjectWrapper objectWrapper;
+    private final int memoSize;
+    private final Deque<RenderedEmail> recentRenders = new ArrayDeque<>();
+    private int lastLength = 1024;
+
+    CompiledEmailTemplate(Template template, int memoSize) {
+        this.template = template;
+        this.objectWrapper = template.getObjectWrapper();
+        this.memoSize = Math.max(0, memoSize);
+    }
+
+    String render(Map<String, Object> model) throws IOException, TemplateException {
+        Map<String, Object> values = model == null ? Map.of() : model;
+        RenderedEmail cached = findRendered(values);
+        if (cached != null) {
+            return cached.html();
+        }
+
+        RecordingModel recording = new RecordingModel(values, objectWrapper);
+        StringWriter writer = new StringWriter(lastLength);
+        template.process(recording, writer);
+        String html = writer.toString();
+        lastLength = html.length() + 64;
+        remember(new RenderedEmail(recording.accessed, html));
+        return html;
+    }
+
+    private synchronized RenderedEmail findRendered(Map<String, Object> values) {
+        for (RenderedEmail rendered : recentRenders) {
+            if (rendered.matches(values)) {
+                return rendered;
+            }
+        }
+        return null;
+    }
+
+    private synchronized void remember(RenderedEmail rendered) {
+        if (memoSize == 0) {
+            return;
+        }
+        recentRenders.addFirst(rendered);
+        while (recentRenders.size() > memoSize) {
+            recentRenders.removeLast();
+        }
+    }
+
+    private record RenderedEmail(Map<String, Object> usedValues, String html) {
+
+        boolean matches(Map<String, Object> values) {
+            for (Map.Entry<String, Object> used : usedValues.entrySet()) {
+                if (!Objects.equals(used.getValue(), values.get(used.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private static final class RecordingModel implements TemplateHashModel {
+
+        private final Map<String, Object> values;
+        private final ObjectWrapper objectWrapper;
+        private final Map<String, Object> accessed = new LinkedHashMap<>();
+
+        private RecordingModel(Map<String, Object> values, ObjectWrapper objectWrapper) {
+            this.values = values;
+            this.objectWrapper = objectWrapper;
+        }
+
+        @Override
+        public TemplateModel get(String key) throws TemplateModelException {
+            Object value = values.get(key);
+            accessed.putIfAbsent(key, value);
+            return value == null ? null : objectWrapper.wrap(value);
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return values.isEmpty();
+        }
+    }
+}
@@ -1,23 +1,58 @@
 package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification;
 
 import com.ethicalsoft.ethicalsoft_complience.application.port.notification.InternalNotificationPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationDeliveryBatchPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationPushPort;
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.command.SendNotificationCommand;
 import com.ethicalsoft.ethicalsoft_complience.domain.notification.*;
+import com.ethicalsoft.ethicalsoft_complience.exception.BusinessException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 @Component
+@Order(Ordered.LOWEST_PRECEDENCE)
 @RequiredArgsConstructor
-public class NotificationChannelSender {
+@Slf4j
+public class NotificationChannelSender implements NotificationDeliveryBatchPort {
+
+    private final ThreadLocal<InternalBatch> pendingInternal = new ThreadLocal<>();
 
     private final InternalNotificationPort internalNotificationPort;
     private final NotificationEmailSender notificationEmailSender;
+    private final NotificationPushPort notificationPushPort;
+
+    @Override
+    public void runBatched(Runnable delivery) {
+        runBatched(null, delivery);
+    }
+
+    @Override
+    public void runBatched(SendNotificationCommand command, Runnable delivery) {
+        if (pendingInternal.get() != null) {
+            delivery.run();
+            return;
+        }
+        InternalBatch batch = new InternalBatch(command != null ? command.idempotencyKey() : null, new ArrayList<>());
+        pendingInternal.set(batch);
+        try {
+            delivery.run();
+        } finally {
+            pendingInternal.remove();
+        }
+        flushInternal(batch);
+    }
 
-    public void sendInternal(String templateKey, String titleTemplate, String bodyTemplate, Map<String, String> placeholders, NotificationDispatchRequest request) {
-        var title = ResolvePlaceholderPolicy.resolve(titleTemplate, placeholders);
-        var body = ResolvePlaceholderPolicy.resolve(bodyTemplate, placeholders);
+    public void sendInternal(CompiledNotificationTemplate template, Map<String, String> placeholders, NotificationDispatchRequest request) {
+        var title = template.renderTitle(placeholders);
+        var body = template.renderBody(placeholders);
 
         Notification notification = new Notification(
                 null,
@@ -28,20 +63,41 @@ public class NotificationChannelSender {
                 NotificationStatus.UNREAD,
                 LocalDateTime.now(),
                 null,
-                templateKey
+                template.key()
         );
-        internalNotificationPort.save(notification);
+        InternalBatch pending = pendingInternal.get();
+        if (pending != null) {
+            pending.notifications().add(notification);
+        } else {
+            notificationPushPort.publish(List.of(internalNotificationPort.save(notification)));
+        }
     }
 
-    public void sendEmail(String subjectTemplate, String templateLink, Map<String, String> placeholders, NotificationDispatchRequest request) {
+    public void sendEmail(CompiledNotificationTemplate template, Map<String, String> placeholders, NotificationDispatchRequest request) {
+        String templateLink = template.templateLink();
         if (templateLink == null || templateLink.isBlank()) {
-            throw new com.ethicalsoft.ethicalsoft_complience.exception.BusinessException("Template de e-mail não configurado para a notificação");
+            throw new BusinessException("Template de e-mail não configurado para a notificação");
         }
-        String subject = ResolvePlaceholderPolicy.resolve(subjectTemplate, placeholders);
+        String subject = template.renderTitle(placeholders);
         notificationEmailSender.send(request.getRecipientEmail(), subject, templateLink, request.getTemplateModel());
     }
 
     public boolean supports(NotificationChannel channel) {
         return channel == NotificationChannel.INTERNAL || channel == NotificationChannel.EMAIL;
     }
+
+    private void flushInternal(InternalBatch batch) {
+        List<Notification> notifications = batch.notifications();
+        if (notifications.isEmpty()) {
+            return;
+        }
+        var result = internalNotificationPort.saveAll(notifications, batch.deliveryKey());
+        notificationPushPort.publish(result.saved());
+        if (result.hasFailures()) {
+            throw new BusinessException("Falha ao salvar " + result.failures().size() + " de " + notifications.size() + " notificações internas");
+        }
+    }
+
+    private record InternalBatch(String deliveryKey, List<Notification> notifications) {
+    }
 }
@@ -0,0 +1,73 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationDeliveryBatchPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationDeliveryLedgerPort;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationDeliveryKey;
+import com.ethicalsoft.ethicalsoft_complience.exception.PartialEmailSendingException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationDeliveryLedger implements NotificationDeliveryBatchPort {
+
+    private final ThreadLocal<List<NotificationDeliveryKey>> claimedInDelivery = new ThreadLocal<>();
+
+    private final NotificationDeliveryLedgerPort notificationDeliveryLedgerPort;
+
+    @Override
+    public void runBatched(Runnable delivery) {
+        if (claimedInDelivery.get() != null) {
+            delivery.run();
+            return;
+        }
+        List<NotificationDeliveryKey> claimed = new ArrayList<>();
+        claimedInDelivery.set(claimed);
+        try {
+            delivery.run();
+        } catch (PartialEmailSendingException ex) {
+            release(claimed.stream()
+                    .filter(key -> ex.getFailedRecipients().contains(NotificationDeliveryKey.normalizeRecipient(key.recipient())))
+                    .toList());
+            throw ex;
+        } catch (RuntimeException ex) {
+            release(claimed);
+            throw ex;
+        } finally {
+            claimedInDelivery.remove();
+        }
+    }
+
+    public Set<NotificationDeliveryKey> claimAll(Collection<NotificationDeliveryKey> keys) {
+        Set<NotificationDeliveryKey> claimed = notificationDeliveryLedgerPort.claimAll(keys);
+        List<NotificationDeliveryKey> tracked = claimedInDelivery.get();
+        if (tracked != null) {
+            tracked.addAll(claimed);
+        }
+        if (claimed.size() < keys.size()) {
+            log.info("[notification-ledger] {} de {} entregas já realizadas hoje foram ignoradas", keys.size() - claimed.size(), keys.size());
+        }
+        return claimed;
+    }
+
+    private void release(List<NotificationDeliveryKey> claimed) {
+        if (claimed.isEmpty()) {
+            return;
+        }
+        try {
+            notificationDeliveryLedgerPort.release(claimed);
+        } catch (RuntimeException ex) {
+            log.error("[notification-ledger] Falha ao liberar {} entregas após erro no envio", claimed.size(), ex);
+        }
+    }
+}
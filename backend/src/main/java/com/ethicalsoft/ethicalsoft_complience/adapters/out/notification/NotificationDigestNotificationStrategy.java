@@ -0,0 +1,74 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.command.SendNotificationCommand;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationTemplate;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationDigestNotificationStrategy implements NotificationTypeStrategy {
+
+    private static final DateTimeFormatter CREATED_AT_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final NotificationSendSupport support;
+    private final ChannelSender channelSender;
+
+    @Override
+    public NotificationType type() {
+        return NotificationType.NOTIFICATION_DIGEST;
+    }
+
+    @Override
+    public void send(SendNotificationCommand command) {
+        Map<String, Object> context = command.context();
+        String recipientEmail = Optional.ofNullable(context.get("recipientEmail")).map(Object::toString).orElse(null);
+        List<Map<String, Object>> items = readItems(context.get("items"));
+        if (recipientEmail == null || items.isEmpty()) {
+            return;
+        }
+        NotificationTemplate template = support.loadTemplate(type());
+
+        String recipientName = Optional.ofNullable(context.get("recipientName")).map(Object::toString).orElse(recipientEmail);
+        Long recipientUserId = context.get("recipientUserId") instanceof Number number ? number.longValue() : null;
+        List<String> recipientRoles = context.get("recipientRoles") instanceof List<?> roles
+                ? roles.stream().map(Object::toString).toList()
+                : List.of();
+
+        Map<String, String> placeholders = Map.ofEntries(
+                Map.entry("recipientName", recipientName),
+                Map.entry("count", String.valueOf(items.size())),
+                Map.entry("summary", items.stream().map(item -> String.valueOf(item.get("title"))).collect(Collectors.joining("; ")))
+        );
+        Map<String, Object> model = new HashMap<>(placeholders);
+        model.put("items", items);
+
+        var sender = new NotificationSendSupport.SenderData(null, null, null, List.of());
+        var recipient = new NotificationSendSupport.RecipientData(recipientUserId, recipientName, recipientEmail, recipientRoles);
+        channelSender.send(template, placeholders, builder -> support.applyParticipants(builder, sender, recipient, model));
+    }
+
+    private List<Map<String, Object>> readItems(Object value) {
+        if (!(value instanceof List<?> list)) {
+            return List.of();
+        }
+        List<Map<String, Object>> items = new ArrayList<>(list.size());
+        for (Object element : list) {
+            if (element instanceof Map<?, ?> map) {
+                Map<String, Object> item = new LinkedHashMap<>();
+                item.put("type", String.valueOf(map.get("type")));
+                item.put("title", Objects.toString(map.get("title"), ""));
+                item.put("body", Objects.toString(map.get("body"), ""));
+                item.put("createdAtFormatted", map.get("createdAt") instanceof LocalDateTime createdAt ? createdAt.format(CREATED_AT_FORMAT) : "");
+                items.add(item);
+            }
+        }
+        return items;
+    }
+}
@@ -1,31 +1,56 @@
 package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification;
 
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationDeliveryBatchPort;
 import com.ethicalsoft.ethicalsoft_complience.exception.EmailSendingException;
+import freemarker.template.Template;
 import freemarker.template.TemplateException;
 import jakarta.mail.MessagingException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Component;
-import org.springframework.ui.freemarker.FreeMarkerTemplateUtils;
 import org.springframework.web.servlet.view.freemarker.FreeMarkerConfigurer;
 
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.Map;
 
 @Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 20)
 @RequiredArgsConstructor
 @Slf4j
-public class NotificationEmailSender {
+public class NotificationEmailSender implements NotificationDeliveryBatchPort {
 
     private final JavaMailSender mailSender;
     private final FreeMarkerConfigurer freemarkerConfig;
+    private final BatchingEmailDispatcher batchingEmailDispatcher;
 
     @Value("${app.email.enabled:true}")
     private boolean emailEnabled;
 
+    @Value("${app.email.render-memo-size:32}")
+    private int renderMemoSize;
+
+    private final ThreadLocal<Map<String, CompiledEmailTemplate>> fanOutTemplates = new ThreadLocal<>();
+
+    @Override
+    public void runBatched(Runnable delivery) {
+        if (fanOutTemplates.get() != null) {
+            delivery.run();
+            return;
+        }
+        fanOutTemplates.set(new HashMap<>());
+        try {
+            delivery.run();
+        } finally {
+            fanOutTemplates.remove();
+        }
+    }
+
     public void send(String to, String subject, String templatePath, Map<String, Object> model) {
         if (!emailEnabled) {
             log.info("[notification-email] Envio desabilitado (app.email.enabled=false). Ignorando envio para {}", to);
@@ -35,18 +60,25 @@ public class NotificationEmailSender {
             var message = mailSender.createMimeMessage();
             var helper = new MimeMessageHelper(message, true);
 
-            var template = freemarkerConfig.getConfiguration().getTemplate(templatePath);
-            String html = FreeMarkerTemplateUtils.processTemplateIntoString(template, model == null ? Map.of() : model);
+            String html = compiledTemplate(templatePath).render(model);
 
             helper.setTo(to);
             helper.setSubject(subject);
             helper.setText(html, true);
 
-            mailSender.send(message);
+            batchingEmailDispatcher.dispatch(message);
         } catch (MessagingException | IOException | TemplateException e) {
             log.error("[notification-email] Falha ao enviar email template={} para {}", templatePath, to, e);
             throw new EmailSendingException("Falha ao enviar email para " + to, e);
         }
     }
-}
 
+    private CompiledEmailTemplate compiledTemplate(String templatePath) throws IOException {
+        Template template = freemarkerConfig.getConfiguration().getTemplate(templatePath);
+        Map<String, CompiledEmailTemplate> scoped = fanOutTemplates.get();
+        if (scoped == null) {
+            return new CompiledEmailTemplate(template, 0);
+        }
+        return scoped.computeIfAbsent(templatePath, path -> new CompiledEmailTemplate(template, renderMemoSize));
+    }
+}
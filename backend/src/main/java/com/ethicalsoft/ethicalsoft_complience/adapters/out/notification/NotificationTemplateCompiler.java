@@ -0,0 +1,27 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.CompiledNotificationTemplate;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@Slf4j
+public class NotificationTemplateCompiler {
+
+    private final Map<String, CompiledNotificationTemplate> compiledByKey = new ConcurrentHashMap<>();
+
+    public CompiledNotificationTemplate compile(NotificationTemplate template) {
+        CompiledNotificationTemplate cached = compiledByKey.get(template.key());
+        if (cached != null && cached.isCompiledFrom(template)) {
+            return cached;
+        }
+        CompiledNotificationTemplate compiled = CompiledNotificationTemplate.of(template);
+        compiledByKey.put(template.key(), compiled);
+        log.debug("[notification-template] Template compilado key={}", template.key());
+        return compiled;
+    }
+}
@@ -1,19 +1,19 @@
 package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification;
 
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Project;
-import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.User;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.ProjectRepository;
-import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.UserRepository;
 import com.ethicalsoft.ethicalsoft_complience.application.port.auth.CurrentUserPort;
 import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationTemplatePort;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.command.SendNotificationCommand;
 import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationAuthorizationPolicy;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationDeliveryKey;
 import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationTemplate;
 import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationType;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 
@@ -24,9 +24,9 @@ public class ProjectDeadlineReminderNotificationStrategy implements Notification
     private final NotificationTemplatePort notificationTemplatePort;
     private final ChannelSender channelSender;
     private final CurrentUserPort currentUserPort;
-    private final NotificationRoleResolver notificationRoleResolver;
-    private final UserRepository userRepository;
+    private final RecipientDirectory recipientDirectory;
     private final ProjectRepository projectRepository;
+    private final NotificationDeliveryLedger deliveryLedger;
     private final NotificationAuthorizationPolicy authorizationPolicy = new NotificationAuthorizationPolicy();
 
     @Override
@@ -68,21 +68,34 @@ public class ProjectDeadlineReminderNotificationStrategy implements Notification
         );
         Map<String, Object> model = new HashMap<>(placeholders);
 
-        List<String> recipients = resolveRecipients(command, template, project);
-        List<String> senderRoles = currentUser != null ? notificationRoleResolver.resolveRoles(currentUser.getEmail(), projectId) : List.of();
+        LocalDate today = LocalDate.now();
+        List<String> recipients = deliveryLedger.claimAll(resolveRecipients(command, template, project).stream()
+                        .map(email -> NotificationDeliveryKey.forProject(type(), email, projectId, today))
+                        .toList())
+                .stream()
+                .map(NotificationDeliveryKey::recipient)
+                .toList();
+        if (recipients.isEmpty()) {
+            return;
+        }
+        Set<String> lookup = new HashSet<>(recipients);
+        if (currentUser != null) {
+            lookup.add(currentUser.getEmail());
+        }
+        RecipientDirectory.Recipients directory = recipientDirectory.resolve(projectId, lookup);
+        List<String> senderRoles = currentUser != null ? directory.get(currentUser.getEmail()).roles() : List.of();
 
         recipients.forEach(to -> {
-            List<String> recipientRoles = notificationRoleResolver.resolveRoles(to, projectId);
-            Long recipientUserId = userRepository.findByEmail(to).map(User::getId).orElse(null);
+            var recipient = directory.get(to);
             channelSender.send(template, placeholders, builder -> builder
                     .senderUserId(currentUser != null ? currentUser.getId() : null)
                     .senderName(currentUser != null ? (currentUser.getFirstName() + " " + currentUser.getLastName()) : null)
                     .senderEmail(currentUser != null ? currentUser.getEmail() : null)
                     .senderRoles(senderRoles)
-                    .recipientUserId(recipientUserId)
+                    .recipientUserId(recipient.id())
                     .recipientEmail(to)
-                    .recipientName(null)
-                    .recipientRoles(recipientRoles)
+                    .recipientName(recipient.name())
+                    .recipientRoles(recipient.roles())
                     .templateModel(model)
             );
         });
@@ -2,16 +2,17 @@ package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification;
 
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.QuestionnaireResponse;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.repository.QuestionnaireResponseRepository;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Project;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Questionnaire;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.User;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.TimelineStatusEnum;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.ProjectRepository;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.QuestionnaireRepository;
-import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.UserRepository;
 import com.ethicalsoft.ethicalsoft_complience.application.port.auth.CurrentUserPort;
 import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationTemplatePort;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.command.SendNotificationCommand;
 import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationAuthorizationPolicy;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationDeliveryKey;
 import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationParty;
 import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationTemplate;
 import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationType;
@@ -21,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -34,10 +36,10 @@ public class QuestionnaireReminderNotificationStrategy implements NotificationTy
     private final ProjectRepository projectRepository;
     private final QuestionnaireRepository questionnaireRepository;
     private final QuestionnaireResponseRepository questionnaireResponseRepository;
-    private final UserRepository userRepository;
     private final CurrentUserPort currentUserPort;
     private final NotificationAuthorizationPolicy authorizationPolicy = new NotificationAuthorizationPolicy();
-    private final NotificationRoleResolver notificationRoleResolver;
+    private final RecipientDirectory recipientDirectory;
+    private final NotificationDeliveryLedger deliveryLedger;
 
     @Override
     public NotificationType type() {
@@ -61,60 +63,109 @@ public class QuestionnaireReminderNotificationStrategy implements NotificationTy
 
         authorizationPolicy.validateCanSend(template.whoCanSend(), currentUser.getRole(), List.of(currentUser.getRole().name()));
 
-        var senderRoles = notificationRoleResolver.resolveRoles(currentUser.getEmail(), projectId);
-        var sender = new NotificationParty(
-                currentUser.getId(),
-                currentUser.getFirstName() + " " + currentUser.getLastName(),
-                currentUser.getEmail(),
-                senderRoles
-        );
+        List<Questionnaire> questionnaires = loadActiveQuestionnaires(resolveQuestionnaireIds(command, projectId), projectId);
+        if (questionnaires.isEmpty()) {
+            log.warn("[notification] Nenhum questionário em andamento encontrado para lembrete interno projeto={}", projectId);
+            return;
+        }
 
-        Integer questionnaireId = null;
+        sendForQuestionnaires(project, questionnaires, template, currentUser, command);
+    }
+
+    private List<Integer> resolveQuestionnaireIds(SendNotificationCommand command, Long projectId) {
+        List<Object> rawIds = new ArrayList<>();
+        if (command.context().get("questionnaireIds") instanceof Collection<?> ids) {
+            rawIds.addAll(ids);
+        }
         Object qIdObj = command.context().get("questionnaireId");
-        if (qIdObj instanceof Number num) {
-            questionnaireId = num.intValue();
-        } else if (qIdObj != null) {
-            try {
-                questionnaireId = Integer.valueOf(qIdObj.toString());
-            } catch (NumberFormatException ignored) {
-                log.error("[notification] Id do questionário inválido para lembrete interno projeto={} valor={}", projectId, qIdObj);
+        if (qIdObj != null) {
+            rawIds.add(qIdObj);
+        }
+        List<Integer> questionnaireIds = new ArrayList<>();
+        for (Object raw : rawIds) {
+            if (raw instanceof Number num) {
+                questionnaireIds.add(num.intValue());
+            } else {
+                try {
+                    questionnaireIds.add(Integer.valueOf(raw.toString()));
+                } catch (NumberFormatException ignored) {
+                    log.error("[notification] Id do questionário inválido para lembrete interno projeto={} valor={}", projectId, raw);
+                }
             }
         }
+        return questionnaireIds.stream().distinct().toList();
+    }
 
-        Questionnaire questionnaire = null;
-        if (questionnaireId != null) {
-            questionnaire = questionnaireRepository.findById(questionnaireId).orElse(null);
+    private List<Questionnaire> loadActiveQuestionnaires(List<Integer> questionnaireIds, Long projectId) {
+        if (questionnaireIds.isEmpty()) {
+            return List.of();
         }
-        if (questionnaire == null) {
-            log.warn("[notification] Questionário não encontrado ou id ausente para projeto={}", projectId);
+        List<Questionnaire> active = new ArrayList<>();
+        for (Questionnaire questionnaire : questionnaireRepository.findAllById(questionnaireIds)) {
+            if (TimelineStatusEnum.EM_ANDAMENTO.equals(questionnaire.getStatus())) {
+                active.add(questionnaire);
+            } else {
+                log.warn("[notification] Questionário não está em andamento para lembrete interno questionário={} projeto={}", questionnaire.getId(), projectId);
+            }
+        }
+        active.sort(Comparator.comparing(Questionnaire::getId));
+        return active;
+    }
+
+    private void sendForQuestionnaires(Project project, List<Questionnaire> questionnaires, NotificationTemplate template, User currentUser, SendNotificationCommand command) {
+        Long projectId = project.getId();
+        List<String> providedRecipients = resolveRecipientsFromContext(command, template);
+        LocalDate today = LocalDate.now();
+
+        List<NotificationDeliveryKey> candidates = new ArrayList<>();
+        for (Questionnaire questionnaire : questionnaires) {
+            Set<String> emails = providedRecipients.isEmpty()
+                    ? resolveEmailsForReminder(project, questionnaire.getId())
+                    : new HashSet<>(providedRecipients);
+            if (emails.isEmpty()) {
+                log.info("[notification] Nenhum destinatário para lembrete interno questionário={} projeto={}", questionnaire.getId(), projectId);
+            }
+            emails.forEach(email -> candidates.add(NotificationDeliveryKey.forQuestionnaire(type(), email, questionnaire.getId(), today)));
+        }
+        if (candidates.isEmpty()) {
             return;
         }
 
-        if (!TimelineStatusEnum.EM_ANDAMENTO.equals(questionnaire.getStatus())) {
-            log.warn("[notification] Questionário não está em andamento para lembrete interno questionário={} projeto={}", questionnaire.getId(), projectId);
+        Map<String, List<String>> emailsByScope = deliveryLedger.claimAll(candidates).stream()
+                .collect(Collectors.groupingBy(NotificationDeliveryKey::scope, Collectors.mapping(NotificationDeliveryKey::recipient, Collectors.toList())));
+        if (emailsByScope.isEmpty()) {
+            log.info("[notification] Lembrete já enviado hoje para todos os destinatários projeto={}", projectId);
             return;
         }
 
-        sendForQuestionnaire(projectId, project.getName(), questionnaire, template, sender, command);
-    }
+        Set<String> lookup = new HashSet<>();
+        emailsByScope.values().forEach(lookup::addAll);
+        lookup.add(currentUser.getEmail());
+        RecipientDirectory.Recipients recipients = recipientDirectory.resolve(projectId, lookup);
+        var sender = new NotificationParty(
+                currentUser.getId(),
+                currentUser.getFirstName() + " " + currentUser.getLastName(),
+                currentUser.getEmail(),
+                recipients.get(currentUser.getEmail()).roles()
+        );
 
-    private void sendForQuestionnaire(Long projectId, String projectName, Questionnaire questionnaire, NotificationTemplate template, NotificationParty sender, SendNotificationCommand command) {
-        List<String> providedRecipients = resolveRecipientsFromContext(command, template);
-        Set<String> emails = providedRecipients.isEmpty()
-                ? resolveEmailsForReminder(projectId, questionnaire.getId())
-                : new java.util.HashSet<>(providedRecipients);
-        if (emails.isEmpty()) {
-            log.info("[notification] Nenhum destinatário para lembrete interno questionário={} projeto={}", questionnaire.getId(), projectId);
-            return;
+        for (Questionnaire questionnaire : questionnaires) {
+            List<String> emails = emailsByScope.get(NotificationDeliveryKey.questionnaireScope(questionnaire.getId()));
+            if (emails != null) {
+                sendForQuestionnaire(project, questionnaire, template, sender, recipients, emails);
+            }
         }
+    }
 
+    private void sendForQuestionnaire(Project project, Questionnaire questionnaire, NotificationTemplate template,
+                                      NotificationParty sender, RecipientDirectory.Recipients recipients, List<String> emails) {
+        String projectName = project.getName();
         QuestionnaireReminderContext context = QuestionnaireReminderContext.from(questionnaire);
         for (String email : emails) {
-            Long recipientUserId = userRepository.findByEmail(email).map(User::getId).orElse(null);
-            List<String> recipientRoles = notificationRoleResolver.resolveRoles(email, projectId);
+            var recipient = recipients.get(email);
 
             Map<String, String> placeholders = Map.of(
-                    "recipientName", Optional.ofNullable(email).orElse(""),
+                    "recipientName", recipients.displayNameOrEmail(email),
                     "senderRole", String.join(",", Optional.ofNullable(sender.roles()).orElse(List.of())),
                     "questionnaireName", Optional.ofNullable(context.questionnaireName()).orElse(""),
                     "projectName", Optional.ofNullable(projectName).orElse(""),
@@ -126,9 +177,10 @@ public class QuestionnaireReminderNotificationStrategy implements NotificationTy
                     .senderName(sender.fullName())
                     .senderEmail(sender.email())
                     .senderRoles(sender.roles())
-                    .recipientUserId(recipientUserId)
+                    .recipientUserId(recipient.id())
                     .recipientEmail(email)
-                    .recipientRoles(recipientRoles)
+                    .recipientName(recipient.name())
+                    .recipientRoles(recipient.roles())
                     .templateModel(new java.util.HashMap<>(placeholders))
             );
         }
@@ -145,13 +197,13 @@ public class QuestionnaireReminderNotificationStrategy implements NotificationTy
         return List.of();
     }
 
-    private Set<String> resolveEmailsForReminder(Long projectId, Integer questionnaireId) {
-        List<QuestionnaireResponse> pendingResponses = questionnaireResponseRepository.findPendingResponses(projectId, questionnaireId);
+    private Set<String> resolveEmailsForReminder(Project project, Integer questionnaireId) {
+        List<QuestionnaireResponse> pendingResponses = questionnaireResponseRepository.findPendingResponses(project.getId(), questionnaireId);
         Set<Long> pendingRepresentativeIds = pendingResponses.stream()
                 .map(QuestionnaireResponse::getRepresentativeId)
                 .collect(Collectors.toSet());
 
-        return Optional.ofNullable(projectRepository.findById(projectId).orElseThrow().getRepresentatives()).orElse(Set.of())
+        return Optional.ofNullable(project.getRepresentatives()).orElse(Set.of())
                 .stream()
                 .filter(rep -> pendingRepresentativeIds.contains(rep.getId()))
                 .map(rep -> rep.getUser().getEmail())
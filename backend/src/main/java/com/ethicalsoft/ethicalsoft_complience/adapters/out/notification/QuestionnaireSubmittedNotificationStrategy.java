@@ -18,6 +18,7 @@ public class QuestionnaireSubmittedNotificationStrategy implements NotificationT
 
     private final ChannelSender channelSender;
     private final NotificationSendSupport sendSupport;
+    private final RecipientDirectory recipientDirectory;
 
     @Override
     public NotificationType type() {
@@ -54,9 +55,10 @@ public class QuestionnaireSubmittedNotificationStrategy implements NotificationT
 
         List<String> recipients = sendSupport.resolveRecipients(command.context(), template, projectId, true);
         NotificationSendSupport.SenderData sender = sendSupport.buildSender(projectId);
+        RecipientDirectory.Recipients directory = recipientDirectory.resolve(projectId, recipients);
 
         recipients.forEach(to -> {
-            NotificationSendSupport.RecipientData recipient = sendSupport.buildRecipient(to, projectId, null);
+            NotificationSendSupport.RecipientData recipient = directory.get(to);
             channelSender.send(template, placeholders, builder -> sendSupport.applyParticipants(builder, sender, recipient, model));
         });
     }
@@ -0,0 +1,78 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.RecipientRoleRowDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.UserRoleEnum;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+
+@Component
+@RequiredArgsConstructor
+public class RecipientDirectory {
+
+    private final UserRepository userRepository;
+
+    public Recipients resolve(Long projectId, Collection<String> emails) {
+        Set<String> distinctEmails = new LinkedHashSet<>();
+        if (emails != null) {
+            emails.stream().filter(Objects::nonNull).forEach(distinctEmails::add);
+        }
+        if (distinctEmails.isEmpty()) {
+            return new Recipients(Map.of());
+        }
+
+        Map<String, RecipientBuilder> builders = new LinkedHashMap<>();
+        for (RecipientRoleRowDTO row : userRepository.findRecipientRoles(projectId, distinctEmails)) {
+            builders.computeIfAbsent(row.email(), email -> new RecipientBuilder(row)).addProjectRole(row.projectRole());
+        }
+
+        Map<String, NotificationSendSupport.RecipientData> byEmail = new HashMap<>();
+        builders.forEach((email, builder) -> byEmail.put(email, builder.build()));
+        return new Recipients(byEmail);
+    }
+
+    public static final class Recipients {
+
+        private final Map<String, NotificationSendSupport.RecipientData> byEmail;
+
+        private Recipients(Map<String, NotificationSendSupport.RecipientData> byEmail) {
+            this.byEmail = byEmail;
+        }
+
+        public NotificationSendSupport.RecipientData get(String email) {
+            NotificationSendSupport.RecipientData recipient = byEmail.get(email);
+            return recipient != null ? recipient : new NotificationSendSupport.RecipientData(null, null, email, List.of());
+        }
+
+        public String displayNameOrEmail(String email) {
+            String name = get(email).name();
+            return name != null ? name : Optional.ofNullable(email).orElse("");
+        }
+    }
+
+    private static final class RecipientBuilder {
+
+        private final RecipientRoleRowDTO user;
+        private final List<String> roles = new ArrayList<>();
+
+        private RecipientBuilder(RecipientRoleRowDTO user) {
+            this.user = user;
+            roles.add(user.role() == UserRoleEnum.ADMIN ? UserRoleEnum.ADMIN.name() : UserRoleEnum.USER.name());
+        }
+
+        private RecipientBuilder addProjectRole(String projectRole) {
+            if (projectRole != null) {
+                roles.add(projectRole);
+            }
+            return this;
+        }
+
+        private NotificationSendSupport.RecipientData build() {
+            String fullName = String.format("%s %s", Optional.ofNullable(user.firstName()).orElse(""),
+                    Optional.ofNullable(user.lastName()).orElse("")).trim();
+            return new NotificationSendSupport.RecipientData(user.userId(), fullName.isBlank() ? null : fullName, user.email(), List.copyOf(roles));
+        }
+    }
+}
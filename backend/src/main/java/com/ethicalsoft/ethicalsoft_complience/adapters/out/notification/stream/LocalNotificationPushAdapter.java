@@ -0,0 +1,28 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification.stream;
+
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationPushPort;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.Notification;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.notification.stream.fanout", havingValue = "local", matchIfMissing = true)
+public class LocalNotificationPushAdapter implements NotificationPushPort {
+
+    private final NotificationStreamHub notificationStreamHub;
+
+    @Override
+    public void publish(List<Notification> notifications) {
+        try {
+            notificationStreamHub.deliverLocal(notifications);
+        } catch (Exception ex) {
+            log.warn("[notification-stream] Falha ao publicar {} notificações no hub local", notifications.size(), ex);
+        }
+    }
+}
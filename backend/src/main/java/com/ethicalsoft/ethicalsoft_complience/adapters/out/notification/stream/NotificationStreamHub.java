@@ -0,0 +1,181 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification.stream;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.in.web.dto.notification.NotificationResponseDTO;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.ListInternalNotificationsPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationStreamPort;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.Notification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Slf4j
+public class NotificationStreamHub implements NotificationStreamPort {
+
+    static final String NOTIFICATION_EVENT = "notification";
+    static final String RESYNC_EVENT = "resync";
+
+    private final ListInternalNotificationsPort listInternalNotificationsPort;
+    private final Duration connectionTimeout;
+    private final int bufferSize;
+    private final int replayLimit;
+    private final int maxConnectionsPerUser;
+
+    private final Map<Long, Set<NotificationStreamSubscription>> subscriptionsByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Counter deliveredCounter;
+    private final Counter droppedCounter;
+
+    public NotificationStreamHub(ListInternalNotificationsPort listInternalNotificationsPort,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.notification.stream.timeout:PT30M}") Duration connectionTimeout,
+                                 @Value("${app.notification.stream.buffer-size:100}") int bufferSize,
+                                 @Value("${app.notification.stream.replay-limit:200}") int replayLimit,
+                                 @Value("${app.notification.stream.max-connections-per-user:5}") int maxConnectionsPerUser) {
+        this.listInternalNotificationsPort = listInternalNotificationsPort;
+        this.connectionTimeout = connectionTimeout;
+        this.bufferSize = bufferSize;
+        this.replayLimit = Math.max(1, Math.min(replayLimit, bufferSize - 1));
+        this.maxConnectionsPerUser = Math.max(1, maxConnectionsPerUser);
+        this.deliveredCounter = meterRegistry.counter("notification.stream.delivered");
+        this.droppedCounter = meterRegistry.counter("notification.stream.dropped");
+        meterRegistry.gauge("notification.stream.connections", connections);
+    }
+
+    @Override
+    public SseEmitter subscribe(Long userId, String lastEventId) {
+        SseEmitter emitter = new SseEmitter(connectionTimeout.toMillis());
+        NotificationStreamSubscription subscription = new NotificationStreamSubscription(userId, emitter, bufferSize, executor);
+        emitter.onCompletion(() -> unregister(subscription));
+        emitter.onTimeout(() -> unregister(subscription));
+        emitter.onError(ex -> unregister(subscription));
+
+        boolean resuming = StringUtils.hasText(lastEventId) && ObjectId.isValid(lastEventId);
+        if (resuming) {
+            subscription.beginReplay();
+        }
+        register(subscription);
+        if (resuming) {
+            replay(subscription, lastEventId);
+        }
+        return emitter;
+    }
+
+    public boolean hasSubscribers(Long userId) {
+        Set<NotificationStreamSubscription> subscriptions = subscriptionsByUser.get(userId);
+        return subscriptions != null && !subscriptions.isEmpty();
+    }
+
+    public void deliverLocal(Collection<Notification> notifications) {
+        for (Notification notification : notifications) {
+            Long userId = notification.recipient() != null ? notification.recipient().userId() : null;
+            Set<NotificationStreamSubscription> subscriptions = userId != null ? subscriptionsByUser.get(userId) : null;
+            if (subscriptions == null) {
+                continue;
+            }
+            for (NotificationStreamSubscription subscription : subscriptions) {
+                if (subscription.offerLive(notification.id(), toEvent(notification))) {
+                    deliveredCounter.increment();
+                } else {
+                    droppedCounter.increment();
+                    unregister(subscription);
+                }
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.notification.stream.heartbeat-interval:PT25S}")
+    public void heartbeat() {
+        subscriptionsByUser.values().stream()
+                .flatMap(Set::stream)
+                .toList()
+                .forEach(subscription -> {
+                    if (!subscription.offer(SseEmitter.event().comment("keepalive"))) {
+                        unregister(subscription);
+                    }
+                });
+    }
+
+    private void replay(NotificationStreamSubscription subscription, String lastEventId) {
+        Set<String> replayedIds = new HashSet<>();
+        try {
+            List<Notification> missed = listInternalNotificationsPort.listAfter(subscription.userId(), lastEventId, replayLimit);
+            for (Notification notification : missed) {
+                replayedIds.add(notification.id());
+                if (!subscription.offer(toEvent(notification))) {
+                    unregister(subscription);
+                    return;
+                }
+            }
+            if (missed.size() >= replayLimit) {
+                subscription.offer(SseEmitter.event().name(RESYNC_EVENT).data("replay-limit"));
+            }
+        } catch (Exception ex) {
+            log.warn("[notification-stream] Falha ao reenviar notificações perdidas userId={} lastEventId={}", subscription.userId(), lastEventId, ex);
+            subscription.offer(SseEmitter.event().name(RESYNC_EVENT).data("replay-failed"));
+        } finally {
+            subscription.endReplay(replayedIds);
+        }
+    }
+
+    private void register(NotificationStreamSubscription subscription) {
+        Set<NotificationStreamSubscription> subscriptions =
+                subscriptionsByUser.computeIfAbsent(subscription.userId(), id -> ConcurrentHashMap.newKeySet());
+        subscriptions.add(subscription);
+        connections.incrementAndGet();
+        while (subscriptions.size() > maxConnectionsPerUser) {
+            NotificationStreamSubscription oldest = subscriptions.stream()
+                    .filter(existing -> existing != subscription)
+                    .min(Comparator.comparingLong(NotificationStreamSubscription::sequence))
+                    .orElse(null);
+            if (oldest == null) {
+                return;
+            }
+            unregister(oldest);
+        }
+    }
+
+    private void unregister(NotificationStreamSubscription subscription) {
+        subscription.close();
+        subscriptionsByUser.computeIfPresent(subscription.userId(), (userId, subscriptions) -> {
+            if (subscriptions.remove(subscription)) {
+                connections.decrementAndGet();
+            }
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    }
+
+    private SseEmitter.SseEventBuilder toEvent(Notification notification) {
+        return SseEmitter.event()
+                .id(notification.id())
+                .name(NOTIFICATION_EVENT)
+                .data(NotificationResponseDTO.fromDomain(notification));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscriptionsByUser.values().forEach(subscriptions -> subscriptions.forEach(NotificationStreamSubscription::close));
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,137 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification.stream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+final class NotificationStreamSubscription {
+
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    private final long sequence = SEQUENCE.incrementAndGet();
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+    private final Executor executor;
+    private final int bufferSize;
+    private List<HeldEvent> heldDuringReplay;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    NotificationStreamSubscription(Long userId, SseEmitter emitter, int bufferSize, Executor executor) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.bufferSize = Math.max(1, bufferSize);
+        this.buffer = new ArrayBlockingQueue<>(this.bufferSize);
+        this.executor = executor;
+    }
+
+    long sequence() {
+        return sequence;
+    }
+
+    Long userId() {
+        return userId;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    boolean offer(SseEmitter.SseEventBuilder event) {
+        if (closed.get()) {
+            return false;
+        }
+        if (!buffer.offer(event)) {
+            log.warn("[notification-stream] Buffer da conexão cheio userId={}; encerrando para o cliente reconectar com Last-Event-ID", userId);
+            close();
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    synchronized void beginReplay() {
+        heldDuringReplay = new ArrayList<>();
+    }
+
+    synchronized boolean offerLive(String eventId, SseEmitter.SseEventBuilder event) {
+        if (heldDuringReplay == null) {
+            return offer(event);
+        }
+        if (closed.get() || heldDuringReplay.size() >= bufferSize) {
+            close();
+            return false;
+        }
+        heldDuringReplay.add(new HeldEvent(eventId, event));
+        return true;
+    }
+
+    synchronized void endReplay(Set<String> replayedIds) {
+        List<HeldEvent> held = heldDuringReplay;
+        heldDuringReplay = null;
+        if (held == null) {
+            return;
+        }
+        for (HeldEvent event : held) {
+            if (!replayedIds.contains(event.id()) && !offer(event.event())) {
+                return;
+            }
+        }
+    }
+
+    void close() {
+        if (closed.compareAndSet(false, true)) {
+            buffer.clear();
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ignored) {
+                // conexão já encerrada pelo cliente
+            }
+        }
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            SseEmitter.SseEventBuilder event = buffer.poll();
+            if (event == null) {
+                draining.set(false);
+                if (buffer.isEmpty() || !draining.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException ex) {
+                log.debug("[notification-stream] Conexão encerrada durante envio userId={}", userId);
+                close();
+                draining.set(false);
+                return;
+            }
+        }
+    }
+
+    private record HeldEvent(String id, SseEmitter.SseEventBuilder event) {
+    }
+}
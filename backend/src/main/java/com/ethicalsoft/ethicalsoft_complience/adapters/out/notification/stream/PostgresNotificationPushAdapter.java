@@ -0,0 +1,170 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification.stream;
+
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.ListInternalNotificationsPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationPushPort;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.Notification;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+@Component
+@Slf4j
+@ConditionalOnProperty(name = "app.notification.stream.fanout", havingValue = "postgres")
+public class PostgresNotificationPushAdapter implements NotificationPushPort {
+
+    static final String CHANNEL = "internal_notifications";
+    private static final int MAX_PAYLOAD_LENGTH = 7000;
+    private static final int POLL_TIMEOUT_MILLIS = 10_000;
+    private static final long RECONNECT_DELAY_MILLIS = 5_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSourceProperties dataSourceProperties;
+    private final NotificationStreamHub notificationStreamHub;
+    private final ListInternalNotificationsPort listInternalNotificationsPort;
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PostgresNotificationPushAdapter(JdbcTemplate jdbcTemplate,
+                                           DataSourceProperties dataSourceProperties,
+                                           NotificationStreamHub notificationStreamHub,
+                                           ListInternalNotificationsPort listInternalNotificationsPort) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSourceProperties = dataSourceProperties;
+        this.notificationStreamHub = notificationStreamHub;
+        this.listInternalNotificationsPort = listInternalNotificationsPort;
+    }
+
+    @Override
+    public void publish(List<Notification> notifications) {
+        try {
+            for (String payload : encode(notifications)) {
+                jdbcTemplate.queryForObject("select pg_notify(?, ?)", Object.class, CHANNEL, payload);
+            }
+        } catch (Exception ex) {
+            log.warn("[notification-stream] Falha ao publicar {} notificações via LISTEN/NOTIFY", notifications.size(), ex);
+        }
+    }
+
+    static List<String> encode(List<Notification> notifications) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder();
+        for (Notification notification : notifications) {
+            if (notification.id() == null || notification.recipient() == null || notification.recipient().userId() == null) {
+                continue;
+            }
+            String entry = notification.recipient().userId() + ":" + notification.id();
+            if (!payload.isEmpty() && payload.length() + entry.length() + 1 > MAX_PAYLOAD_LENGTH) {
+                payloads.add(payload.toString());
+                payload.setLength(0);
+            }
+            if (!payload.isEmpty()) {
+                payload.append(',');
+            }
+            payload.append(entry);
+        }
+        if (!payload.isEmpty()) {
+            payloads.add(payload.toString());
+        }
+        return payloads;
+    }
+
+    void onPayload(String payload) {
+        List<String> ids = new ArrayList<>();
+        for (String entry : payload.split(",")) {
+            int separator = entry.indexOf(':');
+            if (separator <= 0) {
+                continue;
+            }
+            try {
+                if (notificationStreamHub.hasSubscribers(Long.valueOf(entry.substring(0, separator)))) {
+                    ids.add(entry.substring(separator + 1));
+                }
+            } catch (NumberFormatException ex) {
+                log.debug("[notification-stream] Entrada inválida no payload de notificação: {}", entry);
+            }
+        }
+        if (!ids.isEmpty()) {
+            notificationStreamHub.deliverLocal(listInternalNotificationsPort.listByIds(ids));
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        listenerThread = Thread.ofPlatform().daemon().name("notification-stream-listener").start(this::listen);
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    private void listen() {
+        while (running) {
+            try (Connection connection = openListenConnection()) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                log.info("[notification-stream] Escutando canal {} para fan-out entre nós", CHANNEL);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        if (Objects.equals(CHANNEL, notification.getName())) {
+                            deliverSafely(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException ex) {
+                if (!running) {
+                    return;
+                }
+                log.warn("[notification-stream] Conexão LISTEN perdida; reconectando em {} ms", RECONNECT_DELAY_MILLIS, ex);
+                sleepBeforeReconnect();
+            }
+        }
+    }
+
+    private Connection openListenConnection() throws SQLException {
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword());
+    }
+
+    private void deliverSafely(String payload) {
+        try {
+            onPayload(payload);
+        } catch (Exception ex) {
+            log.warn("[notification-stream] Falha ao entregar notificações recebidas via LISTEN/NOTIFY", ex);
+        }
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MILLIS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
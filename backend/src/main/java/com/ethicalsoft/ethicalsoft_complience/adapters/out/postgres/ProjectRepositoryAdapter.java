@@ -9,6 +9,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -28,6 +29,25 @@ public class ProjectRepositoryAdapter implements ProjectRepositoryPort {
         return delegate.findAllByOrderByIdAsc();
     }
 
+    @Override
+    public List<Long> findIdsBetween(Long fromId, Long toId) {
+        return delegate.findIdsBetween(fromId, toId);
+    }
+
+    @Override
+    public List<Project> findByIdsWithTimeline(Collection<Long> ids) {
+        return withTimeline(delegate.findByIdInOrderByIdAsc(ids));
+    }
+
+    private List<Project> withTimeline(List<Project> projects) {
+        if (!projects.isEmpty()) {
+            delegate.fetchStages(projects);
+            delegate.fetchIterations(projects);
+            delegate.fetchQuestionnaires(projects);
+        }
+        return projects;
+    }
+
     @Override
     public Optional<Project> findByIdWithDetails(Long id) {
         return delegate.findByIdWithDetails(id);
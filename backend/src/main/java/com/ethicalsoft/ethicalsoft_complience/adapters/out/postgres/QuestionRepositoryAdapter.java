@@ -2,10 +2,14 @@ package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres;
 
 import com.ethicalsoft.ethicalsoft_complience.domain.repository.QuestionRepositoryPort;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Question;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.specification.TextSearchExpressions;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import java.util.Optional;
 
@@ -22,7 +26,18 @@ public class QuestionRepositoryAdapter implements QuestionRepositoryPort {
 
     @Override
     public Page<Question> searchByQuestionnaireId(Integer questionnaireId, String questionText, String roleName, Pageable pageable) {
-        return delegate.searchByQuestionnaireId(questionnaireId, questionText, roleName, pageable);
+        return delegate.searchByQuestionnaireId(questionnaireId, toPattern(questionText), toPattern(roleName), withStableOrder(pageable));
+    }
+
+    private String toPattern(String term) {
+        return StringUtils.hasText(term) ? TextSearchExpressions.containsPattern(term) : null;
+    }
+
+    private Pageable withStableOrder(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            return pageable;
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort().and(Sort.by("id")));
     }
 
     @Override
@@ -0,0 +1,49 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model;
+
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "notification_digest_entry")
+public class NotificationDigestEntry {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "entry_id")
+	private Long id;
+
+	@Column(name = "recipient_email", nullable = false)
+	private String recipientEmail;
+
+	@Column(name = "recipient_user_id")
+	private Long recipientUserId;
+
+	@Column(name = "recipient_name")
+	private String recipientName;
+
+	@Column(name = "recipient_roles", length = 1000)
+	private String recipientRoles;
+
+	@Column(name = "type", nullable = false, length = 50)
+	@Enumerated(EnumType.STRING)
+	private NotificationType type;
+
+	@Column(name = "title", nullable = false, columnDefinition = "TEXT")
+	private String title;
+
+	@Column(name = "body", nullable = false, columnDefinition = "TEXT")
+	private String body;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+}
@@ -0,0 +1,60 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.NotificationOutboxStatusEnum;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "notification_outbox")
+public class NotificationOutboxMessage {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "outbox_id")
+	private Long id;
+
+	@Column(name = "idempotency_key", nullable = false, unique = true, length = 200)
+	private String idempotencyKey;
+
+	@Column(name = "type", nullable = false, length = 50)
+	@Enumerated(EnumType.STRING)
+	private NotificationType type;
+
+	@Column(name = "payload", columnDefinition = "TEXT")
+	private String payload;
+
+	@Column(name = "actor_user_id")
+	private Long actorUserId;
+
+	@Column(name = "status", nullable = false, length = 20)
+	@Enumerated(EnumType.STRING)
+	private NotificationOutboxStatusEnum status;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "next_attempt_at", nullable = false)
+	private LocalDateTime nextAttemptAt;
+
+	@Column(name = "locked_at")
+	private LocalDateTime lockedAt;
+
+	@Column(name = "last_error", columnDefinition = "TEXT")
+	private String lastError;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "sent_at")
+	private LocalDateTime sentAt;
+}
@@ -0,0 +1,62 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "project_summary")
+public class ProjectSummary {
+
+	@Id
+	@Column(name = "project_id")
+	private Long projectId;
+
+	@Column(name = "representative_count", nullable = false)
+	private int representativeCount;
+
+	@Column(name = "stage_count", nullable = false)
+	private int stageCount;
+
+	@Column(name = "iteration_count", nullable = false)
+	private int iterationCount;
+
+	@Column(name = "questionnaire_count", nullable = false)
+	private int questionnaireCount;
+
+	@Column(name = "completed_responses", nullable = false)
+	private int completedResponses;
+
+	@Column(name = "current_stage", length = 100)
+	private String currentStage;
+
+	@Column(name = "current_iteration")
+	private Integer currentIteration;
+
+	@Column(name = "current_situation", length = 100)
+	private String currentSituation;
+
+	@Column(name = "timeline_reference_date")
+	@Temporal(TemporalType.DATE)
+	private LocalDate timelineReferenceDate;
+
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+
+	public int getExpectedResponses() {
+		return representativeCount * questionnaireCount;
+	}
+
+	public boolean isTimelineCurrent(LocalDate date) {
+		return date.equals(timelineReferenceDate);
+	}
+}
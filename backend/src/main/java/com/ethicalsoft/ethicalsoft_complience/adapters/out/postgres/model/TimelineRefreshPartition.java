@@ -0,0 +1,49 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.TimelineRefreshStatusEnum;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "timeline_refresh_partition")
+public class TimelineRefreshPartition {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "partition_id")
+	private Long id;
+
+	@Column(name = "run_id", nullable = false)
+	private Long runId;
+
+	@Column(name = "from_project_id", nullable = false)
+	private Long fromProjectId;
+
+	@Column(name = "to_project_id", nullable = false)
+	private Long toProjectId;
+
+	@Column(name = "status", nullable = false, length = 20)
+	@Enumerated(EnumType.STRING)
+	private TimelineRefreshStatusEnum status;
+
+	@Column(name = "processed_projects", nullable = false)
+	private int processedProjects;
+
+	@Column(name = "failed_projects", nullable = false)
+	private int failedProjects;
+
+	@Column(name = "attempts", nullable = false)
+	private int attempts;
+
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+}
@@ -0,0 +1,45 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.TimelineRefreshStatusEnum;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "timeline_refresh_run")
+public class TimelineRefreshRun {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "run_id")
+	private Long id;
+
+	@Column(name = "reference_date", nullable = false)
+	@Temporal(TemporalType.DATE)
+	private LocalDate referenceDate;
+
+	@Column(name = "status", nullable = false, length = 20)
+	@Enumerated(EnumType.STRING)
+	private TimelineRefreshStatusEnum status;
+
+	@Column(name = "processed_projects", nullable = false)
+	private int processedProjects;
+
+	@Column(name = "failed_projects", nullable = false)
+	private int failedProjects;
+
+	@Column(name = "started_at", nullable = false)
+	private LocalDateTime startedAt;
+
+	@Column(name = "finished_at")
+	private LocalDateTime finishedAt;
+}
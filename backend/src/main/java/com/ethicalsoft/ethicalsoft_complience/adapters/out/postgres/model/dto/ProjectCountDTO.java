@@ -0,0 +1,4 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto;
+
+public record ProjectCountDTO(Long projectId, Long count) {
+}
@@ -0,0 +1,35 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto;
+
+import com.ethicalsoft.ethicalsoft_complience.exception.BusinessException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public record ProjectSearchCursorDTO(String sortProperty, Sort.Direction direction, String sortValue, Long id) {
+
+    private static final String SEPARATOR = ":";
+
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+                sortProperty,
+                direction.name(),
+                String.valueOf(id),
+                Base64.getUrlEncoder().withoutPadding().encodeToString(sortValue.getBytes(StandardCharsets.UTF_8)));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProjectSearchCursorDTO decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR, -1);
+            if (parts.length != 4) {
+                throw new BusinessException("Cursor de paginação inválido");
+            }
+            String sortValue = new String(Base64.getUrlDecoder().decode(parts[3]), StandardCharsets.UTF_8);
+            return new ProjectSearchCursorDTO(parts[0], Sort.Direction.valueOf(parts[1]), sortValue, Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException ex) {
+            throw new BusinessException("Cursor de paginação inválido", ex);
+        }
+    }
+}
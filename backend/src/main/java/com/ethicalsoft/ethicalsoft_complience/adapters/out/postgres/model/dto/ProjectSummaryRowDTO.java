@@ -0,0 +1,19 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.ProjectStatusEnum;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.ProjectTypeEnum;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.TimelineStatusEnum;
+
+import java.time.LocalDate;
+
+public record ProjectSummaryRowDTO(
+        Long id,
+        String name,
+        ProjectTypeEnum type,
+        LocalDate startDate,
+        LocalDate deadline,
+        ProjectStatusEnum status,
+        TimelineStatusEnum timelineStatus,
+        Integer configuredIterationCount
+) {
+}
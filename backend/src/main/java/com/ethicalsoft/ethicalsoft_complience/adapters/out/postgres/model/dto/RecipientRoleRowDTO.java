@@ -0,0 +1,6 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.UserRoleEnum;
+
+public record RecipientRoleRowDTO(Long userId, String email, String firstName, String lastName, UserRoleEnum role, String projectRole) {
+}
@@ -0,0 +1,6 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto;
+
+import java.time.LocalDate;
+
+public record TimelineWindowDTO(Long projectId, String name, LocalDate startDate, LocalDate endDate) {
+}
@@ -5,7 +5,10 @@ import lombok.Data;
 @Data
 public class ProjectSearchRequestDTO {
 	private String name;
+	private String search;
 	private String code;
 	private String type;
 	private String status;
+	private String cursor;
+	private boolean includeTotal = true;
 }
\ No newline at end of file
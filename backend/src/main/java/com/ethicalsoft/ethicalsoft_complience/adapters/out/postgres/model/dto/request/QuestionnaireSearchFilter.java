@@ -1,5 +1,5 @@
 package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.request;
 
-public record QuestionnaireSearchFilter(String name, String stageName, String iterationName) {
+public record QuestionnaireSearchFilter(String name, String stageName, String iterationName, String search) {
 }
 
@@ -0,0 +1,16 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+@Builder
+public class ProjectCursorPageResponseDTO {
+    List<ProjectSummaryResponseDTO> content;
+    int size;
+    boolean hasNext;
+    String nextCursor;
+    Long totalElements;
+}
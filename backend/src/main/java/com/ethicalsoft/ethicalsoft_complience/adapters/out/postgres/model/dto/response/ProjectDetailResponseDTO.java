@@ -23,6 +23,9 @@ public class ProjectDetailResponseDTO {
     int representativeCount;
     int stageCount;
     int iterationCount;
+    int questionnaireCount;
+    int completedResponses;
+    int expectedResponses;
     String currentStage;
     Integer currentIteration;
     String currentSituation;
@@ -0,0 +1,13 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response;
+
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class ProjectSummaryDriftResponseDTO {
+    Long projectId;
+    String field;
+    String stored;
+    String actual;
+}
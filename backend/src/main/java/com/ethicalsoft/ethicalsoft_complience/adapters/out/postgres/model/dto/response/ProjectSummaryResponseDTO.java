@@ -25,6 +25,9 @@ public class ProjectSummaryResponseDTO {
 	private int representativeCount;
 	private int stageCount;
 	private int iterationCount;
+	private int questionnaireCount;
+	private int completedResponses;
+	private int expectedResponses;
 	private String currentStage;
 	private Integer currentIteration;
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums;
+
+public enum NotificationOutboxStatusEnum {
+    PENDING,
+    PROCESSING,
+    SENT,
+    DEAD
+}
@@ -0,0 +1,8 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums;
+
+public enum TimelineRefreshStatusEnum {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED
+}
@@ -0,0 +1,62 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.NotificationDigestEntry;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.NotificationDigestEntryRepository;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationDigestPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationDigestAdapter implements NotificationDigestPort {
+
+    private static final String ROLE_SEPARATOR = ",";
+
+    private final NotificationDigestEntryRepository digestEntryRepository;
+
+    @Override
+    @Transactional
+    public void buffer(DigestEntry entry) {
+        digestEntryRepository.save(new NotificationDigestEntry(
+                null,
+                entry.recipientEmail(),
+                entry.recipientUserId(),
+                entry.recipientName(),
+                entry.recipientRoles() == null || entry.recipientRoles().isEmpty() ? null : String.join(ROLE_SEPARATOR, entry.recipientRoles()),
+                entry.type(),
+                entry.title() == null ? "" : entry.title(),
+                entry.body() == null ? "" : entry.body(),
+                entry.createdAt() != null ? entry.createdAt() : LocalDateTime.now()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<String> findDueRecipients(LocalDateTime openedBefore, int limit) {
+        return digestEntryRepository.findDueRecipients(openedBefore, limit);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<DigestEntry> drain(String recipientEmail) {
+        List<NotificationDigestEntry> entries = digestEntryRepository.lockByRecipient(recipientEmail);
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        digestEntryRepository.deleteAllInBatch(entries);
+        return entries.stream().map(this::toEntry).toList();
+    }
+
+    private DigestEntry toEntry(NotificationDigestEntry entry) {
+        List<String> roles = entry.getRecipientRoles() == null || entry.getRecipientRoles().isBlank()
+                ? List.of()
+                : Arrays.asList(entry.getRecipientRoles().split(ROLE_SEPARATOR));
+        return new DigestEntry(entry.getId(), entry.getType(), entry.getRecipientUserId(), entry.getRecipientEmail(),
+                entry.getRecipientName(), roles, entry.getTitle(), entry.getBody(), entry.getCreatedAt());
+    }
+}
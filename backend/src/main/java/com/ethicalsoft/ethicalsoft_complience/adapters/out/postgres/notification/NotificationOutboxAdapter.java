@@ -0,0 +1,108 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.NotificationOutboxMessage;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.NotificationOutboxStatusEnum;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.NotificationOutboxRepository;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationOutboxPort;
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.command.SendNotificationCommand;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxAdapter implements NotificationOutboxPort {
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationOutboxPayloadCodec payloadCodec;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean enqueue(SendNotificationCommand command, Long actorUserId) {
+        String idempotencyKey = command.idempotencyKey() != null
+                ? command.idempotencyKey()
+                : command.type().name() + ":" + UUID.randomUUID();
+        return outboxRepository.insertIfAbsent(idempotencyKey, command.type().name(),
+                payloadCodec.encode(command.context()), actorUserId, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    @Transactional
+    public List<OutboxNotification> claimDue(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        List<NotificationOutboxMessage> messages = outboxRepository.lockDueMessages(now, limit);
+        messages.forEach(message -> {
+            message.setStatus(NotificationOutboxStatusEnum.PROCESSING);
+            message.setLockedAt(now);
+            message.setAttempts(message.getAttempts() + 1);
+        });
+        outboxRepository.saveAll(messages);
+        return messages.stream()
+                .map(message -> new OutboxNotification(
+                        message.getId(),
+                        new SendNotificationCommand(message.getType(), payloadCodec.decode(message.getPayload()), message.getIdempotencyKey()),
+                        message.getActorUserId(),
+                        message.getAttempts()))
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void markSent(Long id) {
+        outboxRepository.findById(id).ifPresent(message -> {
+            message.setStatus(NotificationOutboxStatusEnum.SENT);
+            message.setSentAt(LocalDateTime.now());
+            message.setPayload(null);
+            message.setLockedAt(null);
+            message.setLastError(null);
+        });
+    }
+
+    @Override
+    @Transactional
+    public void markForRetry(Long id, String error, LocalDateTime nextAttemptAt) {
+        outboxRepository.findById(id).ifPresent(message -> {
+            message.setStatus(NotificationOutboxStatusEnum.PENDING);
+            message.setNextAttemptAt(nextAttemptAt);
+            message.setLockedAt(null);
+            message.setLastError(truncate(error));
+        });
+    }
+
+    @Override
+    @Transactional
+    public void markDead(Long id, String error) {
+        outboxRepository.findById(id).ifPresent(message -> {
+            message.setStatus(NotificationOutboxStatusEnum.DEAD);
+            message.setPayload(null);
+            message.setLockedAt(null);
+            message.setLastError(truncate(error));
+        });
+    }
+
+    @Override
+    @Transactional
+    public int releaseStale(LocalDateTime lockedBefore) {
+        return outboxRepository.releaseStale(lockedBefore);
+    }
+
+    @Override
+    @Transactional
+    public void renewLease(Long id) {
+        outboxRepository.renewLease(id, LocalDateTime.now());
+    }
+
+    private String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
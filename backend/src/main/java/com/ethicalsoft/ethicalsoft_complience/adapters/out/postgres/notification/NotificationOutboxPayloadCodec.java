@@ -0,0 +1,66 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.exception.BusinessException;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.databind.jsontype.BasicPolymorphicTypeValidator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+public class NotificationOutboxPayloadCodec {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .activateDefaultTyping(BasicPolymorphicTypeValidator.builder()
+                            .allowIfSubType(String.class)
+                            .allowIfSubType(Integer.class)
+                            .allowIfSubType(Long.class)
+                            .allowIfSubType(LocalDate.class)
+                            .allowIfSubType(LocalDateTime.class)
+                            .allowIfSubType(ArrayList.class)
+                            .allowIfSubType(LinkedHashMap.class)
+                            .build(),
+                    ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.WRAPPER_ARRAY)
+            .build();
+
+    public String encode(Map<String, Object> context) {
+        try {
+            return MAPPER.writeValueAsString(normalize(context == null ? Map.of() : context));
+        } catch (JsonProcessingException ex) {
+            throw new BusinessException("Contexto de notificação não serializável: " + ex.getOriginalMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> decode(String payload) {
+        try {
+            return MAPPER.readValue(payload, LinkedHashMap.class);
+        } catch (JsonProcessingException ex) {
+            throw new BusinessException("Payload de notificação inválido: " + ex.getOriginalMessage());
+        }
+    }
+
+    private Object normalize(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            Map<String, Object> copy = new LinkedHashMap<>();
+            map.forEach((key, item) -> copy.put(String.valueOf(key), normalize(item)));
+            return copy;
+        }
+        if (value instanceof Collection<?> collection) {
+            return new ArrayList<>(collection.stream().map(this::normalize).toList());
+        }
+        return value;
+    }
+}
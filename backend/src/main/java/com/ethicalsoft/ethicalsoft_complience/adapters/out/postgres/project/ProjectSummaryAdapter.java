@@ -0,0 +1,201 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.project;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.dto.ProjectResponseCountDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.repository.QuestionnaireResponseRepository;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Project;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.ProjectSummary;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.ProjectCountDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.ProjectTypeEnum;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.QuestionnaireResponseStatus;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.*;
+import com.ethicalsoft.ethicalsoft_complience.application.port.project.ProjectSummaryPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.timeline.ProjectTimelineIndexPort;
+import com.ethicalsoft.ethicalsoft_complience.domain.service.ProjectCurrentIterationPolicy;
+import com.ethicalsoft.ethicalsoft_complience.domain.service.ProjectCurrentStagePolicy;
+import com.ethicalsoft.ethicalsoft_complience.domain.service.ProjectSituationPolicy;
+import com.ethicalsoft.ethicalsoft_complience.domain.service.ProjectTimelineIndex;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ProjectSummaryAdapter implements ProjectSummaryPort {
+
+    private final ProjectSummaryRepository projectSummaryRepository;
+    private final ProjectRepository projectRepository;
+    private final RepresentativeRepository representativeRepository;
+    private final StageRepository stageRepository;
+    private final IterationRepository iterationRepository;
+    private final QuestionnaireRepository questionnaireRepository;
+    private final QuestionnaireResponseRepository questionnaireResponseRepository;
+    private final ProjectCurrentStagePolicy projectCurrentStagePolicy;
+    private final ProjectCurrentIterationPolicy projectCurrentIterationPolicy;
+    private final ProjectSituationPolicy projectSituationPolicy;
+    private final ProjectTimelineIndexPort projectTimelineIndexPort;
+
+    @Override
+    public Map<Long, ProjectSummary> findByProjectIds(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return Map.of();
+        }
+        return projectSummaryRepository.findAllById(projectIds).stream()
+                .collect(Collectors.toMap(ProjectSummary::getProjectId, Function.identity()));
+    }
+
+    @Override
+    public ProjectSummary compute(Long projectId, LocalDate referenceDate) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado: " + projectId));
+
+        String currentStage = resolveCurrentStage(project, referenceDate);
+        Integer currentIteration = resolveCurrentIteration(project, referenceDate);
+
+        return new ProjectSummary(
+                projectId,
+                (int) representativeRepository.countByProjectId(projectId),
+                (int) stageRepository.countByProjectId(projectId),
+                (int) iterationRepository.countByProjectId(projectId),
+                (int) questionnaireRepository.countByProjectId(projectId),
+                (int) questionnaireResponseRepository.countByProjectIdAndStatusAndRepresentativeIdIsNotNull(projectId, QuestionnaireResponseStatus.COMPLETED),
+                currentStage,
+                currentIteration,
+                projectSituationPolicy.buildCurrentSituation(project, currentStage, currentIteration),
+                referenceDate,
+                LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public ProjectSummary rebuild(Long projectId) {
+        ProjectSummary summary = projectSummaryRepository.save(compute(projectId, LocalDate.now()));
+        log.info("[project-summary] Resumo reconstruído projeto={} representantes={} questionarios={} respostasConcluidas={}",
+                projectId, summary.getRepresentativeCount(), summary.getQuestionnaireCount(), summary.getCompletedResponses());
+        return summary;
+    }
+
+    @Override
+    @Transactional
+    public Map<Long, ProjectSummary> rebuildAll(Collection<Long> projectIds) {
+        if (projectIds.isEmpty()) {
+            return Map.of();
+        }
+        LocalDate referenceDate = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, ProjectTimelineIndex> indexes = projectTimelineIndexPort.findByProjectIds(projectIds);
+        Map<Long, Long> representatives = countsByProject(representativeRepository.countByProjectIds(projectIds));
+        Map<Long, Long> stages = countsByProject(stageRepository.countByProjectIds(projectIds));
+        Map<Long, Long> iterations = countsByProject(iterationRepository.countByProjectIds(projectIds));
+        Map<Long, Long> questionnaires = countsByProject(questionnaireRepository.countByProjectIds(projectIds));
+        Map<Long, Long> completed = questionnaireResponseRepository.countCompletedByProjectIds(projectIds).stream()
+                .collect(Collectors.toMap(ProjectResponseCountDTO::getProjectId, ProjectResponseCountDTO::getCount));
+
+        List<ProjectSummary> summaries = projectRepository.findAllById(projectIds).stream()
+                .map(project -> {
+                    Long projectId = project.getId();
+                    ProjectTimelineIndex index = indexes.get(projectId);
+                    String currentStage = project.getType() == ProjectTypeEnum.CASCATA && index != null
+                            ? projectCurrentStagePolicy.findCurrentStageName(index, referenceDate) : null;
+                    Integer currentIteration = project.getType() == ProjectTypeEnum.ITERATIVO && index != null
+                            ? projectCurrentIterationPolicy.findCurrentIterationNumber(index, referenceDate) : null;
+                    return new ProjectSummary(
+                            projectId,
+                            representatives.getOrDefault(projectId, 0L).intValue(),
+                            stages.getOrDefault(projectId, 0L).intValue(),
+                            iterations.getOrDefault(projectId, 0L).intValue(),
+                            questionnaires.getOrDefault(projectId, 0L).intValue(),
+                            completed.getOrDefault(projectId, 0L).intValue(),
+                            currentStage,
+                            currentIteration,
+                            projectSituationPolicy.buildCurrentSituation(project, currentStage, currentIteration),
+                            referenceDate,
+                            now);
+                })
+                .toList();
+
+        log.info("[project-summary] {} resumos reconstruídos em lote", summaries.size());
+        return projectSummaryRepository.saveAll(summaries).stream()
+                .collect(Collectors.toMap(ProjectSummary::getProjectId, Function.identity()));
+    }
+
+    private Map<Long, Long> countsByProject(List<ProjectCountDTO> counts) {
+        return counts.stream().collect(Collectors.toMap(ProjectCountDTO::projectId, ProjectCountDTO::count));
+    }
+
+    @Override
+    @Transactional
+    public void incrementRepresentativeCount(Long projectId, int delta) {
+        if (projectSummaryRepository.incrementRepresentativeCount(projectId, delta, LocalDateTime.now()) == 0) {
+            log.warn("[project-summary] Resumo inexistente ao atualizar representantes projeto={}", projectId);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void recordResponseStatusChange(Long projectId, QuestionnaireResponseStatus previous, QuestionnaireResponseStatus current) {
+        boolean wasCompleted = previous == QuestionnaireResponseStatus.COMPLETED;
+        boolean isCompleted = current == QuestionnaireResponseStatus.COMPLETED;
+        if (wasCompleted == isCompleted) {
+            return;
+        }
+        if (projectSummaryRepository.incrementCompletedResponses(projectId, isCompleted ? 1 : -1, LocalDateTime.now()) == 0) {
+            log.warn("[project-summary] Resumo inexistente ao atualizar respostas projeto={}", projectId);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void refreshTimeline(Long projectId, LocalDate referenceDate) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado: " + projectId));
+
+        String currentStage = resolveCurrentStage(project, referenceDate);
+        Integer currentIteration = resolveCurrentIteration(project, referenceDate);
+        String currentSituation = projectSituationPolicy.buildCurrentSituation(project, currentStage, currentIteration);
+
+        if (projectSummaryRepository.updateTimeline(projectId, currentStage, currentIteration, currentSituation, referenceDate, LocalDateTime.now()) == 0) {
+            rebuild(projectId);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int advanceTimelineReferenceDate(LocalDate from, LocalDate to, Collection<Long> excludedProjectIds) {
+        Collection<Long> excluded = excludedProjectIds.isEmpty() ? List.of(-1L) : excludedProjectIds;
+        return projectSummaryRepository.advanceTimelineReferenceDate(from, to, excluded);
+    }
+
+    @Override
+    public List<Long> findAllProjectIds() {
+        return projectRepository.findAllIds();
+    }
+
+    private String resolveCurrentStage(Project project, LocalDate referenceDate) {
+        if (project.getType() != ProjectTypeEnum.CASCATA) {
+            return null;
+        }
+        return projectCurrentStagePolicy.findCurrentStageName(timelineIndexOf(project), referenceDate);
+    }
+
+    private Integer resolveCurrentIteration(Project project, LocalDate referenceDate) {
+        if (project.getType() != ProjectTypeEnum.ITERATIVO) {
+            return null;
+        }
+        return projectCurrentIterationPolicy.findCurrentIterationNumber(timelineIndexOf(project), referenceDate);
+    }
+
+    private ProjectTimelineIndex timelineIndexOf(Project project) {
+        return projectTimelineIndexPort.findByProjectId(project.getId());
+    }
+}
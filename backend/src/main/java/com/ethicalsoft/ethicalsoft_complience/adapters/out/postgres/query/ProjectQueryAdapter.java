@@ -1,11 +1,15 @@
 package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.query;
 
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Project;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.ProjectSummary;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Questionnaire;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Representative;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.User;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.ProjectSearchCursorDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.ProjectSummaryRowDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.request.ProjectSearchRequestDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.request.QuestionnaireSearchFilter;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.ProjectCursorPageResponseDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.ProjectDetailResponseDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.ProjectSummaryResponseDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.QuestionnaireSummaryResponseDTO;
@@ -13,20 +17,31 @@ import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.ProjectRepository;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.QuestionnaireRepository;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.specification.ProjectSpecification;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.specification.QuestionnaireSpecification;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.specification.TextSearchExpressions;
 import com.ethicalsoft.ethicalsoft_complience.application.port.auth.CurrentUserPort;
 import com.ethicalsoft.ethicalsoft_complience.application.port.project.ProjectQueryPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.project.ProjectSummaryPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.timeline.ProjectTimelineIndexPort;
 import com.ethicalsoft.ethicalsoft_complience.domain.service.ProjectCurrentIterationPolicy;
 import com.ethicalsoft.ethicalsoft_complience.domain.service.ProjectCurrentStagePolicy;
 import com.ethicalsoft.ethicalsoft_complience.domain.service.ProjectSituationPolicy;
+import com.ethicalsoft.ethicalsoft_complience.domain.service.ProjectTimelineIndex;
+import com.ethicalsoft.ethicalsoft_complience.exception.BusinessException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -34,49 +49,162 @@ import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class ProjectQueryAdapter implements ProjectQueryPort {
 
+    private static final Set<String> CURSOR_SORT_PROPERTIES = Set.of("name", "startDate", "deadline", "id");
+    private static final int DEFAULT_CURSOR_PAGE_SIZE = 10;
+
     private final ProjectRepository projectRepository;
     private final ProjectCurrentStagePolicy projectCurrentStagePolicy;
     private final ProjectCurrentIterationPolicy projectCurrentIterationPolicy;
     private final ProjectSituationPolicy projectSituationPolicy;
     private final QuestionnaireRepository questionnaireRepository;
+    private final ProjectTimelineIndexPort projectTimelineIndexPort;
     private final CurrentUserPort currentUserPort;
     private final QuestionnaireSummaryBuilder questionnaireSummaryBuilder;
+    private final ProjectSummaryPort projectSummaryPort;
 
     @Override
     public Page<ProjectSummaryResponseDTO> search(ProjectSearchRequestDTO filters, Pageable pageable) {
+        User current = getCurrentUser();
+        boolean rankByRelevance = TextSearchExpressions.isRankedByRelevance(pageable, filters.getSearch());
+        Specification<Project> spec = ProjectSpecification.findByCriteria(filters, current, rankByRelevance);
+        Page<ProjectSummaryRowDTO> rows = projectRepository.searchSummaries(spec, rankByRelevance ? TextSearchExpressions.withoutSort(pageable) : pageable);
+        return new PageImpl<>(toSummaries(rows.getContent()), pageable, rows.getTotalElements());
+    }
+
+    @Override
+    public ProjectCursorPageResponseDTO searchByCursor(ProjectSearchRequestDTO filters, Pageable pageable) {
         User current = getCurrentUser();
         Specification<Project> spec = ProjectSpecification.findByCriteria(filters, current);
-        Page<Project> projectPage = projectRepository.findAll(spec, pageable);
+        Sort.Order order = resolveCursorOrder(pageable.getSort());
+        ProjectSearchCursorDTO cursor = StringUtils.hasText(filters.getCursor()) ? ProjectSearchCursorDTO.decode(filters.getCursor()) : null;
+        if (cursor != null && (!order.getProperty().equals(cursor.sortProperty()) || order.getDirection() != cursor.direction())) {
+            throw new BusinessException("Cursor de paginação não corresponde à ordenação solicitada");
+        }
+
+        int size = pageable.isPaged() ? pageable.getPageSize() : DEFAULT_CURSOR_PAGE_SIZE;
+        List<ProjectSummaryRowDTO> fetched = projectRepository.searchSummariesAfter(spec, order, cursor, size + 1);
+        boolean hasNext = fetched.size() > size;
+        List<ProjectSummaryRowDTO> rows = hasNext ? fetched.subList(0, size) : fetched;
+
+        return ProjectCursorPageResponseDTO.builder()
+                .content(toSummaries(rows))
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? toCursor(rows.get(rows.size() - 1), order).encode() : null)
+                .totalElements(filters.isIncludeTotal() ? projectRepository.countSummaries(spec) : null)
+                .build();
+    }
+
+    private Sort.Order resolveCursorOrder(Sort sort) {
+        Sort.Order order = sort.stream().findFirst().orElse(Sort.Order.asc("name"));
+        if (!CURSOR_SORT_PROPERTIES.contains(order.getProperty())) {
+            throw new BusinessException("Ordenação não suportada para paginação por cursor: " + order.getProperty());
+        }
+        return order;
+    }
+
+    private ProjectSearchCursorDTO toCursor(ProjectSummaryRowDTO row, Sort.Order order) {
+        String sortValue = switch (order.getProperty()) {
+            case "name" -> row.name();
+            case "startDate" -> row.startDate().toString();
+            case "deadline" -> row.deadline().toString();
+            default -> String.valueOf(row.id());
+        };
+        return new ProjectSearchCursorDTO(order.getProperty(), order.getDirection(), sortValue, row.id());
+    }
+
+    private List<ProjectSummaryResponseDTO> toSummaries(List<ProjectSummaryRowDTO> rows) {
         LocalDate now = LocalDate.now();
+        Map<Long, ProjectSummary> summaries = resolveSummaries(rows, now);
+
+        List<ProjectSummaryRowDTO> staleRows = rows.stream()
+                .filter(row -> !summaries.get(row.id()).isTimelineCurrent(now))
+                .toList();
+        Map<Long, String> currentStages = resolveCurrentStages(staleRows, now);
+        Map<Long, Integer> currentIterations = resolveCurrentIterations(staleRows, now);
+
+        return rows.stream()
+                .map(row -> {
+                    ProjectSummary summary = summaries.get(row.id());
+                    if (summary.isTimelineCurrent(now)) {
+                        return toSummary(row, summary, summary.getCurrentStage(), summary.getCurrentIteration(), summary.getCurrentSituation());
+                    }
+                    String currentStage = currentStages.get(row.id());
+                    Integer currentIteration = currentIterations.get(row.id());
+                    return toSummary(row, summary, currentStage, currentIteration,
+                            projectSituationPolicy.buildCurrentSituation(row.type(), row.configuredIterationCount(), currentStage, currentIteration));
+                })
+                .toList();
+    }
+
+    private Map<Long, ProjectSummary> resolveSummaries(List<ProjectSummaryRowDTO> rows, LocalDate now) {
+        Map<Long, ProjectSummary> summaries = new HashMap<>(projectSummaryPort.findByProjectIds(rows.stream().map(ProjectSummaryRowDTO::id).toList()));
+        List<Long> missing = rows.stream()
+                .map(ProjectSummaryRowDTO::id)
+                .filter(projectId -> !summaries.containsKey(projectId))
+                .toList();
+        if (!missing.isEmpty()) {
+            log.warn("[project-query] Resumos ausentes para projetos={}, reconstruindo em lote", missing);
+            summaries.putAll(projectSummaryPort.rebuildAll(missing));
+        }
+        return summaries;
+    }
+
+    private ProjectSummaryResponseDTO toSummary(ProjectSummaryRowDTO row,
+                                                ProjectSummary summary,
+                                                String currentStage,
+                                                Integer currentIteration,
+                                                String currentSituation) {
+        return ProjectSummaryResponseDTO.builder()
+                .id(row.id())
+                .name(row.name())
+                .type(row.type().name())
+                .status(row.status())
+                .timelineStatus(row.timelineStatus())
+                .deadline(row.deadline())
+                .startDate(row.startDate())
+                .representativeCount(summary.getRepresentativeCount())
+                .stageCount(summary.getStageCount())
+                .iterationCount(summary.getIterationCount())
+                .questionnaireCount(summary.getQuestionnaireCount())
+                .completedResponses(summary.getCompletedResponses())
+                .expectedResponses(summary.getExpectedResponses())
+                .currentStage(currentStage)
+                .currentIteration(currentIteration)
+                .currentSituation(currentSituation)
+                .build();
+    }
 
-        return projectPage.map(project -> {
-            String currentStage = null;
-            Integer currentIteration = null;
-
-            if (project.getType() == ProjectTypeEnum.CASCATA) {
-                currentStage = projectCurrentStagePolicy.findCurrentStageName(project.getQuestionnaires(), now);
-            } else if (project.getType() == ProjectTypeEnum.ITERATIVO) {
-                currentIteration = projectCurrentIterationPolicy.findCurrentIterationNumber(project.getIterations(), now);
-            }
-
-            return ProjectSummaryResponseDTO.builder()
-                    .id(project.getId())
-                    .name(project.getName())
-                    .type(project.getType().name())
-                    .status(project.getStatus())
-                    .timelineStatus(project.getTimelineStatus())
-                    .deadline(project.getDeadline())
-                    .startDate(project.getStartDate())
-                    .representativeCount(project.getRepresentatives() != null ? project.getRepresentatives().size() : 0)
-                    .stageCount(project.getStages() != null ? project.getStages().size() : 0)
-                    .iterationCount(project.getIterations() != null ? project.getIterations().size() : 0)
-                    .currentStage(currentStage)
-                    .currentIteration(currentIteration)
-                    .currentSituation(projectSituationPolicy.buildCurrentSituation(project, currentStage, currentIteration))
-                    .build();
-        });
+    private Map<Long, String> resolveCurrentStages(List<ProjectSummaryRowDTO> rows, LocalDate now) {
+        List<Long> projectIds = projectIdsOfType(rows, ProjectTypeEnum.CASCATA);
+        if (projectIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, String> currentStages = new HashMap<>();
+        projectTimelineIndexPort.findByProjectIds(projectIds)
+                .forEach((projectId, index) -> currentStages.put(projectId, projectCurrentStagePolicy.findCurrentStageName(index, now)));
+        return currentStages;
+    }
+
+    private Map<Long, Integer> resolveCurrentIterations(List<ProjectSummaryRowDTO> rows, LocalDate now) {
+        List<Long> projectIds = projectIdsOfType(rows, ProjectTypeEnum.ITERATIVO);
+        if (projectIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Integer> currentIterations = new HashMap<>();
+        projectTimelineIndexPort.findByProjectIds(projectIds)
+                .forEach((projectId, index) -> currentIterations.put(projectId, projectCurrentIterationPolicy.findCurrentIterationNumber(index, now)));
+        return currentIterations;
+    }
+
+    private List<Long> projectIdsOfType(List<ProjectSummaryRowDTO> rows, ProjectTypeEnum type) {
+        return rows.stream()
+                .filter(row -> row.type() == type)
+                .map(ProjectSummaryRowDTO::id)
+                .toList();
     }
 
     @Override
@@ -84,21 +212,19 @@ public class ProjectQueryAdapter implements ProjectQueryPort {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new EntityNotFoundException("Projeto não encontrado: " + projectId));
 
-        int representativeCount = project.getRepresentatives() != null ? project.getRepresentatives().size() : 0;
-        int stageCount = project.getStages() != null ? project.getStages().size() : 0;
-        int iterationCount = project.getIterations() != null ? project.getIterations().size() : 0;
         LocalDate now = LocalDate.now();
-        String currentStage = null;
-        Integer currentIteration = null;
-
-        if (project.getType() == ProjectTypeEnum.CASCATA) {
-            currentStage = projectCurrentStagePolicy.findCurrentStageName(project.getQuestionnaires(), now);
-        } else if (project.getType() == ProjectTypeEnum.ITERATIVO) {
-            currentIteration = projectCurrentIterationPolicy.findCurrentIterationNumber(project.getIterations(), now);
+        ProjectSummary summary = Optional.ofNullable(projectSummaryPort.findByProjectIds(List.of(projectId)).get(projectId))
+                .orElseGet(() -> projectSummaryPort.rebuildAll(List.of(projectId)).get(projectId));
+        String currentStage = summary.getCurrentStage();
+        Integer currentIteration = summary.getCurrentIteration();
+        String currentSituation = summary.getCurrentSituation();
+        if (!summary.isTimelineCurrent(now)) {
+            ProjectTimelineIndex index = projectTimelineIndexPort.findByProjectId(projectId);
+            currentStage = project.getType() == ProjectTypeEnum.CASCATA ? projectCurrentStagePolicy.findCurrentStageName(index, now) : null;
+            currentIteration = project.getType() == ProjectTypeEnum.ITERATIVO ? projectCurrentIterationPolicy.findCurrentIterationNumber(index, now) : null;
+            currentSituation = projectSituationPolicy.buildCurrentSituation(project, currentStage, currentIteration);
         }
 
-        project.setCurrentSituation(projectSituationPolicy.buildCurrentSituation(project, currentStage, currentIteration));
-
         return ProjectDetailResponseDTO.builder()
                 .id(project.getId())
                 .name(project.getName())
@@ -110,12 +236,15 @@ public class ProjectQueryAdapter implements ProjectQueryPort {
                 .timelineStatus(project.getTimelineStatus())
                 .iterationDuration(project.getIterationDuration())
                 .configuredIterationCount(project.getIterationCount())
-                .representativeCount(representativeCount)
-                .stageCount(stageCount)
-                .iterationCount(iterationCount)
+                .representativeCount(summary.getRepresentativeCount())
+                .stageCount(summary.getStageCount())
+                .iterationCount(summary.getIterationCount())
+                .questionnaireCount(summary.getQuestionnaireCount())
+                .completedResponses(summary.getCompletedResponses())
+                .expectedResponses(summary.getExpectedResponses())
                 .currentStage(currentStage)
                 .currentIteration(currentIteration)
-                .currentSituation(project.getCurrentSituation())
+                .currentSituation(currentSituation)
                 .build();
     }
 
@@ -128,21 +257,12 @@ public class ProjectQueryAdapter implements ProjectQueryPort {
         Map<Long, Representative> representativesById = reps.stream()
                 .collect(Collectors.toMap(Representative::getId, rep -> rep));
 
-        Specification<Questionnaire> spec = Specification.where((root, query, cb) -> cb.equal(root.get("project").get("id"), projectId));
-        if (filter != null) {
-            if (StringUtils.hasText(filter.name())) {
-                spec = spec.and((root, query, cb) -> cb.like(cb.lower(root.get("name")), "%" + filter.name().toLowerCase() + "%"));
-            }
-            if (StringUtils.hasText(filter.stageName())) {
-                spec = spec.and((root, query, cb) -> cb.equal(cb.lower(root.get("stage").get("name")), filter.stageName().toLowerCase()));
-            }
-            if (StringUtils.hasText(filter.iterationName())) {
-                spec = spec.and((root, query, cb) -> cb.equal(cb.lower(root.get("iterationRef").get("name")), filter.iterationName().toLowerCase()));
-            }
-        }
+        boolean rankByRelevance = TextSearchExpressions.isRankedByRelevance(pageable, filter != null ? filter.search() : null);
+        Specification<Questionnaire> spec = QuestionnaireSpecification.findByCriteria(projectId, filter, rankByRelevance);
 
-        Page<Questionnaire> page = questionnaireRepository.findAll(spec, pageable);
-        return page.map(questionnaire -> questionnaireSummaryBuilder.build(questionnaire, representativesById));
+        Page<Questionnaire> page = questionnaireRepository.findAll(spec, rankByRelevance ? TextSearchExpressions.withoutSort(pageable) : pageable);
+        return new PageImpl<>(questionnaireSummaryBuilder.buildAll(projectId, page.getContent(), representativesById),
+                pageable, page.getTotalElements());
     }
 
     @Override
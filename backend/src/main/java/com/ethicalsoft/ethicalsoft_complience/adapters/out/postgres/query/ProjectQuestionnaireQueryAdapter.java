@@ -8,6 +8,8 @@ import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.re
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.QuestionnaireSummaryResponseDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.ProjectRepository;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.QuestionnaireRepository;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.specification.QuestionnaireSpecification;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.specification.TextSearchExpressions;
 import com.ethicalsoft.ethicalsoft_complience.application.port.project.ProjectQuestionnaireQueryPort;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -17,7 +19,6 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 
 import java.util.Map;
 import java.util.Optional;
@@ -80,23 +81,12 @@ public class ProjectQuestionnaireQueryAdapter implements ProjectQuestionnaireQue
             Map<Long, Representative> representativesById = projectRepresentatives.stream()
                     .collect(Collectors.toMap(Representative::getId, rep -> rep));
 
-            Specification<Questionnaire> spec = Specification.where((root, query, cb) -> cb.equal(root.get("project").get("id"), projectId));
-            if (filter != null) {
-                if (StringUtils.hasText(filter.name())) {
-                    spec = spec.and((root, query, cb) -> cb.like(cb.lower(root.get("name")), "%" + filter.name().toLowerCase() + "%"));
-                }
-                if (StringUtils.hasText(filter.stageName())) {
-                    spec = spec.and((root, query, cb) -> cb.equal(cb.lower(root.get("stage").get("name")), filter.stageName().toLowerCase()));
-                }
-                if (StringUtils.hasText(filter.iterationName())) {
-                    spec = spec.and((root, query, cb) -> cb.equal(cb.lower(root.get("iterationRef").get("name")), filter.iterationName().toLowerCase()));
-                }
-            }
+            boolean rankByRelevance = TextSearchExpressions.isRankedByRelevance(pageable, filter != null ? filter.search() : null);
+            Specification<Questionnaire> spec = QuestionnaireSpecification.findByCriteria(projectId, filter, rankByRelevance);
 
-            Page<Questionnaire> page = questionnaireRepository.findAll(spec, pageable);
-            return new PageImpl<>(page.stream()
-                    .map(q -> questionnaireSummaryBuilder.build(q, representativesById))
-                    .toList(), pageable, page.getTotalElements());
+            Page<Questionnaire> page = questionnaireRepository.findAll(spec, rankByRelevance ? TextSearchExpressions.withoutSort(pageable) : pageable);
+            return new PageImpl<>(questionnaireSummaryBuilder.buildAll(projectId, page.getContent(), representativesById),
+                    pageable, page.getTotalElements());
         } catch (Exception ex) {
             log.error("[project-questionnaire] Falha ao listar questionários do projeto={}", projectId, ex);
             throw ex;
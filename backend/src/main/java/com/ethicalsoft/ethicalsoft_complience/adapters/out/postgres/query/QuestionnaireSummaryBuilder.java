@@ -1,6 +1,6 @@
 package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.query;
 
-import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.QuestionnaireResponse;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.dto.QuestionnaireProgressDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.repository.QuestionnaireResponseRepository;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Questionnaire;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Representative;
@@ -25,20 +25,44 @@ public class QuestionnaireSummaryBuilder {
     private final QuestionnaireResponseRepository questionnaireResponseRepository;
 
     public QuestionnaireSummaryResponseDTO build(Questionnaire questionnaire, Map<Long, Representative> representativesById) {
-        List<QuestionnaireResponse> responses = questionnaireResponseRepository
-                .findByProjectIdAndQuestionnaireId(questionnaire.getProject().getId(), questionnaire.getId());
+        return buildAll(questionnaire.getProject().getId(), List.of(questionnaire), representativesById).get(0);
+    }
+
+    public List<QuestionnaireSummaryResponseDTO> buildAll(Long projectId,
+                                                          List<Questionnaire> questionnaires,
+                                                          Map<Long, Representative> representativesById) {
+        if (questionnaires.isEmpty()) {
+            return List.of();
+        }
+
+        List<Integer> questionnaireIds = questionnaires.stream().map(Questionnaire::getId).toList();
+        Map<Integer, Map<Long, QuestionnaireProgressDTO.RespondentProgressDTO>> progressByQuestionnaire = questionnaireResponseRepository
+                .aggregateProgressByQuestionnaireIds(projectId, questionnaireIds).stream()
+                .collect(Collectors.toMap(QuestionnaireProgressDTO::getQuestionnaireId, this::indexByRepresentative, (a, b) -> a));
 
-        Map<Long, QuestionnaireResponse> responseByRep = responses.stream()
+        return questionnaires.stream()
+                .map(questionnaire -> assemble(questionnaire,
+                        progressByQuestionnaire.getOrDefault(questionnaire.getId(), Map.of()),
+                        representativesById))
+                .toList();
+    }
+
+    private Map<Long, QuestionnaireProgressDTO.RespondentProgressDTO> indexByRepresentative(QuestionnaireProgressDTO progress) {
+        return Optional.ofNullable(progress.getRespondents()).orElseGet(List::of).stream()
                 .filter(resp -> resp.getRepresentativeId() != null)
-                .collect(Collectors.toMap(QuestionnaireResponse::getRepresentativeId, r -> r, (a, b) -> a));
+                .collect(Collectors.toMap(QuestionnaireProgressDTO.RespondentProgressDTO::getRepresentativeId, r -> r, (a, b) -> a));
+    }
 
+    private QuestionnaireSummaryResponseDTO assemble(Questionnaire questionnaire,
+                                                     Map<Long, QuestionnaireProgressDTO.RespondentProgressDTO> responseByRep,
+                                                     Map<Long, Representative> representativesById) {
         int totalRespondents = representativesById.size();
         AtomicInteger responded = new AtomicInteger();
         AtomicReference<LocalDateTime> lastResponseAt = new AtomicReference<>();
 
         List<RespondentStatusDTO> respondentStatus = representativesById.values().stream()
                 .map(rep -> {
-                    QuestionnaireResponse response = responseByRep.get(rep.getId());
+                    QuestionnaireProgressDTO.RespondentProgressDTO response = responseByRep.get(rep.getId());
                     QuestionnaireResponseStatus status = response != null ? response.getStatus() : QuestionnaireResponseStatus.PENDING;
                     LocalDateTime completedAt = response != null ? response.getSubmissionDate() : null;
 
@@ -1,8 +1,31 @@
 package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository;
 
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Iteration;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.ProjectCountDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.TimelineWindowDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 
 public interface IterationRepository extends JpaRepository<Iteration, Long> {
+
+    long countByProjectId(Long projectId);
+
+    @Query("select new com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.ProjectCountDTO(i.project.id, count(i)) " +
+            "from Iteration i where i.project.id in :projectIds group by i.project.id")
+    List<ProjectCountDTO> countByProjectIds(Collection<Long> projectIds);
+
+    @Query("select distinct i.project.id from Iteration i " +
+            "where i.applicationStartDate in :dates or i.applicationEndDate in :dates")
+    List<Long> findProjectIdsWithBoundaryOn(Collection<LocalDate> dates);
+
+    @Query("select new com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.TimelineWindowDTO(" +
+            "i.project.id, i.name, i.applicationStartDate, i.applicationEndDate) " +
+            "from Iteration i where i.project.id in :projectIds " +
+            "order by i.project.id, i.applicationStartDate, i.id")
+    List<TimelineWindowDTO> findTimelineWindowsByProjectIds(Collection<Long> projectIds);
 }
 
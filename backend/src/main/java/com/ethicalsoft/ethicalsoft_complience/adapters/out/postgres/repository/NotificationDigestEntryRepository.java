@@ -0,0 +1,20 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.NotificationDigestEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationDigestEntryRepository extends JpaRepository<NotificationDigestEntry, Long> {
+
+    @Query(value = "select recipient_email from notification_digest_entry " +
+            "group by recipient_email having min(created_at) <= :openedBefore " +
+            "order by min(created_at) limit :limit", nativeQuery = true)
+    List<String> findDueRecipients(LocalDateTime openedBefore, int limit);
+
+    @Query(value = "select * from notification_digest_entry where recipient_email = :recipientEmail " +
+            "order by created_at, entry_id for update skip locked", nativeQuery = true)
+    List<NotificationDigestEntry> lockByRecipient(String recipientEmail);
+}
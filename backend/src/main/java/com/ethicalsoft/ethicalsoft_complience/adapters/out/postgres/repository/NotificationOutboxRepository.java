@@ -0,0 +1,35 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.NotificationOutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxMessage, Long> {
+
+    @Modifying
+    @Query(value = "insert into notification_outbox " +
+            "(idempotency_key, type, payload, actor_user_id, status, attempts, next_attempt_at, created_at) " +
+            "values (:idempotencyKey, :type, :payload, :actorUserId, 'PENDING', 0, :now, :now) " +
+            "on conflict (idempotency_key) do nothing", nativeQuery = true)
+    int insertIfAbsent(String idempotencyKey, String type, String payload, Long actorUserId, LocalDateTime now);
+
+    @Query(value = "select * from notification_outbox " +
+            "where status = 'PENDING' and next_attempt_at <= :now " +
+            "order by next_attempt_at, outbox_id limit :limit for update skip locked", nativeQuery = true)
+    List<NotificationOutboxMessage> lockDueMessages(LocalDateTime now, int limit);
+
+    @Modifying
+    @Query("update NotificationOutboxMessage m set m.status = com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.NotificationOutboxStatusEnum.PENDING, " +
+            "m.lockedAt = null where m.status = com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.NotificationOutboxStatusEnum.PROCESSING " +
+            "and m.lockedAt < :lockedBefore")
+    int releaseStale(LocalDateTime lockedBefore);
+
+    @Modifying
+    @Query("update NotificationOutboxMessage m set m.lockedAt = :now where m.id = :id " +
+            "and m.status = com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.NotificationOutboxStatusEnum.PROCESSING")
+    int renewLease(Long id, LocalDateTime now);
+}
@@ -1,6 +1,7 @@
 package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository;
 
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Project;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.TimelineWindowDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.ProjectStatusEnum;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,13 +9,45 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpecificationExecutor<Project> {
+public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpecificationExecutor<Project>, ProjectSearchRepository {
 
     List<Project> findAllByOrderByIdAsc();
 
+    @Query("select p.id from Project p order by p.id")
+    List<Long> findAllIds();
+
+    @Query("select p.id from Project p where p.startDate in :dates or p.deadline in :dates")
+    List<Long> findIdsWithBoundaryOn(Collection<LocalDate> dates);
+
+    @Query("select new com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.TimelineWindowDTO(" +
+            "p.id, p.name, p.startDate, p.deadline) from Project p where p.id in :ids")
+    List<TimelineWindowDTO> findTimelineWindowsByIds(Collection<Long> ids);
+
+    @Query("select min(p.id) from Project p")
+    Long findMinId();
+
+    @Query("select max(p.id) from Project p")
+    Long findMaxId();
+
+    @Query("select p.id from Project p where p.id between :fromId and :toId order by p.id")
+    List<Long> findIdsBetween(Long fromId, Long toId);
+
+    List<Project> findByIdInOrderByIdAsc(Collection<Long> ids);
+
+    @Query("select distinct p from Project p left join fetch p.stages where p in :projects")
+    List<Project> fetchStages(Collection<Project> projects);
+
+    @Query("select distinct p from Project p left join fetch p.iterations where p in :projects")
+    List<Project> fetchIterations(Collection<Project> projects);
+
+    @Query("select distinct p from Project p left join fetch p.questionnaires where p in :projects")
+    List<Project> fetchQuestionnaires(Collection<Project> projects);
+
     boolean existsByIdAndOwnerId(Long projectId, Long ownerId);
 
     @Query("select distinct p from Project p " +
@@ -33,7 +66,7 @@ public interface ProjectRepository extends JpaRepository<Project, Long>, JpaSpec
     @Override
     List<Project> findAll(Specification<Project> spec);
 
-    @Query("select distinct p from Project p left join fetch p.representatives r left join fetch r.user " +
+    @Query("select distinct p from Project p left join fetch p.owner left join fetch p.representatives r left join fetch r.user " +
             "where p.deadline is not null and p.deadline between :from and :to and p.status <> :closedStatus")
     List<Project> findWithDeadlineBetween(@Param("from") java.time.LocalDate from,
                                           @Param("to") java.time.LocalDate to,
@@ -0,0 +1,20 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Project;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.ProjectSearchCursorDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.ProjectSummaryRowDTO;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface ProjectSearchRepository {
+
+    Page<ProjectSummaryRowDTO> searchSummaries(Specification<Project> spec, Pageable pageable);
+
+    List<ProjectSummaryRowDTO> searchSummariesAfter(Specification<Project> spec, Sort.Order order, ProjectSearchCursorDTO cursor, int limit);
+
+    long countSummaries(Specification<Project> spec);
+}
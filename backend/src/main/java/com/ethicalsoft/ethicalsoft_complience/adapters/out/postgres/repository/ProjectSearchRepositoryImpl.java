@@ -0,0 +1,134 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Project;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.ProjectSearchCursorDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.ProjectSummaryRowDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+public class ProjectSearchRepositoryImpl implements ProjectSearchRepository {
+
+    private static final String ID = "id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Page<ProjectSummaryRowDTO> searchSummaries(Specification<Project> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProjectSummaryRowDTO> query = cb.createQuery(ProjectSummaryRowDTO.class);
+        Root<Project> root = query.from(Project.class);
+        selectSummary(query, cb, root);
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+
+        TypedQuery<ProjectSummaryRowDTO> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        List<ProjectSummaryRowDTO> content = typedQuery.getResultList();
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> countSummaries(spec));
+    }
+
+    @Override
+    public List<ProjectSummaryRowDTO> searchSummariesAfter(Specification<Project> spec, Sort.Order order, ProjectSearchCursorDTO cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ProjectSummaryRowDTO> query = cb.createQuery(ProjectSummaryRowDTO.class);
+        Root<Project> root = query.from(Project.class);
+        selectSummary(query, cb, root);
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+        if (cursor != null) {
+            predicates.add(seekPredicate(cb, root, order, cursor));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+
+        Path<Object> sortKey = root.get(order.getProperty());
+        if (order.isAscending()) {
+            query.orderBy(cb.asc(sortKey), cb.asc(root.get(ID)));
+        } else {
+            query.orderBy(cb.desc(sortKey), cb.desc(root.get(ID)));
+        }
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countSummaries(Specification<Project> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Project> root = query.from(Project.class);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private void selectSummary(CriteriaQuery<ProjectSummaryRowDTO> query, CriteriaBuilder cb, Root<Project> root) {
+        query.select(cb.construct(ProjectSummaryRowDTO.class,
+                root.get(ID),
+                root.get("name"),
+                root.get("type"),
+                root.get("startDate"),
+                root.get("deadline"),
+                root.get("status"),
+                root.get("timelineStatus"),
+                root.get("iterationCount")));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private Predicate seekPredicate(CriteriaBuilder cb, Root<Project> root, Sort.Order order, ProjectSearchCursorDTO cursor) {
+        Path<Long> id = root.get(ID);
+        if (ID.equals(order.getProperty())) {
+            return order.isAscending() ? cb.greaterThan(id, cursor.id()) : cb.lessThan(id, cursor.id());
+        }
+
+        Path<Comparable> sortKey = root.get(order.getProperty());
+        Comparable value = toSortValue(sortKey.getJavaType(), cursor.sortValue());
+        if (order.isAscending()) {
+            return cb.or(cb.greaterThan(sortKey, value),
+                    cb.and(cb.equal(sortKey, value), cb.greaterThan(id, cursor.id())));
+        }
+        return cb.or(cb.lessThan(sortKey, value),
+                cb.and(cb.equal(sortKey, value), cb.lessThan(id, cursor.id())));
+    }
+
+    private Comparable<?> toSortValue(Class<?> type, String value) {
+        if (LocalDate.class.equals(type)) {
+            return LocalDate.parse(value);
+        }
+        if (Long.class.equals(type)) {
+            return Long.valueOf(value);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,39 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.ProjectSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface ProjectSummaryRepository extends JpaRepository<ProjectSummary, Long> {
+
+    @Modifying
+    @Query("update ProjectSummary s set s.representativeCount = s.representativeCount + :delta, s.updatedAt = :now " +
+            "where s.projectId = :projectId")
+    int incrementRepresentativeCount(Long projectId, int delta, LocalDateTime now);
+
+    @Modifying
+    @Query("update ProjectSummary s set s.completedResponses = s.completedResponses + :delta, s.updatedAt = :now " +
+            "where s.projectId = :projectId")
+    int incrementCompletedResponses(Long projectId, int delta, LocalDateTime now);
+
+    @Modifying
+    @Query("update ProjectSummary s set s.currentStage = :currentStage, s.currentIteration = :currentIteration, " +
+            "s.currentSituation = :currentSituation, s.timelineReferenceDate = :referenceDate, s.updatedAt = :now " +
+            "where s.projectId = :projectId")
+    int updateTimeline(Long projectId,
+                       String currentStage,
+                       Integer currentIteration,
+                       String currentSituation,
+                       LocalDate referenceDate,
+                       LocalDateTime now);
+
+    @Modifying
+    @Query("update ProjectSummary s set s.timelineReferenceDate = :to " +
+            "where s.timelineReferenceDate = :from and s.projectId not in :excludedProjectIds")
+    int advanceTimelineReferenceDate(LocalDate from, LocalDate to, Collection<Long> excludedProjectIds);
+}
@@ -10,11 +10,13 @@ public interface QuestionRepository extends JpaRepository<Question, Long> {
 
     Page<Question> findByQuestionnaireIdOrderByIdAsc(Integer questionnaireId, Pageable pageable);
 
-    @Query("select q from Question q " +
-            "left join q.roles r " +
-            "where q.questionnaire.id = :questionnaireId " +
-            "and (:questionText is null or lower(q.value) like lower(concat('%', :questionText, '%'))) " +
-            "and (:roleName is null or lower(r.name) like lower(concat('%', :roleName, '%'))) ")
-    Page<Question> searchByQuestionnaireId(Integer questionnaireId, String questionText, String roleName, Pageable pageable);
+    String SEARCH_BY_QUESTIONNAIRE_FILTER = "where q.questionnaire.id = :questionnaireId " +
+            "and (:questionPattern is null or function('immutable_unaccent' as String, lower(q.value)) like :questionPattern escape '\\') " +
+            "and (:rolePattern is null or exists (select 1 from q.roles r " +
+            "where function('immutable_unaccent' as String, lower(r.name)) like :rolePattern escape '\\')) ";
+
+    @Query(value = "select q from Question q " + SEARCH_BY_QUESTIONNAIRE_FILTER,
+            countQuery = "select count(q) from Question q " + SEARCH_BY_QUESTIONNAIRE_FILTER)
+    Page<Question> searchByQuestionnaireId(Integer questionnaireId, String questionPattern, String rolePattern, Pageable pageable);
 }
 
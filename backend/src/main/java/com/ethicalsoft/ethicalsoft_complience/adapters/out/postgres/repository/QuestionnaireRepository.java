@@ -1,6 +1,8 @@
 package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository;
 
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Questionnaire;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.ProjectCountDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.TimelineWindowDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -9,6 +11,7 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +21,16 @@ public interface QuestionnaireRepository extends JpaRepository<Questionnaire, In
 
     List<Questionnaire> findByProjectId(Long projectId);
 
+    long countByProjectId(Long projectId);
+
+    @Query("select new com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.ProjectCountDTO(q.project.id, count(q)) " +
+            "from Questionnaire q where q.project.id in :projectIds group by q.project.id")
+    List<ProjectCountDTO> countByProjectIds(Collection<Long> projectIds);
+
+    @Query("select distinct q.project.id from Questionnaire q " +
+            "where q.applicationStartDate in :dates or q.applicationEndDate in :dates")
+    List<Long> findProjectIdsWithBoundaryOn(Collection<LocalDate> dates);
+
     @Query("select q from Questionnaire q left join fetch q.questions where q.project.id = :projectId")
     List<Questionnaire> findAllByProjectIdWithQuestions(Long projectId);
 
@@ -27,6 +40,12 @@ public interface QuestionnaireRepository extends JpaRepository<Questionnaire, In
     @Query("select q from Questionnaire q where q.applicationStartDate = :today")
     List<Questionnaire> findQuestionnairesStartingToday(LocalDate today);
 
+    @Query("select new com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.TimelineWindowDTO(" +
+            "q.project.id, s.name, q.applicationStartDate, q.applicationEndDate) " +
+            "from Questionnaire q left join q.stage s where q.project.id in :projectIds " +
+            "order by q.project.id, q.id")
+    List<TimelineWindowDTO> findTimelineWindowsByProjectIds(Collection<Long> projectIds);
+
     Optional<Questionnaire> findByIdAndProjectId(Integer questionnaireId, Long projectId);
 
     @Override
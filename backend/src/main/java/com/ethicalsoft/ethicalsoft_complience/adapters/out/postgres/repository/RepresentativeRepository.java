@@ -1,9 +1,12 @@
 package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository;
 
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Representative;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.ProjectCountDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface RepresentativeRepository extends JpaRepository<Representative, Long> {
@@ -16,4 +19,10 @@ public interface RepresentativeRepository extends JpaRepository<Representative,
     Optional<Representative> findByUserIdAndProjectId(Long userId, Long projectId);
 
     boolean existsByUserIdAndProjectId(Long userId, Long projectId);
+
+    long countByProjectId(Long projectId);
+
+    @Query("select new com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.ProjectCountDTO(r.project.id, count(r)) " +
+            "from Representative r where r.project.id in :projectIds group by r.project.id")
+    List<ProjectCountDTO> countByProjectIds(Collection<Long> projectIds);
 }
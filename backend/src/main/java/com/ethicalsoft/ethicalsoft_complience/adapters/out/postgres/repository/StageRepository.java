@@ -1,8 +1,31 @@
 package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository;
 
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Stage;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.ProjectCountDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.TimelineWindowDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 
 public interface StageRepository extends JpaRepository<Stage, Long> {
+
+    long countByProjectId(Long projectId);
+
+    @Query("select new com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.ProjectCountDTO(s.project.id, count(s)) " +
+            "from Stage s where s.project.id in :projectIds group by s.project.id")
+    List<ProjectCountDTO> countByProjectIds(Collection<Long> projectIds);
+
+    @Query("select new com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.TimelineWindowDTO(" +
+            "s.project.id, s.name, s.applicationStartDate, s.applicationEndDate) " +
+            "from Stage s where s.project.id in :projectIds " +
+            "order by s.project.id, s.sequence, s.id")
+    List<TimelineWindowDTO> findTimelineWindowsByProjectIds(Collection<Long> projectIds);
+
+    @Query("select distinct s.project.id from Stage s " +
+            "where s.applicationStartDate in :dates or s.applicationEndDate in :dates")
+    List<Long> findProjectIdsWithBoundaryOn(Collection<LocalDate> dates);
 }
 
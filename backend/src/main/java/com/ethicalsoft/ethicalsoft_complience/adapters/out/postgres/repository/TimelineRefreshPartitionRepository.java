@@ -0,0 +1,21 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.TimelineRefreshPartition;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.TimelineRefreshStatusEnum;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
+
+public interface TimelineRefreshPartitionRepository extends JpaRepository<TimelineRefreshPartition, Long> {
+
+    @Query("select p from TimelineRefreshPartition p where p.runId = :runId " +
+            "and (p.status = :pending or (p.status = :failed and p.attempts < :maxAttempts)) " +
+            "order by p.fromProjectId asc")
+    List<TimelineRefreshPartition> findRetryable(Long runId,
+                                                 TimelineRefreshStatusEnum pending,
+                                                 TimelineRefreshStatusEnum failed,
+                                                 int maxAttempts);
+
+    List<TimelineRefreshPartition> findByRunId(Long runId);
+}
@@ -0,0 +1,24 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.TimelineRefreshRun;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.TimelineRefreshStatusEnum;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface TimelineRefreshRunRepository extends JpaRepository<TimelineRefreshRun, Long> {
+
+    Optional<TimelineRefreshRun> findFirstByReferenceDateAndStatusNotOrderByIdDesc(LocalDate referenceDate, TimelineRefreshStatusEnum status);
+
+    @Modifying
+    @Query("update TimelineRefreshRun r set r.status = :abandoned, r.finishedAt = :now " +
+            "where r.status = :running and r.referenceDate < :referenceDate")
+    int abandonRunsBefore(LocalDate referenceDate,
+                          TimelineRefreshStatusEnum running,
+                          TimelineRefreshStatusEnum abandoned,
+                          LocalDateTime now);
+}
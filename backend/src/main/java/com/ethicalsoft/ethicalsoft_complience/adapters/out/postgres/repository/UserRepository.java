@@ -1,9 +1,12 @@
 package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository;
 
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.User;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.RecipientRoleRowDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -15,4 +18,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     @Query("select distinct u from User u left join fetch u.projects where u.email = :email")
     Optional<User> findWithOwnedProjectsByEmail(String email);
+
+    @Query("select new com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.RecipientRoleRowDTO(u.id, u.email, u.firstName, u.lastName, u.role, role.name) " +
+            "from User u left join Representative r on r.user = u and r.project.id = :projectId left join r.roles role " +
+            "where u.email in :emails order by u.id, r.id, role.id")
+    List<RecipientRoleRowDTO> findRecipientRoles(Long projectId, Collection<String> emails);
 }
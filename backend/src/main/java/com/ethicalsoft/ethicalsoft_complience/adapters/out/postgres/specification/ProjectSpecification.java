@@ -1,14 +1,20 @@
 package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.specification;
 
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Iteration;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Project;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Questionnaire;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Representative;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Stage;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.User;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.request.ProjectSearchRequestDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.ProjectStatusEnum;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.ProjectTypeEnum;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.UserRoleEnum;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.util.StringUtils;
 
@@ -18,13 +24,30 @@ import java.util.List;
 public class ProjectSpecification {
 
 	public static Specification<Project> findByCriteria(ProjectSearchRequestDTO filters, User currentUser) {
+		return findByCriteria(filters, currentUser, false);
+	}
+
+	public static Specification<Project> findByCriteria(ProjectSearchRequestDTO filters, User currentUser, boolean rankByRelevance) {
 
 		return (root, query, cb) -> {
-			query.distinct(true);
 			List<Predicate> predicates = new ArrayList<>();
 
 			if (StringUtils.hasText(filters.getName())) {
-				predicates.add(cb.like(cb.lower(root.get("name")), "%" + filters.getName().toLowerCase() + "%"));
+				predicates.add(TextSearchExpressions.contains(cb, root.get("name"), filters.getName()));
+			}
+
+			if (StringUtils.hasText(filters.getSearch())) {
+				predicates.add(cb.or(
+						TextSearchExpressions.contains(cb, root.get("name"), filters.getSearch()),
+						childNameMatches(query, cb, root, Stage.class, filters.getSearch()),
+						childNameMatches(query, cb, root, Iteration.class, filters.getSearch()),
+						childNameMatches(query, cb, root, Questionnaire.class, filters.getSearch())));
+
+				if (rankByRelevance && !Long.class.equals(query.getResultType())) {
+					query.orderBy(
+							cb.desc(TextSearchExpressions.relevance(cb, root.get("name"), filters.getSearch())),
+							cb.asc(root.get("id")));
+				}
 			}
 
 			if (StringUtils.hasText(filters.getType())) {
@@ -41,12 +64,25 @@ public class ProjectSpecification {
 				if (UserRoleEnum.ADMIN.equals(currentUser.getRole())) {
 					predicates.add(cb.equal(root.get("owner").get("id"), currentUser.getId()));
 				} else {
-					Join<Object, Object> representativeJoin = root.join("representatives", JoinType.LEFT);
-					predicates.add(cb.equal(representativeJoin.get("user").get("id"), currentUser.getId()));
+					Subquery<Long> membership = query.subquery(Long.class);
+					Root<Representative> representative = membership.from(Representative.class);
+					membership.select(representative.get("id"))
+							.where(cb.equal(representative.get("project"), root),
+									cb.equal(representative.get("user").get("id"), currentUser.getId()));
+					predicates.add(cb.exists(membership));
 				}
 			}
 
 			return cb.and(predicates.toArray(new Predicate[0]));
 		};
 	}
+
+	private static <T> Predicate childNameMatches(CriteriaQuery<?> query, CriteriaBuilder cb, Root<Project> project, Class<T> child, String term) {
+		Subquery<Integer> subquery = query.subquery(Integer.class);
+		Root<T> childRoot = subquery.from(child);
+		subquery.select(cb.literal(1))
+				.where(cb.equal(childRoot.get("project"), project),
+						TextSearchExpressions.contains(cb, childRoot.get("name"), term));
+		return cb.exists(subquery);
+	}
 }
\ No newline at end of file
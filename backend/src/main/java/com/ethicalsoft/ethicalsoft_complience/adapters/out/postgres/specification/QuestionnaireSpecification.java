@@ -0,0 +1,61 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.specification;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Iteration;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Questionnaire;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Stage;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.request.QuestionnaireSearchFilter;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class QuestionnaireSpecification {
+
+	public static Specification<Questionnaire> findByCriteria(Long projectId, QuestionnaireSearchFilter filter, boolean rankByRelevance) {
+
+		return (root, query, cb) -> {
+			List<Predicate> predicates = new ArrayList<>();
+			predicates.add(cb.equal(root.get("project").get("id"), projectId));
+
+			if (filter == null) {
+				return cb.and(predicates.toArray(new Predicate[0]));
+			}
+
+			if (StringUtils.hasText(filter.name())) {
+				predicates.add(TextSearchExpressions.contains(cb, root.get("name"), filter.name()));
+			}
+
+			if (StringUtils.hasText(filter.stageName())) {
+				predicates.add(cb.equal(cb.lower(root.get("stage").get("name")), filter.stageName().toLowerCase()));
+			}
+
+			if (StringUtils.hasText(filter.iterationName())) {
+				predicates.add(cb.equal(cb.lower(root.get("iterationRef").get("name")), filter.iterationName().toLowerCase()));
+			}
+
+			if (StringUtils.hasText(filter.search())) {
+				Join<Questionnaire, Stage> stage = root.join("stage", JoinType.LEFT);
+				Join<Questionnaire, Iteration> iteration = root.join("iterationRef", JoinType.LEFT);
+				predicates.add(cb.or(
+						TextSearchExpressions.contains(cb, root.get("name"), filter.search()),
+						TextSearchExpressions.contains(cb, stage.get("name"), filter.search()),
+						TextSearchExpressions.contains(cb, iteration.get("name"), filter.search())));
+
+				if (rankByRelevance && !Long.class.equals(query.getResultType())) {
+					query.orderBy(
+							cb.desc(cb.function("greatest", Double.class,
+									TextSearchExpressions.relevance(cb, root.get("name"), filter.search()),
+									TextSearchExpressions.relevance(cb, stage.get("name"), filter.search()),
+									TextSearchExpressions.relevance(cb, iteration.get("name"), filter.search()))),
+							cb.asc(root.get("id")));
+				}
+			}
+
+			return cb.and(predicates.toArray(new Predicate[0]));
+		};
+	}
+}
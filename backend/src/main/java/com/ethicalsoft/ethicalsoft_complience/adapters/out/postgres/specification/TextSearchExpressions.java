@@ -0,0 +1,64 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.specification;
+
+import com.ethicalsoft.ethicalsoft_complience.exception.BusinessException;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.StringUtils;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+public final class TextSearchExpressions {
+
+	public static final String RELEVANCE_SORT = "relevance";
+
+	private static final String UNACCENT_FUNCTION = "immutable_unaccent";
+	private static final String SIMILARITY_FUNCTION = "word_similarity";
+	private static final char ESCAPE = '\\';
+
+	private TextSearchExpressions() {
+	}
+
+	public static Predicate contains(CriteriaBuilder cb, Expression<String> column, String term) {
+		return cb.like(normalized(cb, column), containsPattern(term), ESCAPE);
+	}
+
+	public static String containsPattern(String term) {
+		return "%" + escape(normalize(term)) + "%";
+	}
+
+	public static Expression<Double> relevance(CriteriaBuilder cb, Expression<String> column, String term) {
+		return cb.coalesce(cb.function(SIMILARITY_FUNCTION, Double.class, cb.literal(normalize(term)), normalized(cb, column)), 0d);
+	}
+
+	public static boolean isRankedByRelevance(Pageable pageable, String term) {
+		if (pageable.getSort().getOrderFor(RELEVANCE_SORT) == null) {
+			return false;
+		}
+		if (!StringUtils.hasText(term)) {
+			throw new BusinessException("Ordenação por relevância exige um termo de busca");
+		}
+		return true;
+	}
+
+	public static Pageable withoutSort(Pageable pageable) {
+		return pageable.isPaged() ? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()) : Pageable.unpaged();
+	}
+
+	public static String normalize(String term) {
+		return Normalizer.normalize(term.trim(), Normalizer.Form.NFD)
+				.replaceAll("\\p{M}", "")
+				.toLowerCase(Locale.ROOT);
+	}
+
+	private static Expression<String> normalized(CriteriaBuilder cb, Expression<String> column) {
+		return cb.function(UNACCENT_FUNCTION, String.class, cb.lower(column));
+	}
+
+	private static String escape(String term) {
+		return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+	}
+}
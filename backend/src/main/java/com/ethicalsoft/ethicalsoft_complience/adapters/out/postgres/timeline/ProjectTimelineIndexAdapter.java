@@ -0,0 +1,145 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.timeline;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Project;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.TimelineWindowDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.IterationRepository;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.ProjectRepository;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.QuestionnaireRepository;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.StageRepository;
+import com.ethicalsoft.ethicalsoft_complience.application.port.timeline.ProjectTimelineIndexPort;
+import com.ethicalsoft.ethicalsoft_complience.domain.service.ProjectTimelineIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class ProjectTimelineIndexAdapter implements ProjectTimelineIndexPort {
+
+    private final ProjectRepository projectRepository;
+    private final StageRepository stageRepository;
+    private final IterationRepository iterationRepository;
+    private final QuestionnaireRepository questionnaireRepository;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Map<Long, CachedIndex> cache;
+
+    @Autowired
+    public ProjectTimelineIndexAdapter(ProjectRepository projectRepository,
+                                       StageRepository stageRepository,
+                                       IterationRepository iterationRepository,
+                                       QuestionnaireRepository questionnaireRepository,
+                                       @Value("${app.timeline.index.cache-size:10000}") int cacheSize,
+                                       @Value("${app.timeline.index.ttl:PT15M}") Duration ttl) {
+        this(projectRepository, stageRepository, iterationRepository, questionnaireRepository, cacheSize, ttl, Clock.systemUTC());
+    }
+
+    ProjectTimelineIndexAdapter(ProjectRepository projectRepository,
+                                StageRepository stageRepository,
+                                IterationRepository iterationRepository,
+                                QuestionnaireRepository questionnaireRepository,
+                                int cacheSize,
+                                Duration ttl,
+                                Clock clock) {
+        this.projectRepository = projectRepository;
+        this.stageRepository = stageRepository;
+        this.iterationRepository = iterationRepository;
+        this.questionnaireRepository = questionnaireRepository;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, CachedIndex> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, ProjectTimelineIndex> findByProjectIds(Collection<Long> projectIds) {
+        Map<Long, ProjectTimelineIndex> indexes = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        Instant now = clock.instant();
+        for (Long projectId : projectIds) {
+            CachedIndex cached = cache.get(projectId);
+            if (cached != null && cached.expiresAt().isAfter(now)) {
+                indexes.put(projectId, cached.index());
+            } else {
+                missing.add(projectId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            Instant expiresAt = now.plus(ttl);
+            load(missing).forEach((projectId, index) -> {
+                cache.put(projectId, new CachedIndex(index, expiresAt));
+                indexes.put(projectId, index);
+            });
+        }
+        return indexes;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ProjectTimelineIndex findByProjectId(Long projectId) {
+        return findByProjectIds(List.of(projectId)).get(projectId);
+    }
+
+    @Override
+    public ProjectTimelineIndex index(Project project) {
+        return ProjectTimelineIndex.of(project);
+    }
+
+    @Override
+    public void evict(Long projectId) {
+        cache.remove(projectId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.remove(projectId);
+                }
+            });
+        }
+    }
+
+    private Map<Long, ProjectTimelineIndex> load(List<Long> projectIds) {
+        Map<Long, List<TimelineWindowDTO>> stages = groupByProject(stageRepository.findTimelineWindowsByProjectIds(projectIds));
+        Map<Long, List<TimelineWindowDTO>> iterations = groupByProject(iterationRepository.findTimelineWindowsByProjectIds(projectIds));
+        Map<Long, List<TimelineWindowDTO>> questionnaires = groupByProject(questionnaireRepository.findTimelineWindowsByProjectIds(projectIds));
+
+        Map<Long, ProjectTimelineIndex> loaded = new HashMap<>();
+        for (TimelineWindowDTO project : projectRepository.findTimelineWindowsByIds(projectIds)) {
+            loaded.put(project.projectId(), ProjectTimelineIndex.of(project.projectId(), project.startDate(),
+                    stages.getOrDefault(project.projectId(), List.of()),
+                    iterations.getOrDefault(project.projectId(), List.of()),
+                    questionnaires.getOrDefault(project.projectId(), List.of())));
+        }
+        log.debug("[timeline-index] Índices carregados para {} projetos", loaded.size());
+        return loaded;
+    }
+
+    private Map<Long, List<TimelineWindowDTO>> groupByProject(List<TimelineWindowDTO> windows) {
+        return windows.stream().collect(Collectors.groupingBy(TimelineWindowDTO::projectId));
+    }
+
+    private record CachedIndex(ProjectTimelineIndex index, Instant expiresAt) {
+    }
+}
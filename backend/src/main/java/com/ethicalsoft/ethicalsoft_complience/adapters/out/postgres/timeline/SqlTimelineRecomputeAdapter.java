@@ -0,0 +1,119 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.timeline;
+
+import com.ethicalsoft.ethicalsoft_complience.application.port.timeline.TimelineBulkRecomputePort;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+@Component
+@Slf4j
+public class SqlTimelineRecomputeAdapter implements TimelineBulkRecomputePort {
+
+    static final String UPDATE_PROJECT_STATUS = statusUpdate("project", "timeline_status", "start_date", "deadline");
+    static final String UPDATE_STAGE_STATUS = statusUpdate("stage", "status", "application_start_date", "application_end_date");
+    static final String UPDATE_ITERATION_STATUS = statusUpdate("iteration", "status", "application_start_date", "application_end_date");
+    static final String UPDATE_QUESTIONNAIRE_STATUS = statusUpdate("questionnaire", "status", "application_start_date", "application_end_date");
+
+    static final String UPDATE_PROJECT_SITUATION = """
+            update project p
+               set current_situation = situation.value
+              from (select pr.project_id,
+                           case pr.type
+                               when 'CASCATA' then (select s.name
+                                                      from stage s
+                                                     where s.project_id = pr.project_id
+                                                       and s.application_start_date <= :today
+                                                       and s.application_end_date >= :today
+                                                     order by s.sequence, s.stage_id
+                                                     limit 1)
+                               when 'ITERATIVO' then 'Sprint ' || (select min(ranked.position)
+                                                                     from (select i.application_start_date,
+                                                                                  i.application_end_date,
+                                                                                  row_number() over (order by i.application_start_date nulls last, i.iteration_id) as position
+                                                                             from iteration i
+                                                                            where i.project_id = pr.project_id) ranked
+                                                                    where ranked.application_start_date <= :today
+                                                                      and ranked.application_end_date >= :today)
+                                                     || '/' || pr.iteration_count
+                           end as value
+                      from project pr) situation
+             where p.project_id = situation.project_id
+               and p.current_situation is distinct from situation.value
+            """;
+
+    static final String UPDATE_SUMMARY_TIMELINE = """
+            update project_summary ps
+               set current_stage = timeline.current_stage,
+                   current_iteration = timeline.current_iteration,
+                   current_situation = case timeline.type
+                                           when 'CASCATA' then timeline.current_stage
+                                           when 'ITERATIVO' then 'Sprint ' || timeline.current_iteration || '/' || timeline.iteration_count
+                                       end,
+                   timeline_reference_date = :today,
+                   updated_at = now()
+              from (select pr.project_id,
+                           pr.type,
+                           pr.iteration_count,
+                           case when pr.type = 'CASCATA' then (select s.name
+                                                                 from questionnaire q
+                                                                 join stage s on s.stage_id = q.stage_id
+                                                                where q.project_id = pr.project_id
+                                                                  and :today between q.application_start_date and q.application_end_date
+                                                                order by q.questionnaire_id
+                                                                limit 1)
+                           end as current_stage,
+                           case when pr.type = 'ITERATIVO' then (select min(ranked.position)
+                                                                   from (select i.application_start_date,
+                                                                                i.application_end_date,
+                                                                                row_number() over (order by i.application_start_date, i.iteration_id) as position
+                                                                           from iteration i
+                                                                          where i.project_id = pr.project_id
+                                                                            and i.application_start_date is not null) ranked
+                                                                  where ranked.application_end_date is not null
+                                                                    and :today between ranked.application_start_date and ranked.application_end_date)
+                           end as current_iteration
+                      from project pr) timeline
+             where ps.project_id = timeline.project_id
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public TimelineRecomputeResult recompute(LocalDate today) {
+        TimelineRecomputeResult result = new TimelineRecomputeResult(
+                execute(UPDATE_PROJECT_STATUS, today),
+                execute(UPDATE_STAGE_STATUS, today),
+                execute(UPDATE_ITERATION_STATUS, today),
+                execute(UPDATE_QUESTIONNAIRE_STATUS, today),
+                execute(UPDATE_PROJECT_SITUATION, today),
+                execute(UPDATE_SUMMARY_TIMELINE, today));
+        log.info("[timeline-sql] Recalculo em lote data={} projetos={} etapas={} iteracoes={} questionarios={} situacoes={} resumos={}",
+                today, result.projects(), result.stages(), result.iterations(), result.questionnaires(), result.situations(), result.summaries());
+        return result;
+    }
+
+    private int execute(String sql, LocalDate today) {
+        return entityManager.createNativeQuery(sql)
+                .setParameter("today", today)
+                .executeUpdate();
+    }
+
+    private static String statusUpdate(String table, String statusColumn, String startColumn, String endColumn) {
+        String resolved = """
+                case
+                    when %1$s = 'CONCLUIDO' then 'CONCLUIDO'
+                    when %2$s is null or %3$s is null then 'PENDENTE'
+                    when :today < %2$s then 'PENDENTE'
+                    when :today <= %3$s then 'EM_ANDAMENTO'
+                    else 'ATRASADO'
+                end""".formatted(statusColumn, startColumn, endColumn);
+        return "update " + table + " set " + statusColumn + " = " + resolved
+                + " where " + statusColumn + " is distinct from " + resolved;
+    }
+}
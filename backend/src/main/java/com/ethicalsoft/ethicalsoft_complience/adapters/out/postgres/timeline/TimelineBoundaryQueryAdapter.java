@@ -0,0 +1,39 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.timeline;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.IterationRepository;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.ProjectRepository;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.QuestionnaireRepository;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.StageRepository;
+import com.ethicalsoft.ethicalsoft_complience.application.port.timeline.TimelineBoundaryQueryPort;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
+import java.util.TreeSet;
+
+@Component
+@RequiredArgsConstructor
+public class TimelineBoundaryQueryAdapter implements TimelineBoundaryQueryPort {
+
+    private final ProjectRepository projectRepository;
+    private final StageRepository stageRepository;
+    private final IterationRepository iterationRepository;
+    private final QuestionnaireRepository questionnaireRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Set<Long> findProjectIdsWithBoundaryOn(Collection<LocalDate> dates) {
+        Set<Long> projectIds = new TreeSet<>();
+        if (dates == null || dates.isEmpty()) {
+            return projectIds;
+        }
+        projectIds.addAll(projectRepository.findIdsWithBoundaryOn(dates));
+        projectIds.addAll(stageRepository.findProjectIdsWithBoundaryOn(dates));
+        projectIds.addAll(iterationRepository.findProjectIdsWithBoundaryOn(dates));
+        projectIds.addAll(questionnaireRepository.findProjectIdsWithBoundaryOn(dates));
+        return projectIds;
+    }
+}
@@ -0,0 +1,106 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.timeline;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.TimelineRefreshPartition;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.TimelineRefreshRun;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.TimelineRefreshStatusEnum;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.ProjectRepository;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.TimelineRefreshPartitionRepository;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.TimelineRefreshRunRepository;
+import com.ethicalsoft.ethicalsoft_complience.application.port.timeline.TimelineRefreshCheckpointPort;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+public class TimelineRefreshCheckpointAdapter implements TimelineRefreshCheckpointPort {
+
+    private final TimelineRefreshRunRepository runRepository;
+    private final TimelineRefreshPartitionRepository partitionRepository;
+    private final ProjectRepository projectRepository;
+
+    @Override
+    public Optional<TimelineRefreshRun> findResumableRun(LocalDate referenceDate) {
+        return runRepository.findFirstByReferenceDateAndStatusNotOrderByIdDesc(referenceDate, TimelineRefreshStatusEnum.DONE);
+    }
+
+    @Override
+    @Transactional
+    public int abandonRunsBefore(LocalDate referenceDate) {
+        return runRepository.abandonRunsBefore(referenceDate, TimelineRefreshStatusEnum.RUNNING, TimelineRefreshStatusEnum.FAILED, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public TimelineRefreshRun startRun(LocalDate referenceDate, int partitionSize) {
+        LocalDateTime now = LocalDateTime.now();
+        TimelineRefreshRun run = runRepository.save(new TimelineRefreshRun(null, referenceDate, TimelineRefreshStatusEnum.RUNNING, 0, 0, now, null));
+
+        Long minId = projectRepository.findMinId();
+        Long maxId = projectRepository.findMaxId();
+        if (minId == null || maxId == null) {
+            return run;
+        }
+
+        List<TimelineRefreshPartition> partitions = new ArrayList<>();
+        for (long fromId = minId; fromId <= maxId; fromId += partitionSize) {
+            long toId = Math.min(fromId + partitionSize - 1, maxId);
+            partitions.add(new TimelineRefreshPartition(null, run.getId(), fromId, toId, TimelineRefreshStatusEnum.PENDING, 0, 0, 0, now));
+        }
+        partitionRepository.saveAll(partitions);
+        return run;
+    }
+
+    @Override
+    public List<TimelineRefreshPartition> findPendingPartitions(Long runId, int maxAttempts) {
+        return partitionRepository.findRetryable(runId, TimelineRefreshStatusEnum.PENDING, TimelineRefreshStatusEnum.FAILED, maxAttempts);
+    }
+
+    @Override
+    @Transactional
+    public void markPartitionDone(Long partitionId, int processedProjects, int failedProjects) {
+        TimelineRefreshPartition partition = loadPartition(partitionId);
+        partition.setStatus(TimelineRefreshStatusEnum.DONE);
+        partition.setProcessedProjects(processedProjects);
+        partition.setFailedProjects(failedProjects);
+        partition.setUpdatedAt(LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void markPartitionFailed(Long partitionId) {
+        TimelineRefreshPartition partition = loadPartition(partitionId);
+        partition.setStatus(TimelineRefreshStatusEnum.FAILED);
+        partition.setAttempts(partition.getAttempts() + 1);
+        partition.setUpdatedAt(LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public TimelineRefreshRun finishRun(Long runId) {
+        TimelineRefreshRun run = runRepository.findById(runId)
+                .orElseThrow(() -> new EntityNotFoundException("Execução de timeline não encontrada: " + runId));
+        List<TimelineRefreshPartition> partitions = partitionRepository.findByRunId(runId);
+
+        run.setProcessedProjects(partitions.stream().mapToInt(TimelineRefreshPartition::getProcessedProjects).sum());
+        run.setFailedProjects(partitions.stream().mapToInt(TimelineRefreshPartition::getFailedProjects).sum());
+        run.setStatus(partitions.stream().allMatch(p -> p.getStatus() == TimelineRefreshStatusEnum.DONE)
+                ? TimelineRefreshStatusEnum.DONE
+                : TimelineRefreshStatusEnum.FAILED);
+        run.setFinishedAt(LocalDateTime.now());
+        return run;
+    }
+
+    private TimelineRefreshPartition loadPartition(Long partitionId) {
+        return partitionRepository.findById(partitionId)
+                .orElseThrow(() -> new EntityNotFoundException("Partição de timeline não encontrada: " + partitionId));
+    }
+}
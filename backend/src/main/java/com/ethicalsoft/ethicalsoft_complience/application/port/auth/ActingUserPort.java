@@ -0,0 +1,9 @@
+package com.ethicalsoft.ethicalsoft_complience.application.port.auth;
+
+import java.util.Optional;
+
+public interface ActingUserPort {
+    Optional<Long> findCurrentUserId();
+
+    void runAs(Long userId, Runnable action);
+}
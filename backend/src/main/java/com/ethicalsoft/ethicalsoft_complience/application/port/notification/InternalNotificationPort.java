@@ -2,7 +2,20 @@ package com.ethicalsoft.ethicalsoft_complience.application.port.notification;
 
 import com.ethicalsoft.ethicalsoft_complience.domain.notification.Notification;
 
+import java.util.List;
+
 public interface InternalNotificationPort {
     Notification save(Notification notification);
-}
 
+    BatchSaveResult saveAll(List<Notification> notifications, String deliveryKey);
+
+    record BatchSaveResult(List<Notification> saved, List<FailedNotification> failures) {
+
+        public boolean hasFailures() {
+            return !failures.isEmpty();
+        }
+    }
+
+    record FailedNotification(int index, Notification notification, String error) {
+    }
+}
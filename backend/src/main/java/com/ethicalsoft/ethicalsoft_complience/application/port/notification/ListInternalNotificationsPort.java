@@ -1,9 +1,20 @@
 package com.ethicalsoft.ethicalsoft_complience.application.port.notification;
 
 import com.ethicalsoft.ethicalsoft_complience.domain.notification.Notification;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationStatus;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ListInternalNotificationsPort {
     List<Notification> listUnseenForRecipient(Long recipientUserId);
+
+    List<Notification> listInboxPage(Long recipientUserId, NotificationStatus status, LocalDateTime beforeCreatedAt, String beforeId, int limit);
+
+    long countUnread(Long recipientUserId);
+
+    List<Notification> listAfter(Long recipientUserId, String afterId, int limit);
+
+    List<Notification> listByIds(Collection<String> ids);
 }
@@ -0,0 +1,7 @@
+package com.ethicalsoft.ethicalsoft_complience.application.port.notification;
+
+import java.time.LocalDateTime;
+
+public interface NotificationArchivePort {
+    int archiveReadBefore(LocalDateTime readBefore, int limit);
+}
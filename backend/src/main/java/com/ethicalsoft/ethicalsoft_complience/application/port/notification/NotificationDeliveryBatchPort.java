@@ -0,0 +1,11 @@
+package com.ethicalsoft.ethicalsoft_complience.application.port.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.command.SendNotificationCommand;
+
+public interface NotificationDeliveryBatchPort {
+    void runBatched(Runnable delivery);
+
+    default void runBatched(SendNotificationCommand command, Runnable delivery) {
+        runBatched(delivery);
+    }
+}
@@ -0,0 +1,12 @@
+package com.ethicalsoft.ethicalsoft_complience.application.port.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationDeliveryKey;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface NotificationDeliveryLedgerPort {
+    Set<NotificationDeliveryKey> claimAll(Collection<NotificationDeliveryKey> keys);
+
+    void release(Collection<NotificationDeliveryKey> keys);
+}
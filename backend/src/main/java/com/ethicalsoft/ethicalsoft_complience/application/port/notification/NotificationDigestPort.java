@@ -0,0 +1,25 @@
+package com.ethicalsoft.ethicalsoft_complience.application.port.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationDigestPort {
+    void buffer(DigestEntry entry);
+
+    List<String> findDueRecipients(LocalDateTime openedBefore, int limit);
+
+    List<DigestEntry> drain(String recipientEmail);
+
+    record DigestEntry(Long id,
+                       NotificationType type,
+                       Long recipientUserId,
+                       String recipientEmail,
+                       String recipientName,
+                       List<String> recipientRoles,
+                       String title,
+                       String body,
+                       LocalDateTime createdAt) {
+    }
+}
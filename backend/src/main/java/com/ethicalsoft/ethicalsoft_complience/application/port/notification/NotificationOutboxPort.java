@@ -0,0 +1,25 @@
+package com.ethicalsoft.ethicalsoft_complience.application.port.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.command.SendNotificationCommand;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxPort {
+    boolean enqueue(SendNotificationCommand command, Long actorUserId);
+
+    List<OutboxNotification> claimDue(int limit);
+
+    void markSent(Long id);
+
+    void markForRetry(Long id, String error, LocalDateTime nextAttemptAt);
+
+    void markDead(Long id, String error);
+
+    int releaseStale(LocalDateTime lockedBefore);
+
+    void renewLease(Long id);
+
+    record OutboxNotification(Long id, SendNotificationCommand command, Long actorUserId, int attempts) {
+    }
+}
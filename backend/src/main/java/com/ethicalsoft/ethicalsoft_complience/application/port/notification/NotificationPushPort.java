@@ -0,0 +1,9 @@
+package com.ethicalsoft.ethicalsoft_complience.application.port.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.Notification;
+
+import java.util.List;
+
+public interface NotificationPushPort {
+    void publish(List<Notification> notifications);
+}
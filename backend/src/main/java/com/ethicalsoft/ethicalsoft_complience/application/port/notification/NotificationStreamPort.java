@@ -0,0 +1,7 @@
+package com.ethicalsoft.ethicalsoft_complience.application.port.notification;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface NotificationStreamPort {
+    SseEmitter subscribe(Long userId, String lastEventId);
+}
@@ -0,0 +1,8 @@
+package com.ethicalsoft.ethicalsoft_complience.application.port.notification;
+
+public interface NotificationTemplateRegistryPort {
+
+    int reloadAll();
+
+    int refreshChanged();
+}
@@ -3,6 +3,7 @@ package com.ethicalsoft.ethicalsoft_complience.application.port.project;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.User;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.request.ProjectSearchRequestDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.request.QuestionnaireSearchFilter;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.ProjectCursorPageResponseDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.ProjectDetailResponseDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.ProjectSummaryResponseDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.QuestionnaireSummaryResponseDTO;
@@ -11,6 +12,7 @@ import org.springframework.data.domain.Pageable;
 
 public interface ProjectQueryPort {
     Page<ProjectSummaryResponseDTO> search(ProjectSearchRequestDTO filters, Pageable pageable);
+    ProjectCursorPageResponseDTO searchByCursor(ProjectSearchRequestDTO filters, Pageable pageable);
     ProjectDetailResponseDTO getProjectDetail(Long projectId);
     Page<QuestionnaireSummaryResponseDTO> listQuestionnaires(Long projectId, Pageable pageable, QuestionnaireSearchFilter filter);
     User getCurrentUser();
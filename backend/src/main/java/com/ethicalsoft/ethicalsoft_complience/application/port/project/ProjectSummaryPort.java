@@ -0,0 +1,29 @@
+package com.ethicalsoft.ethicalsoft_complience.application.port.project;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.ProjectSummary;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.QuestionnaireResponseStatus;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ProjectSummaryPort {
+    Map<Long, ProjectSummary> findByProjectIds(Collection<Long> projectIds);
+
+    ProjectSummary compute(Long projectId, LocalDate referenceDate);
+
+    ProjectSummary rebuild(Long projectId);
+
+    Map<Long, ProjectSummary> rebuildAll(Collection<Long> projectIds);
+
+    void incrementRepresentativeCount(Long projectId, int delta);
+
+    void recordResponseStatusChange(Long projectId, QuestionnaireResponseStatus previous, QuestionnaireResponseStatus current);
+
+    void refreshTimeline(Long projectId, LocalDate referenceDate);
+
+    int advanceTimelineReferenceDate(LocalDate from, LocalDate to, Collection<Long> excludedProjectIds);
+
+    List<Long> findAllProjectIds();
+}
@@ -0,0 +1,17 @@
+package com.ethicalsoft.ethicalsoft_complience.application.port.timeline;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Project;
+import com.ethicalsoft.ethicalsoft_complience.domain.service.ProjectTimelineIndex;
+
+import java.util.Collection;
+import java.util.Map;
+
+public interface ProjectTimelineIndexPort {
+    Map<Long, ProjectTimelineIndex> findByProjectIds(Collection<Long> projectIds);
+
+    ProjectTimelineIndex findByProjectId(Long projectId);
+
+    ProjectTimelineIndex index(Project project);
+
+    void evict(Long projectId);
+}
@@ -0,0 +1,9 @@
+package com.ethicalsoft.ethicalsoft_complience.application.port.timeline;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Set;
+
+public interface TimelineBoundaryQueryPort {
+    Set<Long> findProjectIdsWithBoundaryOn(Collection<LocalDate> dates);
+}
@@ -0,0 +1,13 @@
+package com.ethicalsoft.ethicalsoft_complience.application.port.timeline;
+
+import java.time.LocalDate;
+
+public interface TimelineBulkRecomputePort {
+    TimelineRecomputeResult recompute(LocalDate today);
+
+    record TimelineRecomputeResult(int projects, int stages, int iterations, int questionnaires, int situations, int summaries) {
+        public int total() {
+            return projects + stages + iterations + questionnaires + situations + summaries;
+        }
+    }
+}
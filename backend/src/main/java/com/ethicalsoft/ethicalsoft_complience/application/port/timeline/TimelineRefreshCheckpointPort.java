@@ -0,0 +1,24 @@
+package com.ethicalsoft.ethicalsoft_complience.application.port.timeline;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.TimelineRefreshPartition;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.TimelineRefreshRun;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface TimelineRefreshCheckpointPort {
+    Optional<TimelineRefreshRun> findResumableRun(LocalDate referenceDate);
+
+    int abandonRunsBefore(LocalDate referenceDate);
+
+    TimelineRefreshRun startRun(LocalDate referenceDate, int partitionSize);
+
+    List<TimelineRefreshPartition> findPendingPartitions(Long runId, int maxAttempts);
+
+    void markPartitionDone(Long partitionId, int processedProjects, int failedProjects);
+
+    void markPartitionFailed(Long partitionId);
+
+    TimelineRefreshRun finishRun(Long runId);
+}
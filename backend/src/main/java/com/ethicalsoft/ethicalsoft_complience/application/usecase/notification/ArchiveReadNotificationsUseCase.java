@@ -0,0 +1,60 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationArchivePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Service
+@Slf4j
+public class ArchiveReadNotificationsUseCase {
+
+    private final NotificationArchivePort notificationArchivePort;
+    private final Duration readAge;
+    private final int batchSize;
+    private final int maxBatches;
+
+    private final Timer batchTimer;
+    private final Counter movedCounter;
+
+    public ArchiveReadNotificationsUseCase(NotificationArchivePort notificationArchivePort,
+                                           MeterRegistry meterRegistry,
+                                           @Value("${app.notification.archive.read-age:P30D}") Duration readAge,
+                                           @Value("${app.notification.archive.batch-size:1000}") int batchSize,
+                                           @Value("${app.notification.archive.max-batches:500}") int maxBatches) {
+        this.notificationArchivePort = notificationArchivePort;
+        this.readAge = readAge;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatches = Math.max(1, maxBatches);
+        this.batchTimer = meterRegistry.timer("notification.archive.batch");
+        this.movedCounter = meterRegistry.counter("notification.archive.moved");
+    }
+
+    public long execute() {
+        LocalDateTime readBefore = LocalDateTime.now().minus(readAge);
+        long startedAt = System.nanoTime();
+        long moved = 0;
+        for (int batch = 0; batch < maxBatches; batch++) {
+            long batchStartedAt = System.nanoTime();
+            int archived = notificationArchivePort.archiveReadBefore(readBefore, batchSize);
+            batchTimer.record(Duration.ofNanos(System.nanoTime() - batchStartedAt));
+            movedCounter.increment(archived);
+            moved += archived;
+            if (archived == 0) {
+                break;
+            }
+        }
+        if (moved > 0) {
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+            log.info("[notification-archive] {} notificações lidas arquivadas em {} ms (lidas antes de {})",
+                    moved, elapsed.toMillis(), readBefore);
+        }
+        return moved;
+    }
+}
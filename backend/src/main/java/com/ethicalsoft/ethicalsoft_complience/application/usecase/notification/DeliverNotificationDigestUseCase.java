@@ -0,0 +1,57 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationDigestPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationDigestPort.DigestEntry;
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.command.SendNotificationCommand;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+public class DeliverNotificationDigestUseCase {
+
+    private final NotificationDigestPort notificationDigestPort;
+    private final SendNotificationUseCase sendNotificationUseCase;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int execute(String recipientEmail) {
+        List<DigestEntry> entries = notificationDigestPort.drain(recipientEmail);
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        DigestEntry latest = entries.getLast();
+        sendNotificationUseCase.execute(new SendNotificationCommand(
+                NotificationType.NOTIFICATION_DIGEST,
+                buildContext(latest, entries),
+                NotificationType.NOTIFICATION_DIGEST.name() + ":" + recipientEmail + ":" + latest.id()
+        ));
+        return entries.size();
+    }
+
+    private Map<String, Object> buildContext(DigestEntry latest, List<DigestEntry> entries) {
+        List<Map<String, Object>> items = new ArrayList<>(entries.size());
+        for (DigestEntry entry : entries) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("type", entry.type().name());
+            item.put("title", entry.title());
+            item.put("body", entry.body());
+            item.put("createdAt", entry.createdAt());
+            items.add(item);
+        }
+        Map<String, Object> context = new LinkedHashMap<>();
+        context.put("recipientEmail", latest.recipientEmail());
+        context.put("recipientUserId", latest.recipientUserId());
+        context.put("recipientName", latest.recipientName());
+        context.put("recipientRoles", latest.recipientRoles());
+        context.put("items", items);
+        return context;
+    }
+}
@@ -0,0 +1,171 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.application.port.auth.ActingUserPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationOutboxPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationOutboxPort.OutboxNotification;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@Slf4j
+public class DispatchNotificationOutboxUseCase {
+
+    private final NotificationOutboxPort notificationOutboxPort;
+    private final SendNotificationUseCase sendNotificationUseCase;
+    private final ActingUserPort actingUserPort;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration processingTimeout;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService leaseRenewer = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().factory());
+    private final Semaphore permits;
+
+    private final Timer deliveryTimer;
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter deadCounter;
+
+    public DispatchNotificationOutboxUseCase(NotificationOutboxPort notificationOutboxPort,
+                                             SendNotificationUseCase sendNotificationUseCase,
+                                             ActingUserPort actingUserPort,
+                                             MeterRegistry meterRegistry,
+                                             @Value("${app.notification.outbox.workers:8}") int workers,
+                                             @Value("${app.notification.outbox.batch-size:100}") int batchSize,
+                                             @Value("${app.notification.outbox.max-attempts:6}") int maxAttempts,
+                                             @Value("${app.notification.outbox.initial-backoff:PT30S}") Duration initialBackoff,
+                                             @Value("${app.notification.outbox.max-backoff:PT1H}") Duration maxBackoff,
+                                             @Value("${app.notification.outbox.processing-timeout:PT10M}") Duration processingTimeout) {
+        this.notificationOutboxPort = notificationOutboxPort;
+        this.sendNotificationUseCase = sendNotificationUseCase;
+        this.actingUserPort = actingUserPort;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.processingTimeout = processingTimeout;
+        this.permits = new Semaphore(Math.max(1, workers));
+        this.deliveryTimer = meterRegistry.timer("notification.outbox.delivery");
+        this.sentCounter = meterRegistry.counter("notification.outbox.sent");
+        this.retryCounter = meterRegistry.counter("notification.outbox.retries");
+        this.deadCounter = meterRegistry.counter("notification.outbox.dead");
+    }
+
+    public int execute() {
+        int released = notificationOutboxPort.releaseStale(LocalDateTime.now().minus(processingTimeout));
+        if (released > 0) {
+            log.warn("[notification-outbox] {} mensagens presas em processamento foram liberadas", released);
+        }
+
+        List<OutboxNotification> batch = notificationOutboxPort.claimDue(batchSize);
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<Future<?>> futures = new ArrayList<>(batch.size());
+        for (OutboxNotification notification : batch) {
+            futures.add(executor.submit(() -> dispatchWithPermit(notification)));
+        }
+        for (Future<?> future : futures) {
+            await(future);
+        }
+        return batch.size();
+    }
+
+    private void dispatchWithPermit(OutboxNotification notification) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            notificationOutboxPort.markForRetry(notification.id(), "interrompido", LocalDateTime.now());
+            return;
+        }
+        try {
+            dispatch(notification);
+        } finally {
+            permits.release();
+        }
+    }
+
+    void dispatch(OutboxNotification notification) {
+        long startedAt = System.nanoTime();
+        long renewEvery = Math.max(1, processingTimeout.toMillis() / 3);
+        ScheduledFuture<?> lease = leaseRenewer.scheduleAtFixedRate(() -> renewLease(notification),
+                renewEvery, renewEvery, TimeUnit.MILLISECONDS);
+        try {
+            actingUserPort.runAs(notification.actorUserId(), () -> sendNotificationUseCase.deliver(notification.command()));
+            notificationOutboxPort.markSent(notification.id());
+            sentCounter.increment();
+        } catch (Exception ex) {
+            handleFailure(notification, ex);
+        } finally {
+            lease.cancel(false);
+            deliveryTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+    }
+
+    private void renewLease(OutboxNotification notification) {
+        try {
+            notificationOutboxPort.renewLease(notification.id());
+        } catch (Exception ex) {
+            log.warn("[notification-outbox] Falha ao renovar lock da notificação id={}", notification.id(), ex);
+        }
+    }
+
+    private void handleFailure(OutboxNotification notification, Exception ex) {
+        String error = ex.getClass().getSimpleName() + ": " + ex.getMessage();
+        if (notification.attempts() >= maxAttempts) {
+            log.error("[notification-outbox] Notificação id={} tipo={} enviada para dead-letter após {} tentativas",
+                    notification.id(), notification.command().type(), notification.attempts(), ex);
+            notificationOutboxPort.markDead(notification.id(), error);
+            deadCounter.increment();
+            return;
+        }
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(notification.attempts()));
+        log.warn("[notification-outbox] Falha ao entregar notificação id={} tipo={} tentativa={} próxima={}",
+                notification.id(), notification.command().type(), notification.attempts(), nextAttemptAt, ex);
+        notificationOutboxPort.markForRetry(notification.id(), error, nextAttemptAt);
+        retryCounter.increment();
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            log.error("[notification-outbox] Falha inesperada no worker de notificações", ex.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        leaseRenewer.shutdown();
+    }
+}
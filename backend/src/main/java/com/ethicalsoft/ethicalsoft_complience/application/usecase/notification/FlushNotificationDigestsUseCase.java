@@ -0,0 +1,63 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationDigestPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Slf4j
+public class FlushNotificationDigestsUseCase {
+
+    private final NotificationDigestPort notificationDigestPort;
+    private final DeliverNotificationDigestUseCase deliverNotificationDigestUseCase;
+    private final Duration window;
+    private final int batchSize;
+
+    private final Counter digestCounter;
+    private final Counter failedCounter;
+    private final DistributionSummary itemsSummary;
+
+    public FlushNotificationDigestsUseCase(NotificationDigestPort notificationDigestPort,
+                                           DeliverNotificationDigestUseCase deliverNotificationDigestUseCase,
+                                           MeterRegistry meterRegistry,
+                                           @Value("${app.notification.digest.window:PT1H}") Duration window,
+                                           @Value("${app.notification.digest.batch-size:200}") int batchSize) {
+        this.notificationDigestPort = notificationDigestPort;
+        this.deliverNotificationDigestUseCase = deliverNotificationDigestUseCase;
+        this.window = window;
+        this.batchSize = Math.max(1, batchSize);
+        this.digestCounter = meterRegistry.counter("notification.digest.sent");
+        this.failedCounter = meterRegistry.counter("notification.digest.failed");
+        this.itemsSummary = meterRegistry.summary("notification.digest.items");
+    }
+
+    public int execute() {
+        List<String> recipients = notificationDigestPort.findDueRecipients(LocalDateTime.now().minus(window), batchSize);
+        int delivered = 0;
+        for (String recipient : recipients) {
+            try {
+                int items = deliverNotificationDigestUseCase.execute(recipient);
+                if (items > 0) {
+                    delivered++;
+                    digestCounter.increment();
+                    itemsSummary.record(items);
+                }
+            } catch (Exception ex) {
+                failedCounter.increment();
+                log.error("[notification-digest] Falha ao entregar resumo de notificações para {}", recipient, ex);
+            }
+        }
+        if (delivered > 0) {
+            log.info("[notification-digest] {} resumos de notificações gerados", delivered);
+        }
+        return delivered;
+    }
+}
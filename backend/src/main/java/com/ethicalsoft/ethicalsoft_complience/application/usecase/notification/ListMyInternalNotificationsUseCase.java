@@ -1,10 +1,18 @@
 package com.ethicalsoft.ethicalsoft_complience.application.usecase.notification;
 
+import com.ethicalsoft.ethicalsoft_complience.adapters.in.web.dto.notification.NotificationInboxCursorDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.in.web.dto.notification.NotificationInboxPageResponseDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.in.web.dto.notification.NotificationResponseDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.in.web.dto.notification.UnreadNotificationCountResponseDTO;
 import com.ethicalsoft.ethicalsoft_complience.application.port.auth.CurrentUserPort;
 import com.ethicalsoft.ethicalsoft_complience.application.port.notification.ListInternalNotificationsPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationStreamPort;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.Notification;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -12,8 +20,11 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ListMyInternalNotificationsUseCase {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ListInternalNotificationsPort listInternalNotificationsPort;
     private final CurrentUserPort currentUserPort;
+    private final NotificationStreamPort notificationStreamPort;
 
     public List<NotificationResponseDTO> executeOnlyUnseen() {
         Long userId = currentUserPort.getCurrentUser().getId();
@@ -22,4 +33,35 @@ public class ListMyInternalNotificationsUseCase {
                 .map(NotificationResponseDTO::fromDomain)
                 .toList();
     }
+
+    public NotificationInboxPageResponseDTO executeInbox(String cursor, int size, NotificationStatus status) {
+        Long userId = currentUserPort.getCurrentUser().getId();
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        NotificationInboxCursorDTO after = StringUtils.hasText(cursor) ? NotificationInboxCursorDTO.decode(cursor) : null;
+
+        List<Notification> fetched = listInternalNotificationsPort.listInboxPage(userId, status,
+                after != null ? after.createdAt() : null,
+                after != null ? after.id() : null,
+                pageSize + 1);
+        boolean hasNext = fetched.size() > pageSize;
+        List<Notification> page = hasNext ? fetched.subList(0, pageSize) : fetched;
+        Notification last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return NotificationInboxPageResponseDTO.builder()
+                .content(page.stream().map(NotificationResponseDTO::fromDomain).toList())
+                .size(pageSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? new NotificationInboxCursorDTO(last.createdAt(), last.id()).encode() : null)
+                .build();
+    }
+
+    public UnreadNotificationCountResponseDTO executeUnreadCount() {
+        Long userId = currentUserPort.getCurrentUser().getId();
+        return new UnreadNotificationCountResponseDTO(listInternalNotificationsPort.countUnread(userId));
+    }
+
+    public SseEmitter executeStream(String lastEventId) {
+        Long userId = currentUserPort.getCurrentUser().getId();
+        return notificationStreamPort.subscribe(userId, lastEventId);
+    }
 }
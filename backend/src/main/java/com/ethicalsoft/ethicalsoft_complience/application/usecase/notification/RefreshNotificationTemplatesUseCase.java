@@ -0,0 +1,24 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationTemplateRegistryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshNotificationTemplatesUseCase {
+
+    private final NotificationTemplateRegistryPort notificationTemplateRegistryPort;
+
+    public int execute() {
+        int loaded = notificationTemplateRegistryPort.reloadAll();
+        log.info("[usecase-refresh-templates] Templates de notificação recarregados total={}", loaded);
+        return loaded;
+    }
+
+    public int refreshChanged() {
+        return notificationTemplateRegistryPort.refreshChanged();
+    }
+}
@@ -0,0 +1,132 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.notification;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+@Component
+@Slf4j
+public class ReminderFanOutExecutor {
+
+    private final MeterRegistry meterRegistry;
+    private final int concurrency;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, ReminderRunReport> lastReports = new ConcurrentHashMap<>();
+
+    public ReminderFanOutExecutor(MeterRegistry meterRegistry,
+                                  @Value("${app.notification.reminders.concurrency:8}") int concurrency) {
+        this.meterRegistry = meterRegistry;
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    public <K, T> ReminderRunReport run(String job, Map<K, List<T>> groups, Consumer<T> action) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        Timer itemTimer = Timer.builder("notification.reminder.item")
+                .tag("job", job)
+                .publishPercentiles(0.95)
+                .register(meterRegistry);
+        Counter succeededCounter = meterRegistry.counter("notification.reminder.items", "job", job, "outcome", "success");
+        Counter failedCounter = meterRegistry.counter("notification.reminder.items", "job", job, "outcome", "failure");
+
+        Semaphore permits = new Semaphore(concurrency);
+        Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicInteger succeededItems = new AtomicInteger();
+        AtomicInteger failedItems = new AtomicInteger();
+        AtomicInteger failedGroups = new AtomicInteger();
+        int items = 0;
+
+        List<Future<?>> futures = new ArrayList<>(groups.size());
+        for (Map.Entry<K, List<T>> group : groups.entrySet()) {
+            try {
+                permits.acquire();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                log.warn("[reminder-fanout] Execução interrompida job={} grupos pendentes descartados", job);
+                break;
+            }
+            items += group.getValue().size();
+            futures.add(executor.submit(() -> {
+                boolean groupFailed = false;
+                try {
+                    for (T item : group.getValue()) {
+                        long begin = System.nanoTime();
+                        try {
+                            action.accept(item);
+                            succeededItems.incrementAndGet();
+                            succeededCounter.increment();
+                        } catch (Exception ex) {
+                            groupFailed = true;
+                            failedItems.incrementAndGet();
+                            failedCounter.increment();
+                            log.error("[reminder-fanout] Falha ao processar item job={} chave={}", job, group.getKey(), ex);
+                        } finally {
+                            long elapsed = System.nanoTime() - begin;
+                            latencies.add(elapsed);
+                            itemTimer.record(elapsed, TimeUnit.NANOSECONDS);
+                        }
+                    }
+                } finally {
+                    if (groupFailed) {
+                        failedGroups.incrementAndGet();
+                    }
+                    permits.release();
+                }
+            }));
+        }
+        futures.forEach(this::await);
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        ReminderRunReport report = new ReminderRunReport(
+                job,
+                startedAt,
+                LocalDateTime.now(),
+                groups.size(),
+                items,
+                succeededItems.get(),
+                failedItems.get(),
+                failedGroups.get(),
+                TimeUnit.NANOSECONDS.toMillis(percentile(sorted, 0.95)),
+                TimeUnit.NANOSECONDS.toMillis(sorted.length == 0 ? 0 : sorted[sorted.length - 1]));
+        lastReports.put(job, report);
+        log.info("[reminder-fanout] Execução concluída job={} grupos={} itens={} sucesso={} falhas={} p95={}ms",
+                job, report.groups(), report.items(), report.succeededItems(), report.failedItems(), report.p95ItemLatencyMillis());
+        return report;
+    }
+
+    public Map<String, ReminderRunReport> lastReports() {
+        return Map.copyOf(lastReports);
+    }
+
+    static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    private void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ex) {
+            log.error("[reminder-fanout] Falha inesperada no worker de lembretes", ex.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,17 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.notification;
+
+import java.time.LocalDateTime;
+
+public record ReminderRunReport(
+        String job,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        int groups,
+        int items,
+        int succeededItems,
+        int failedItems,
+        int failedGroups,
+        long p95ItemLatencyMillis,
+        long maxItemLatencyMillis
+) {
+}
@@ -1,35 +1,100 @@
 package com.ethicalsoft.ethicalsoft_complience.application.usecase.notification;
 
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.notification.NotificationTypeStrategy;
+import com.ethicalsoft.ethicalsoft_complience.application.port.auth.ActingUserPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationDeliveryBatchPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationOutboxPort;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.command.SendNotificationCommand;
 import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationType;
 import com.ethicalsoft.ethicalsoft_complience.exception.BusinessException;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class SendNotificationUseCase {
 
-    private final List<NotificationTypeStrategy> strategies;
+    private final Map<NotificationType, NotificationTypeStrategy> strategyMap = new EnumMap<>(NotificationType.class);
+    private final NotificationOutboxPort notificationOutboxPort;
+    private final ActingUserPort actingUserPort;
+    private final List<NotificationDeliveryBatchPort> notificationDeliveryBatchPorts;
+    private final TransactionTemplate strategyTransaction;
+    private final boolean outboxEnabled;
+
+    public SendNotificationUseCase(List<NotificationTypeStrategy> strategies,
+                                   NotificationOutboxPort notificationOutboxPort,
+                                   ActingUserPort actingUserPort,
+                                   List<NotificationDeliveryBatchPort> notificationDeliveryBatchPorts,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${app.notification.outbox.enabled:true}") boolean outboxEnabled) {
+        strategies.forEach(strategy -> strategyMap.put(strategy.type(), strategy));
+        this.notificationOutboxPort = notificationOutboxPort;
+        this.actingUserPort = actingUserPort;
+        this.notificationDeliveryBatchPorts = List.copyOf(notificationDeliveryBatchPorts);
+        this.strategyTransaction = new TransactionTemplate(transactionManager);
+        this.strategyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.outboxEnabled = outboxEnabled;
+    }
 
     @Transactional
     public void execute(SendNotificationCommand command) {
-        NotificationType type = command.type();
-        Map<NotificationType, NotificationTypeStrategy> strategyMap = new EnumMap<>(NotificationType.class);
-        for (NotificationTypeStrategy strategy : strategies) {
-            strategyMap.put(strategy.type(), strategy);
+        if (!outboxEnabled || command.type().containsSecret()) {
+            deliverAfterCommit(command);
+            return;
+        }
+        resolveStrategy(command.type());
+        boolean enqueued = notificationOutboxPort.enqueue(command, actingUserPort.findCurrentUserId().orElse(null));
+        if (!enqueued) {
+            log.info("[notification] Notificação já enfileirada tipo={} chave={}", command.type(), command.idempotencyKey());
+        }
+    }
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void executeInNewTransaction(SendNotificationCommand command) {
+        execute(command);
+    }
+
+    public void deliver(SendNotificationCommand command) {
+        var strategy = resolveStrategy(command.type());
+        Runnable delivery = () -> strategyTransaction.executeWithoutResult(status -> strategy.send(command));
+        for (int i = notificationDeliveryBatchPorts.size() - 1; i >= 0; i--) {
+            NotificationDeliveryBatchPort batchPort = notificationDeliveryBatchPorts.get(i);
+            Runnable inner = delivery;
+            delivery = () -> batchPort.runBatched(command, inner);
+        }
+        delivery.run();
+    }
+
+    private void deliverAfterCommit(SendNotificationCommand command) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deliver(command);
+            return;
         }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deliver(command);
+            }
+        });
+    }
 
+    private NotificationTypeStrategy resolveStrategy(NotificationType type) {
         var strategy = strategyMap.get(type);
         if (strategy == null) {
             throw new BusinessException("No strategy found for notification type: " + type);
         }
-        strategy.send(command);
+        return strategy;
     }
 }
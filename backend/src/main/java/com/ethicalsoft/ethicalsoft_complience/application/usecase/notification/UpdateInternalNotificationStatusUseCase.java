@@ -31,7 +31,8 @@ public class UpdateInternalNotificationStatusUseCase {
             throw new AccessDeniedException("Usuário não autorizado a atualizar o status desta notificação.");
         }
 
-        port.save(notification.withStatus(newStatus, LocalDateTime.now()));
+        port.updateStatus(notificationId, newStatus, LocalDateTime.now())
+                .orElseThrow(() -> new BusinessException("Notification not found"));
     }
 }
 
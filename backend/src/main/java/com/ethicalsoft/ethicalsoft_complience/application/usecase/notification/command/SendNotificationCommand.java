@@ -6,6 +6,10 @@ import java.util.Map;
 
 public record SendNotificationCommand(
         NotificationType type,
-        Map<String, Object> context
+        Map<String, Object> context,
+        String idempotencyKey
 ) {
+    public SendNotificationCommand(NotificationType type, Map<String, Object> context) {
+        this(type, context, null);
+    }
 }
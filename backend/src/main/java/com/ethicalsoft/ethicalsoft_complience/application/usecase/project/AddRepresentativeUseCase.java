@@ -8,6 +8,8 @@ import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.Re
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.RepresentativeRepository;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.RoleRepository;
 import com.ethicalsoft.ethicalsoft_complience.application.port.auth.CurrentUserPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.project.ProjectSummaryPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.timeline.ProjectTimelineIndexPort;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.SendNotificationUseCase;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.command.SendNotificationCommand;
 import com.ethicalsoft.ethicalsoft_complience.common.util.ObjectUtils;
@@ -44,6 +46,8 @@ public class AddRepresentativeUseCase {
     private final RoleMappingPolicy roleMappingPolicy;
     private final ProjectCurrentStagePolicy projectCurrentStagePolicy;
     private final SendNotificationUseCase sendNotificationUseCase;
+    private final ProjectSummaryPort projectSummaryPort;
+    private final ProjectTimelineIndexPort projectTimelineIndexPort;
 
     @Transactional
     public Set<Representative> execute(Project project, Set<RepresentativeDTO> repDTOs) {
@@ -60,10 +64,13 @@ public class AddRepresentativeUseCase {
 
             Map<Long, Role> resolvedRoles = resolveRoles(repDTOs);
             User currentAdmin = currentUserPort.getCurrentUser();
+            LocalDate nextQuestionnaireDate = projectCurrentStagePolicy.findNextQuestionnaireDate(
+                    projectTimelineIndexPort.findByProjectId(project.getId()), LocalDate.now());
 
             Set<Representative> representatives = repDTOs.stream()
-                    .map(dto -> processRepresentative(dto, project, resolvedRoles, currentAdmin))
+                    .map(dto -> processRepresentative(dto, project, resolvedRoles, currentAdmin, nextQuestionnaireDate))
                     .collect(Collectors.toSet());
+            projectSummaryPort.incrementRepresentativeCount(project.getId(), representatives.size());
 
             log.info("[usecase-add-representative] {} representantes vinculados ao projeto id={}", representatives.size(), project.getId());
             return representatives;
@@ -91,7 +98,8 @@ public class AddRepresentativeUseCase {
         return roles;
     }
 
-    private Representative processRepresentative(RepresentativeDTO dto, Project project, Map<Long, Role> resolvedRoles, User currentAdmin) {
+    private Representative processRepresentative(RepresentativeDTO dto, Project project, Map<Long, Role> resolvedRoles, User currentAdmin,
+                                                 LocalDate nextQuestionnaireDate) {
         UserResolutionPolicy.UserResolutionResult resolution = userResolutionPolicy.resolveOrCreateUser(dto);
         Set<Role> roles = roleMappingPolicy.mapRoles(dto.getRoleIds(), resolvedRoles);
 
@@ -104,12 +112,13 @@ public class AddRepresentativeUseCase {
 
         representativeRepository.save(rep);
 
-        notifyUser(resolution, rep, project, currentAdmin);
+        notifyUser(resolution, rep, project, currentAdmin, nextQuestionnaireDate);
 
         return rep;
     }
 
-    private void notifyUser(UserResolutionPolicy.UserResolutionResult resolution, Representative rep, Project project, User currentAdmin) {
+    private void notifyUser(UserResolutionPolicy.UserResolutionResult resolution, Representative rep, Project project, User currentAdmin,
+                            LocalDate nextQuestionnaireDate) {
         Runnable sendNotifications = () -> {
             resolution.temporaryPassword().ifPresent(tempPassword -> {
                 Map<String, Object> ctx = new java.util.HashMap<>();
@@ -120,7 +129,7 @@ public class AddRepresentativeUseCase {
                 ctx.put("adminName", Optional.ofNullable(currentAdmin.getFirstName()).orElse("") + " " + Optional.ofNullable(currentAdmin.getLastName()).orElse(""));
                 ctx.put("projectId", Optional.ofNullable(rep.getProject()).map(Project::getId).orElse(null));
 
-                sendNotificationUseCase.execute(new SendNotificationCommand(
+                sendNotificationUseCase.executeInNewTransaction(new SendNotificationCommand(
                         NotificationType.NEW_USER_CREDENTIALS,
                         ctx
                 ));
@@ -137,9 +146,9 @@ public class AddRepresentativeUseCase {
             ctx.put("timelineSummary", Optional.ofNullable(project.getCurrentSituation()).orElse(""));
             ctx.put("startDate", project.getStartDate());
             ctx.put("deadline", project.getDeadline());
-            ctx.put("nextQuestionnaireDate", projectCurrentStagePolicy.findNextQuestionnaireDate(project));
+            ctx.put("nextQuestionnaireDate", nextQuestionnaireDate);
 
-            sendNotificationUseCase.execute(new SendNotificationCommand(
+            sendNotificationUseCase.executeInNewTransaction(new SendNotificationCommand(
                     NotificationType.PROJECT_ASSIGNMENT,
                     ctx
             ));
@@ -0,0 +1,66 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.project;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.ProjectSummary;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.ProjectSummaryDriftResponseDTO;
+import com.ethicalsoft.ethicalsoft_complience.application.port.project.ProjectSummaryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CheckProjectSummaryConsistencyUseCase {
+
+    private final ProjectSummaryPort projectSummaryPort;
+
+    public List<ProjectSummaryDriftResponseDTO> execute() {
+        LocalDate today = LocalDate.now();
+        List<Long> projectIds = projectSummaryPort.findAllProjectIds();
+        Map<Long, ProjectSummary> stored = projectSummaryPort.findByProjectIds(projectIds);
+        List<ProjectSummaryDriftResponseDTO> drifts = new ArrayList<>();
+
+        for (Long projectId : projectIds) {
+            ProjectSummary summary = stored.get(projectId);
+            if (summary == null) {
+                drifts.add(drift(projectId, "summary", null, "ausente"));
+                continue;
+            }
+            ProjectSummary actual = projectSummaryPort.compute(projectId, today);
+            compare(drifts, projectId, "representativeCount", summary.getRepresentativeCount(), actual.getRepresentativeCount());
+            compare(drifts, projectId, "stageCount", summary.getStageCount(), actual.getStageCount());
+            compare(drifts, projectId, "iterationCount", summary.getIterationCount(), actual.getIterationCount());
+            compare(drifts, projectId, "questionnaireCount", summary.getQuestionnaireCount(), actual.getQuestionnaireCount());
+            compare(drifts, projectId, "completedResponses", summary.getCompletedResponses(), actual.getCompletedResponses());
+            if (summary.isTimelineCurrent(today)) {
+                compare(drifts, projectId, "currentStage", summary.getCurrentStage(), actual.getCurrentStage());
+                compare(drifts, projectId, "currentIteration", summary.getCurrentIteration(), actual.getCurrentIteration());
+                compare(drifts, projectId, "currentSituation", summary.getCurrentSituation(), actual.getCurrentSituation());
+            }
+        }
+
+        log.info("[usecase-check-project-summary] {} projetos verificados, {} divergências encontradas", projectIds.size(), drifts.size());
+        return drifts;
+    }
+
+    private void compare(List<ProjectSummaryDriftResponseDTO> drifts, Long projectId, String field, Object stored, Object actual) {
+        if (!Objects.equals(stored, actual)) {
+            drifts.add(drift(projectId, field, stored, actual));
+        }
+    }
+
+    private ProjectSummaryDriftResponseDTO drift(Long projectId, String field, Object stored, Object actual) {
+        return ProjectSummaryDriftResponseDTO.builder()
+                .projectId(projectId)
+                .field(field)
+                .stored(stored != null ? stored.toString() : null)
+                .actual(actual != null ? actual.toString() : null)
+                .build();
+    }
+}
@@ -11,6 +11,8 @@ import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.P
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.QuestionnaireRepository;
 import com.ethicalsoft.ethicalsoft_complience.application.port.auth.CurrentUserPort;
 import com.ethicalsoft.ethicalsoft_complience.application.port.project.ProjectCommandPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.project.ProjectSummaryPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.timeline.ProjectTimelineIndexPort;
 import com.ethicalsoft.ethicalsoft_complience.application.service.strategy.ProjectCreationStrategy;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.SendNotificationUseCase;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.command.SendNotificationCommand;
@@ -34,6 +36,8 @@ public class CreateProjectUseCase implements ProjectCommandPort {
     private final AddRepresentativeUseCase addRepresentativeUseCase;
     private final SendNotificationUseCase sendNotificationUseCase;
     private final QuestionnaireRepository questionnaireRepository;
+    private final ProjectSummaryPort projectSummaryPort;
+    private final ProjectTimelineIndexPort projectTimelineIndexPort;
 
     private final Map<ProjectTypeEnum, ProjectCreationStrategy> strategyMap = new EnumMap<>(ProjectTypeEnum.class);
 
@@ -43,13 +47,17 @@ public class CreateProjectUseCase implements ProjectCommandPort {
                                AddRepresentativeUseCase addRepresentativeUseCase,
                                List<ProjectCreationStrategy> creationStrategies,
                                SendNotificationUseCase sendNotificationUseCase,
-                               QuestionnaireRepository questionnaireRepository) {
+                               QuestionnaireRepository questionnaireRepository,
+                               ProjectSummaryPort projectSummaryPort,
+                               ProjectTimelineIndexPort projectTimelineIndexPort) {
         this.projectRepository = projectRepository;
         this.currentUserPort = currentUserPort;
         this.projectTimelineStatusPolicy = projectTimelineStatusPolicy;
         this.addRepresentativeUseCase = addRepresentativeUseCase;
         this.sendNotificationUseCase = sendNotificationUseCase;
         this.questionnaireRepository = questionnaireRepository;
+        this.projectSummaryPort = projectSummaryPort;
+        this.projectTimelineIndexPort = projectTimelineIndexPort;
 
         if (creationStrategies != null) {
             creationStrategies.forEach(strategy -> this.strategyMap.put(strategy.getType(), strategy));
@@ -68,6 +76,7 @@ public class CreateProjectUseCase implements ProjectCommandPort {
             var questionnaires = questionnaireRepository.findByProjectId(project.getId()).stream().collect(Collectors.toSet());
             project.setQuestionnaires(questionnaires);
             project = refreshTimeline(project);
+            projectSummaryPort.rebuild(project.getId());
 
             Set<Representative> representatives = addRepresentativeUseCase.execute(project, request.getRepresentatives());
 
@@ -108,8 +117,10 @@ public class CreateProjectUseCase implements ProjectCommandPort {
     }
 
     private Project refreshTimeline(Project project) {
-        projectTimelineStatusPolicy.updateProjectTimeline(project);
-        return projectRepository.save(project);
+        projectTimelineStatusPolicy.updateProjectTimeline(project, projectTimelineIndexPort.index(project));
+        Project saved = projectRepository.save(project);
+        projectTimelineIndexPort.evict(saved.getId());
+        return saved;
     }
 
     private ProjectResponseDTO buildResponse(Project project, Set<Representative> representatives, ProjectCreationRequestDTO request) {
@@ -134,7 +145,8 @@ public class CreateProjectUseCase implements ProjectCommandPort {
                             java.util.Map.ofEntries(
                                 java.util.Map.entry("projectId", project.getId()),
                                 java.util.Map.entry("questionnaireId", q.getId())
-                        )
+                        ),
+                        "QUESTIONNAIRE_REMINDER:initial:" + q.getId()
                 ));
             } catch (Exception ex) {
                 log.warn("[usecase-create-project] Falha ao disparar lembrete inicial projectId={} questionnaireId={}", project.getId(), q.getId(), ex);
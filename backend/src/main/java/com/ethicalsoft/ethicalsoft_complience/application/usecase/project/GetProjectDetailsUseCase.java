@@ -6,6 +6,8 @@ import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.
 import com.ethicalsoft.ethicalsoft_complience.domain.service.ProjectCurrentIterationPolicy;
 import com.ethicalsoft.ethicalsoft_complience.domain.service.ProjectCurrentStagePolicy;
 import com.ethicalsoft.ethicalsoft_complience.domain.service.ProjectSituationPolicy;
+import com.ethicalsoft.ethicalsoft_complience.domain.service.ProjectTimelineIndex;
+import com.ethicalsoft.ethicalsoft_complience.application.port.timeline.ProjectTimelineIndexPort;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.ProjectRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +26,7 @@ public class GetProjectDetailsUseCase {
     private final ProjectCurrentStagePolicy projectCurrentStagePolicy;
     private final ProjectCurrentIterationPolicy projectCurrentIterationPolicy;
     private final ProjectSituationPolicy projectSituationPolicy;
+    private final ProjectTimelineIndexPort projectTimelineIndexPort;
 
     @Transactional(readOnly = true)
     public ProjectDetailResponseDTO execute(Long projectId) {
@@ -47,13 +50,14 @@ public class GetProjectDetailsUseCase {
 
     private ProjectDetailResponseDTO buildDetailResponse(Project project) {
         LocalDate now = LocalDate.now();
+        ProjectTimelineIndex timelineIndex = projectTimelineIndexPort.findByProjectId(project.getId());
         String currentStage = null;
         Integer currentIteration = null;
 
         if (project.getType() == ProjectTypeEnum.CASCATA) {
-            currentStage = projectCurrentStagePolicy.findCurrentStageName(project.getQuestionnaires(), now);
+            currentStage = projectCurrentStagePolicy.findCurrentStageName(timelineIndex, now);
         } else if (project.getType() == ProjectTypeEnum.ITERATIVO) {
-            currentIteration = projectCurrentIterationPolicy.findCurrentIterationNumber(project.getIterations(), now);
+            currentIteration = projectCurrentIterationPolicy.findCurrentIterationNumber(timelineIndex, now);
         }
 
         project.setCurrentSituation(projectSituationPolicy.buildCurrentSituation(project, currentStage, currentIteration));
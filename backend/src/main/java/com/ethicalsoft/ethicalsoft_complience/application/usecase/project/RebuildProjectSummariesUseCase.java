@@ -0,0 +1,32 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.project;
+
+import com.ethicalsoft.ethicalsoft_complience.application.port.project.ProjectSummaryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RebuildProjectSummariesUseCase {
+
+    private final ProjectSummaryPort projectSummaryPort;
+
+    public int execute() {
+        int rebuilt = 0;
+        for (Long projectId : projectSummaryPort.findAllProjectIds()) {
+            try {
+                projectSummaryPort.rebuild(projectId);
+                rebuilt++;
+            } catch (Exception ex) {
+                log.error("[usecase-rebuild-project-summaries] Falha ao reconstruir resumo do projeto id={}", projectId, ex);
+            }
+        }
+        log.info("[usecase-rebuild-project-summaries] {} resumos de projeto reconstruídos", rebuilt);
+        return rebuilt;
+    }
+
+    public void execute(Long projectId) {
+        projectSummaryPort.rebuild(projectId);
+    }
+}
@@ -1,6 +1,7 @@
 package com.ethicalsoft.ethicalsoft_complience.application.usecase.project;
 
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.request.ProjectSearchRequestDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.ProjectCursorPageResponseDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.ProjectSummaryResponseDTO;
 import com.ethicalsoft.ethicalsoft_complience.application.port.project.ProjectQueryPort;
 import lombok.RequiredArgsConstructor;
@@ -17,4 +18,8 @@ public class SearchProjectsUseCase {
     public Page<ProjectSummaryResponseDTO> execute(ProjectSearchRequestDTO filters, Pageable pageable) {
         return projectQueryPort.search(filters, pageable);
     }
+
+    public ProjectCursorPageResponseDTO executeByCursor(ProjectSearchRequestDTO filters, Pageable pageable) {
+        return projectQueryPort.searchByCursor(filters, pageable);
+    }
 }
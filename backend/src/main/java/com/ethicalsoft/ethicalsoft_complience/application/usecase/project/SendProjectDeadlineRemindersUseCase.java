@@ -2,19 +2,22 @@ package com.ethicalsoft.ethicalsoft_complience.application.usecase.project;
 
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Project;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Representative;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.ProjectStatusEnum;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.ProjectRepository;
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.ReminderFanOutExecutor;
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.ReminderRunReport;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.SendNotificationUseCase;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.command.SendNotificationCommand;
 import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -23,29 +26,28 @@ import java.util.Map;
 @Slf4j
 public class SendProjectDeadlineRemindersUseCase {
 
+    static final String JOB = "project-deadline";
+
     private static final int DEFAULT_WINDOW_DAYS = 7;
     private final ProjectRepository projectRepository;
     private final SendNotificationUseCase sendNotificationUseCase;
+    private final ReminderFanOutExecutor reminderFanOutExecutor;
 
-    @Transactional(readOnly = true)
-    public void execute() {
+    public ReminderRunReport execute() {
         LocalDate today = LocalDate.now();
         LocalDate until = today.plusDays(DEFAULT_WINDOW_DAYS);
-        List<Project> projects = projectRepository.findWithDeadlineBetween(today, until,
-                com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.ProjectStatusEnum.CONCLUIDO);
+        List<Project> projects = projectRepository.findWithDeadlineBetween(today, until, ProjectStatusEnum.CONCLUIDO);
 
+        Map<Long, List<SendNotificationCommand>> commandsByProject = new LinkedHashMap<>();
         for (Project project : projects) {
-            try {
-                triggerReminder(project, today);
-            } catch (Exception ex) {
-                log.warn("[deadline-reminder] Falha ao notificar projeto id={} deadline={} ", project.getId(), project.getDeadline(), ex);
+            if (project.getDeadline() != null) {
+                commandsByProject.put(project.getId(), List.of(buildCommand(project, today)));
             }
         }
+        return reminderFanOutExecutor.run(JOB, commandsByProject, sendNotificationUseCase::execute);
     }
 
-    private void triggerReminder(Project project, LocalDate today) {
-        if (project.getDeadline() == null) return;
-
+    private SendNotificationCommand buildCommand(Project project, LocalDate today) {
         long daysRemaining = ChronoUnit.DAYS.between(today, project.getDeadline());
         Map<String, Object> context = new HashMap<>();
         context.put("projectId", project.getId());
@@ -64,6 +66,7 @@ public class SendProjectDeadlineRemindersUseCase {
         }
         context.put("recipients", recipients);
 
-        sendNotificationUseCase.execute(new SendNotificationCommand(NotificationType.DEADLINE_REMINDER, context));
+        return new SendNotificationCommand(NotificationType.DEADLINE_REMINDER, context,
+                "DEADLINE_REMINDER:auto:" + project.getId() + ":" + today);
     }
 }
@@ -2,6 +2,8 @@ package com.ethicalsoft.ethicalsoft_complience.application.usecase.questionnaire
 
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Questionnaire;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.QuestionnaireRepository;
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.ReminderFanOutExecutor;
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.ReminderRunReport;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.SendNotificationUseCase;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.command.SendNotificationCommand;
 import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationType;
@@ -10,30 +12,48 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class SendAutomaticQuestionnaireRemindersUseCase {
 
+    static final String JOB = "questionnaire-start";
+
     private final QuestionnaireRepository questionnaireRepository;
 
     private final SendNotificationUseCase sendNotificationUseCase;
 
-    public void execute() {
+    private final ReminderFanOutExecutor reminderFanOutExecutor;
+
+    public ReminderRunReport execute() {
         var today = LocalDate.now();
-        var starting = questionnaireRepository.findQuestionnairesStartingToday(today);
-        starting.forEach(this::trySend);
+        Map<Long, List<SendNotificationCommand>> commandsByProject = new LinkedHashMap<>();
+        questionnaireRepository.findQuestionnairesStartingToday(today).stream()
+                .filter(questionnaire -> questionnaire.getProject() != null)
+                .collect(Collectors.groupingBy(questionnaire -> questionnaire.getProject().getId(), LinkedHashMap::new, Collectors.toList()))
+                .forEach((projectId, questionnaires) -> commandsByProject.put(projectId, List.of(buildCommand(projectId, questionnaires, today))));
+        return reminderFanOutExecutor.run(JOB, commandsByProject, sendNotificationUseCase::execute);
     }
 
-    private void trySend(Questionnaire questionnaire) {
-        try {
-            sendNotificationUseCase.execute(new SendNotificationCommand(
-                    NotificationType.QUESTIONNAIRE_REMINDER,
-                    java.util.Map.of("projectId", questionnaire.getProject().getId())
-            ));
-        } catch (Exception ex) {
-            log.error("[questionnaire-reminder] Falha ao enviar lembrete automático questionário={}", questionnaire != null ? questionnaire.getId() : null, ex);
-        }
+    private SendNotificationCommand buildCommand(Long projectId, List<Questionnaire> questionnaires, LocalDate today) {
+        List<Integer> questionnaireIds = questionnaires.stream()
+                .map(Questionnaire::getId)
+                .filter(Objects::nonNull)
+                .sorted()
+                .toList();
+        return new SendNotificationCommand(
+                NotificationType.QUESTIONNAIRE_REMINDER,
+                Map.of(
+                        "projectId", projectId,
+                        "questionnaireIds", questionnaireIds
+                ),
+                "QUESTIONNAIRE_REMINDER:auto:" + projectId + ":" + questionnaireIds.stream().map(String::valueOf).collect(Collectors.joining(",")) + ":" + today
+        );
     }
 }
@@ -0,0 +1,30 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.timeline;
+
+import com.ethicalsoft.ethicalsoft_complience.application.port.timeline.TimelineBulkRecomputePort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+
+@Service
+@Slf4j
+public class RecomputeTimelineStatusesInBulkUseCase {
+
+    private final TimelineBulkRecomputePort timelineBulkRecomputePort;
+    private final Timer durationTimer;
+
+    public RecomputeTimelineStatusesInBulkUseCase(TimelineBulkRecomputePort timelineBulkRecomputePort, MeterRegistry meterRegistry) {
+        this.timelineBulkRecomputePort = timelineBulkRecomputePort;
+        this.durationTimer = meterRegistry.timer("timeline.recompute.duration");
+    }
+
+    public TimelineBulkRecomputePort.TimelineRecomputeResult execute() {
+        return durationTimer.record(() -> {
+            TimelineBulkRecomputePort.TimelineRecomputeResult result = timelineBulkRecomputePort.recompute(LocalDate.now());
+            log.info("[timeline] Recalculo em lote concluído com {} linhas alteradas", result.total());
+            return result;
+        });
+    }
+}
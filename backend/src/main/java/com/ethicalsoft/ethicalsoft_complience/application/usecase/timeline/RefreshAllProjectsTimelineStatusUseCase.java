@@ -1,31 +1,118 @@
 package com.ethicalsoft.ethicalsoft_complience.application.usecase.timeline;
 
-import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Project;
-import com.ethicalsoft.ethicalsoft_complience.domain.repository.ProjectRepositoryPort;
-import com.ethicalsoft.ethicalsoft_complience.domain.service.ProjectTimelineStatusPolicy;
-import lombok.RequiredArgsConstructor;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.TimelineRefreshPartition;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.TimelineRefreshRun;
+import com.ethicalsoft.ethicalsoft_complience.application.port.timeline.TimelineRefreshCheckpointPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class RefreshAllProjectsTimelineStatusUseCase {
 
-    private final ProjectRepositoryPort projectRepositoryPort;
-    private final ProjectTimelineStatusPolicy projectTimelineStatusPolicy;
+    private final TimelineRefreshCheckpointPort timelineRefreshCheckpointPort;
+    private final RefreshTimelinePartitionUseCase refreshTimelinePartitionUseCase;
+    private final int partitionSize;
+    private final int workers;
+    private final int maxPartitionAttempts;
+
+    private final Timer durationTimer;
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+    private final AtomicReference<Double> projectsPerSecond = new AtomicReference<>(0d);
+
+    public RefreshAllProjectsTimelineStatusUseCase(TimelineRefreshCheckpointPort timelineRefreshCheckpointPort,
+                                                   RefreshTimelinePartitionUseCase refreshTimelinePartitionUseCase,
+                                                   MeterRegistry meterRegistry,
+                                                   @Value("${app.timeline.refresh.partition-size:500}") int partitionSize,
+                                                   @Value("${app.timeline.refresh.workers:4}") int workers,
+                                                   @Value("${app.timeline.refresh.partition-max-attempts:3}") int maxPartitionAttempts) {
+        this.timelineRefreshCheckpointPort = timelineRefreshCheckpointPort;
+        this.refreshTimelinePartitionUseCase = refreshTimelinePartitionUseCase;
+        this.partitionSize = partitionSize;
+        this.workers = workers;
+        this.maxPartitionAttempts = Math.max(1, maxPartitionAttempts);
+        this.durationTimer = meterRegistry.timer("timeline.refresh.duration");
+        this.processedCounter = meterRegistry.counter("timeline.refresh.projects");
+        this.failedCounter = meterRegistry.counter("timeline.refresh.failures");
+        meterRegistry.gauge("timeline.refresh.projects.per.second", projectsPerSecond, AtomicReference::get);
+    }
 
-    @Transactional
     public void execute() {
-        var projects = projectRepositoryPort.findAllByOrderByIdAsc();
-        for (Project project : projects) {
-            try {
-                projectTimelineStatusPolicy.updateProjectTimeline(project);
-                projectRepositoryPort.save(project);
-            } catch (Exception ex) {
-                log.error("[timeline] Falha ao atualizar timeline do projeto id={}", project != null ? project.getId() : null, ex);
+        long startedAt = System.nanoTime();
+        LocalDate today = LocalDate.now();
+        int abandoned = timelineRefreshCheckpointPort.abandonRunsBefore(today);
+        if (abandoned > 0) {
+            log.warn("[timeline] {} execuções de dias anteriores abandonadas antes de iniciar data={}", abandoned, today);
+        }
+        TimelineRefreshRun run = timelineRefreshCheckpointPort.findResumableRun(today)
+                .map(unfinished -> {
+                    log.info("[timeline] Retomando execução id={} iniciada em {}", unfinished.getId(), unfinished.getStartedAt());
+                    return unfinished;
+                })
+                .orElseGet(() -> timelineRefreshCheckpointPort.startRun(today, partitionSize));
+
+        List<TimelineRefreshPartition> partitions = timelineRefreshCheckpointPort.findPendingPartitions(run.getId(), maxPartitionAttempts);
+        log.info("[timeline] Execução id={} com {} partições pendentes e {} workers", run.getId(), partitions.size(), workers);
+
+        int processed = 0;
+        int failed = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, workers));
+        try {
+            List<Future<RefreshTimelinePartitionUseCase.PartitionResult>> futures = new ArrayList<>();
+            for (TimelineRefreshPartition partition : partitions) {
+                futures.add(executor.submit(() -> refreshTimelinePartitionUseCase.execute(partition, today)));
             }
+            for (int i = 0; i < futures.size(); i++) {
+                RefreshTimelinePartitionUseCase.PartitionResult result = awaitPartition(futures.get(i), partitions.get(i));
+                processed += result.processed();
+                failed += result.failed();
+            }
+        } finally {
+            executor.shutdown();
         }
+
+        TimelineRefreshRun finished = timelineRefreshCheckpointPort.finishRun(run.getId());
+        recordMetrics(startedAt, processed, failed);
+        log.info("[timeline] Execução id={} finalizada status={} projetos={} falhas={}",
+                finished.getId(), finished.getStatus(), finished.getProcessedProjects(), finished.getFailedProjects());
+    }
+
+    private RefreshTimelinePartitionUseCase.PartitionResult awaitPartition(Future<RefreshTimelinePartitionUseCase.PartitionResult> future,
+                                                                           TimelineRefreshPartition partition) {
+        try {
+            return future.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            log.error("[timeline] Execução interrompida na partição id={}", partition.getId(), ex);
+        } catch (ExecutionException ex) {
+            log.error("[timeline] Falha na partição id={} projetos {}-{}",
+                    partition.getId(), partition.getFromProjectId(), partition.getToProjectId(), ex.getCause());
+        }
+        timelineRefreshCheckpointPort.markPartitionFailed(partition.getId());
+        return new RefreshTimelinePartitionUseCase.PartitionResult(0, 0);
+    }
+
+    private void recordMetrics(long startedAt, int processed, int failed) {
+        Duration duration = Duration.ofNanos(System.nanoTime() - startedAt);
+        durationTimer.record(duration);
+        processedCounter.increment(processed);
+        failedCounter.increment(failed);
+        double seconds = Math.max(duration.toMillis(), 1) / 1000d;
+        projectsPerSecond.set(processed / seconds);
     }
 }
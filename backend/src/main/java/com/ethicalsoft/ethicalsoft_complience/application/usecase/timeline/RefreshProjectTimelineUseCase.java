@@ -0,0 +1,38 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.timeline;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Project;
+import com.ethicalsoft.ethicalsoft_complience.application.port.project.ProjectSummaryPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.timeline.ProjectTimelineIndexPort;
+import com.ethicalsoft.ethicalsoft_complience.domain.repository.ProjectRepositoryPort;
+import com.ethicalsoft.ethicalsoft_complience.domain.service.ProjectTimelineStatusPolicy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class RefreshProjectTimelineUseCase {
+
+    private final ProjectRepositoryPort projectRepositoryPort;
+    private final ProjectTimelineStatusPolicy projectTimelineStatusPolicy;
+    private final ProjectSummaryPort projectSummaryPort;
+    private final ProjectTimelineIndexPort projectTimelineIndexPort;
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean execute(Long projectId, LocalDate today) {
+        List<Project> projects = projectRepositoryPort.findByIdsWithTimeline(List.of(projectId));
+        if (projects.isEmpty()) {
+            return false;
+        }
+        Project project = projects.get(0);
+        projectTimelineStatusPolicy.updateProjectTimeline(project, projectTimelineIndexPort.index(project));
+        projectRepositoryPort.save(project);
+        projectTimelineIndexPort.evict(project.getId());
+        projectSummaryPort.refreshTimeline(project.getId(), today);
+        return true;
+    }
+}
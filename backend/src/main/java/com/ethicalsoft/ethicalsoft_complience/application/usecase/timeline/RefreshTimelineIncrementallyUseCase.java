@@ -0,0 +1,78 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.timeline;
+
+import com.ethicalsoft.ethicalsoft_complience.application.port.project.ProjectSummaryPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.timeline.TimelineBoundaryQueryPort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@Slf4j
+public class RefreshTimelineIncrementallyUseCase {
+
+    private final TimelineBoundaryQueryPort timelineBoundaryQueryPort;
+    private final RefreshTimelinePartitionUseCase refreshTimelinePartitionUseCase;
+    private final ProjectSummaryPort projectSummaryPort;
+    private final int partitionSize;
+
+    private final Timer durationTimer;
+    private final Counter processedCounter;
+    private final Counter failedCounter;
+
+    public RefreshTimelineIncrementallyUseCase(TimelineBoundaryQueryPort timelineBoundaryQueryPort,
+                                               RefreshTimelinePartitionUseCase refreshTimelinePartitionUseCase,
+                                               ProjectSummaryPort projectSummaryPort,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${app.timeline.refresh.partition-size:500}") int partitionSize) {
+        this.timelineBoundaryQueryPort = timelineBoundaryQueryPort;
+        this.refreshTimelinePartitionUseCase = refreshTimelinePartitionUseCase;
+        this.projectSummaryPort = projectSummaryPort;
+        this.partitionSize = Math.max(1, partitionSize);
+        this.durationTimer = meterRegistry.timer("timeline.refresh.incremental.duration");
+        this.processedCounter = meterRegistry.counter("timeline.refresh.incremental.projects");
+        this.failedCounter = meterRegistry.counter("timeline.refresh.incremental.failures");
+    }
+
+    public void execute() {
+        execute(LocalDate.now());
+    }
+
+    public void execute(LocalDate today) {
+        long startedAt = System.nanoTime();
+        Set<Long> projectIds = timelineBoundaryQueryPort.findProjectIdsWithBoundaryOn(List.of(today.minusDays(1), today));
+        log.info("[timeline] Atualização incremental de {} projetos com datas em {} ou {}",
+                projectIds.size(), today.minusDays(1), today);
+
+        int processed = 0;
+        int failed = 0;
+        List<Long> ids = new ArrayList<>(projectIds);
+        for (int from = 0; from < ids.size(); from += partitionSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + partitionSize, ids.size()));
+            try {
+                RefreshTimelinePartitionUseCase.PartitionResult result = refreshTimelinePartitionUseCase.executeForProjects(chunk, today);
+                processed += result.processed();
+                failed += result.failed();
+            } catch (Exception ex) {
+                failed += chunk.size();
+                log.error("[timeline] Falha na atualização incremental dos projetos {}-{}", chunk.getFirst(), chunk.getLast(), ex);
+            }
+        }
+
+        int advanced = projectSummaryPort.advanceTimelineReferenceDate(today.minusDays(1), today, projectIds);
+        log.info("[timeline] {} resumos sem mudança de fase avançados para {}", advanced, today);
+
+        durationTimer.record(Duration.ofNanos(System.nanoTime() - startedAt));
+        processedCounter.increment(processed);
+        failedCounter.increment(failed);
+        log.info("[timeline] Atualização incremental finalizada projetos={} falhas={}", processed, failed);
+    }
+}
@@ -0,0 +1,50 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.timeline;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.TimelineRefreshPartition;
+import com.ethicalsoft.ethicalsoft_complience.application.port.timeline.TimelineRefreshCheckpointPort;
+import com.ethicalsoft.ethicalsoft_complience.domain.repository.ProjectRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RefreshTimelinePartitionUseCase {
+
+    private final ProjectRepositoryPort projectRepositoryPort;
+    private final RefreshProjectTimelineUseCase refreshProjectTimelineUseCase;
+    private final TimelineRefreshCheckpointPort timelineRefreshCheckpointPort;
+
+    public PartitionResult execute(TimelineRefreshPartition partition, LocalDate today) {
+        PartitionResult result = refresh(projectRepositoryPort.findIdsBetween(partition.getFromProjectId(), partition.getToProjectId()), today);
+        timelineRefreshCheckpointPort.markPartitionDone(partition.getId(), result.processed(), result.failed());
+        return result;
+    }
+
+    public PartitionResult executeForProjects(Collection<Long> projectIds, LocalDate today) {
+        return refresh(projectIds, today);
+    }
+
+    private PartitionResult refresh(Collection<Long> projectIds, LocalDate today) {
+        int processed = 0;
+        int failed = 0;
+        for (Long projectId : projectIds) {
+            try {
+                if (refreshProjectTimelineUseCase.execute(projectId, today)) {
+                    processed++;
+                }
+            } catch (Exception ex) {
+                failed++;
+                log.error("[timeline] Falha ao atualizar timeline do projeto id={}", projectId, ex);
+            }
+        }
+        return new PartitionResult(processed, failed);
+    }
+
+    public record PartitionResult(int processed, int failed) {
+    }
+}
@@ -0,0 +1,49 @@
+package com.ethicalsoft.ethicalsoft_complience.common.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+public class TokenBucketRateLimiter {
+
+    private final double permitsPerNano;
+    private final double capacity;
+    private final LongSupplier nanoClock;
+
+    private double tokens;
+    private long lastRefill;
+
+    public TokenBucketRateLimiter(double permitsPerSecond, int capacity) {
+        this(permitsPerSecond, capacity, System::nanoTime);
+    }
+
+    TokenBucketRateLimiter(double permitsPerSecond, int capacity, LongSupplier nanoClock) {
+        this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.capacity = Math.max(1, capacity);
+        this.nanoClock = nanoClock;
+        this.tokens = this.capacity;
+        this.lastRefill = nanoClock.getAsLong();
+    }
+
+    public boolean isUnlimited() {
+        return permitsPerNano <= 0;
+    }
+
+    public void acquire(int permits) throws InterruptedException {
+        long waitNanos = reserve(permits);
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    synchronized long reserve(int permits) {
+        if (isUnlimited()) {
+            return 0;
+        }
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * permitsPerNano);
+        lastRefill = now;
+        long waitNanos = tokens >= permits ? 0 : (long) Math.ceil((permits - tokens) / permitsPerNano);
+        tokens -= permits;
+        return waitNanos;
+    }
+}
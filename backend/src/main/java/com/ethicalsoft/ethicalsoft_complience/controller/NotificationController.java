@@ -1,13 +1,19 @@
 package com.ethicalsoft.ethicalsoft_complience.controller;
 
+import com.ethicalsoft.ethicalsoft_complience.adapters.in.web.dto.notification.NotificationInboxPageResponseDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.in.web.dto.notification.NotificationResponseDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.in.web.dto.notification.UnreadNotificationCountResponseDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.in.web.dto.notification.UpdateNotificationStatusRequestDTO;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.ListMyInternalNotificationsUseCase;
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.RefreshNotificationTemplatesUseCase;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.UpdateInternalNotificationStatusUseCase;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationStatus;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -18,6 +24,7 @@ public class NotificationController {
 
     private final ListMyInternalNotificationsUseCase listMyInternalNotificationsUseCase;
     private final UpdateInternalNotificationStatusUseCase updateInternalNotificationStatusUseCase;
+    private final RefreshNotificationTemplatesUseCase refreshNotificationTemplatesUseCase;
 
     @GetMapping
     @PreAuthorize("hasAnyAuthority('ADMIN','USER')")
@@ -25,9 +32,35 @@ public class NotificationController {
         return listMyInternalNotificationsUseCase.executeOnlyUnseen();
     }
 
+    @GetMapping("/inbox")
+    @PreAuthorize("hasAnyAuthority('ADMIN','USER')")
+    public NotificationInboxPageResponseDTO listInbox(@RequestParam(required = false) String cursor,
+                                                      @RequestParam(defaultValue = "20") int size,
+                                                      @RequestParam(required = false) NotificationStatus status) {
+        return listMyInternalNotificationsUseCase.executeInbox(cursor, size, status);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyAuthority('ADMIN','USER')")
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return listMyInternalNotificationsUseCase.executeStream(lastEventId);
+    }
+
+    @GetMapping("/unread-count")
+    @PreAuthorize("hasAnyAuthority('ADMIN','USER')")
+    public UnreadNotificationCountResponseDTO unreadCount() {
+        return listMyInternalNotificationsUseCase.executeUnreadCount();
+    }
+
     @PostMapping("/{id}/status")
     @PreAuthorize("hasAnyAuthority('ADMIN','USER')")
     public void updateStatus(@PathVariable String id, @RequestBody @Valid UpdateNotificationStatusRequestDTO request) {
         updateInternalNotificationStatusUseCase.execute(id, request.status());
     }
+
+    @PostMapping("/templates/refresh")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public void refreshTemplates() {
+        refreshNotificationTemplatesUseCase.execute();
+    }
 }
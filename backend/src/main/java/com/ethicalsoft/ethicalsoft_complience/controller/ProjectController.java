@@ -3,15 +3,19 @@ package com.ethicalsoft.ethicalsoft_complience.controller;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.request.ProjectCreationRequestDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.request.ProjectSearchRequestDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.request.QuestionnaireReminderRequestDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.ProjectCursorPageResponseDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.ProjectDetailResponseDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.ProjectResponseDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.ProjectSummaryDriftResponseDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.ProjectSummaryResponseDTO;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.RoleSummaryResponseDTO;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.ListProjectQuestionnairesUseCase;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.ListRolesUseCase;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.SendNotificationUseCase;
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.project.CheckProjectSummaryConsistencyUseCase;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.project.CreateProjectUseCase;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.project.GetProjectByIdUseCase;
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.project.RebuildProjectSummariesUseCase;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.project.SearchProjectsUseCase;
 import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationType;
 import jakarta.validation.Valid;
@@ -35,6 +39,8 @@ public class ProjectController {
     private final GetProjectByIdUseCase getProjectByIdUseCase;
     private final ListProjectQuestionnairesUseCase listProjectQuestionnairesUseCase;
     private final SendNotificationUseCase sendNotificationUseCase;
+    private final RebuildProjectSummariesUseCase rebuildProjectSummariesUseCase;
+    private final CheckProjectSummaryConsistencyUseCase checkProjectSummaryConsistencyUseCase;
 
     @GetMapping("/roles")
     public List<RoleSummaryResponseDTO> listRoles() {
@@ -53,6 +59,31 @@ public class ProjectController {
         return searchProjectsUseCase.execute(filters, pageable);
     }
 
+    @PostMapping("/search/cursor")
+    public ProjectCursorPageResponseDTO getProjectsByCursor(
+            @RequestBody ProjectSearchRequestDTO filters,
+            @PageableDefault(size = 10, sort = "name") Pageable pageable) {
+        return searchProjectsUseCase.executeByCursor(filters, pageable);
+    }
+
+    @PostMapping("/summaries/rebuild")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public int rebuildSummaries() {
+        return rebuildProjectSummariesUseCase.execute();
+    }
+
+    @PostMapping("/{projectId}/summary/rebuild")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public void rebuildSummary(@PathVariable Long projectId) {
+        rebuildProjectSummariesUseCase.execute(projectId);
+    }
+
+    @GetMapping("/summaries/consistency")
+    @PreAuthorize("hasAuthority('ADMIN')")
+    public List<ProjectSummaryDriftResponseDTO> checkSummaryConsistency() {
+        return checkProjectSummaryConsistencyUseCase.execute();
+    }
+
     @GetMapping("/{projectId}")
     @PreAuthorize("@projectAccessAuthorizationEvaluator.canAccess(authentication)")
     public ProjectDetailResponseDTO getProjectById(@PathVariable Long projectId) {
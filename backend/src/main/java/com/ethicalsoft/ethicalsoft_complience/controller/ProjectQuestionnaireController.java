@@ -33,8 +33,9 @@ public class ProjectQuestionnaireController {
                                                                     @PageableDefault(size = 10) Pageable pageable,
                                                                     @RequestParam(required = false) String name,
                                                                     @RequestParam(required = false) String stageName,
-                                                                    @RequestParam(required = false) String iterationName) {
-        QuestionnaireSearchFilter filter = new QuestionnaireSearchFilter(name, stageName, iterationName);
+                                                                    @RequestParam(required = false) String iterationName,
+                                                                    @RequestParam(required = false) String search) {
+        QuestionnaireSearchFilter filter = new QuestionnaireSearchFilter(name, stageName, iterationName, search);
         return listProjectQuestionnairesUseCase.execute(projectId, pageable, filter);
     }
 }
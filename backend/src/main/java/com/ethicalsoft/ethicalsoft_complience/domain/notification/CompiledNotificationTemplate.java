@@ -0,0 +1,38 @@
+package com.ethicalsoft.ethicalsoft_complience.domain.notification;
+
+import java.util.Map;
+
+public record CompiledNotificationTemplate(
+        NotificationTemplate template,
+        CompiledPlaceholderTemplate title,
+        CompiledPlaceholderTemplate body
+) {
+
+    public static CompiledNotificationTemplate of(NotificationTemplate template) {
+        return new CompiledNotificationTemplate(
+                template,
+                CompiledPlaceholderTemplate.compile(template.title()),
+                CompiledPlaceholderTemplate.compile(template.body())
+        );
+    }
+
+    public boolean isCompiledFrom(NotificationTemplate candidate) {
+        return template == candidate || template.equals(candidate);
+    }
+
+    public String key() {
+        return template.key();
+    }
+
+    public String templateLink() {
+        return template.templateLink();
+    }
+
+    public String renderTitle(Map<String, String> placeholders) {
+        return title.render(placeholders);
+    }
+
+    public String renderBody(Map<String, String> placeholders) {
+        return body.render(placeholders);
+    }
+}
@@ -0,0 +1,87 @@
+package com.ethicalsoft.ethicalsoft_complience.domain.notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public final class CompiledPlaceholderTemplate {
+
+    private static final int MAX_REUSED_BUFFER = 16 * 1024;
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private final String source;
+    private final String[] literals;
+    private final String[] keys;
+    private final int literalLength;
+
+    private CompiledPlaceholderTemplate(String source, String[] literals, String[] keys) {
+        this.source = source;
+        this.literals = literals;
+        this.keys = keys;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static CompiledPlaceholderTemplate compile(String template) {
+        if (template == null || template.indexOf('{') < 0) {
+            return new CompiledPlaceholderTemplate(template, new String[]{template == null ? "" : template}, new String[0]);
+        }
+        List<String> literals = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        int literalStart = 0;
+        int open = template.indexOf('{');
+        while (open >= 0) {
+            int close = template.indexOf('}', open + 1);
+            if (close < 0) {
+                break;
+            }
+            int innerOpen = template.lastIndexOf('{', close - 1);
+            literals.add(template.substring(literalStart, innerOpen));
+            keys.add(template.substring(innerOpen + 1, close));
+            literalStart = close + 1;
+            open = template.indexOf('{', literalStart);
+        }
+        literals.add(template.substring(literalStart));
+        return new CompiledPlaceholderTemplate(template, literals.toArray(String[]::new), keys.toArray(String[]::new));
+    }
+
+    public String source() {
+        return source;
+    }
+
+    public String render(Map<String, String> values) {
+        if (source == null) {
+            return null;
+        }
+        if (keys.length == 0) {
+            return source;
+        }
+        StringBuilder buffer = BUFFER.get();
+        buffer.setLength(0);
+        buffer.ensureCapacity(literalLength + keys.length * 16);
+        try {
+            renderTo(buffer, values);
+            return buffer.toString();
+        } finally {
+            if (buffer.capacity() > MAX_REUSED_BUFFER) {
+                BUFFER.remove();
+            }
+        }
+    }
+
+    public void renderTo(StringBuilder target, Map<String, String> values) {
+        for (int i = 0; i < keys.length; i++) {
+            target.append(literals[i]);
+            String value = values == null ? null : values.get(keys[i]);
+            if (value != null) {
+                target.append(value);
+            } else {
+                target.append('{').append(keys[i]).append('}');
+            }
+        }
+        target.append(literals[keys.length]);
+    }
+}
@@ -0,0 +1,27 @@
+package com.ethicalsoft.ethicalsoft_complience.domain.notification;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+public record NotificationDeliveryKey(NotificationType type, String recipient, String scope, LocalDate day) {
+
+    public static NotificationDeliveryKey forQuestionnaire(NotificationType type, String recipient, Integer questionnaireId, LocalDate day) {
+        return new NotificationDeliveryKey(type, recipient, questionnaireScope(questionnaireId), day);
+    }
+
+    public static String questionnaireScope(Integer questionnaireId) {
+        return "questionnaire:" + questionnaireId;
+    }
+
+    public static NotificationDeliveryKey forProject(NotificationType type, String recipient, Long projectId, LocalDate day) {
+        return new NotificationDeliveryKey(type, recipient, "project:" + projectId, day);
+    }
+
+    public static String normalizeRecipient(String recipient) {
+        return recipient.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public String value() {
+        return type.name() + "|" + normalizeRecipient(recipient) + "|" + scope + "|" + day;
+    }
+}
@@ -9,6 +9,17 @@ public record NotificationTemplate(
         String title,
         String body,
         String templateLink,
-        List<NotificationChannel> channels
+        List<NotificationChannel> channels,
+        Long version
 ) {
+
+    public NotificationTemplate(String key,
+                                List<String> whoCanSend,
+                                List<String> recipients,
+                                String title,
+                                String body,
+                                String templateLink,
+                                List<NotificationChannel> channels) {
+        this(key, whoCanSend, recipients, title, body, templateLink, channels, null);
+    }
 }
@@ -1,22 +1,46 @@
 package com.ethicalsoft.ethicalsoft_complience.domain.notification;
 
+import java.util.Optional;
+
 public enum NotificationType {
-    QUESTIONNAIRE_REMINDER("QUESTIONNAIRE_REMINDER"),
-    PASSWORD_RECOVERY("PASSWORD_RECOVERY"),
-    NEW_USER_CREDENTIALS("NEW_USER_CREDENTIALS"),
-    PROJECT_ASSIGNMENT("PROJECT_ASSIGNMENT"),
-    QUESTIONNAIRE_SUBMITTED("QUESTIONNAIRE_SUBMITTED"),
-    QUESTIONNAIRE_COMPLETED("QUESTIONNAIRE_COMPLETED"),
-    DEADLINE_REMINDER("DEADLINE_REMINDER"),
-    NOTIFICATION_DEFAULT("NOTIFICATION_DEFAULT");
+    QUESTIONNAIRE_REMINDER("QUESTIONNAIRE_REMINDER", true, false),
+    PASSWORD_RECOVERY("PASSWORD_RECOVERY", false, true),
+    NEW_USER_CREDENTIALS("NEW_USER_CREDENTIALS", false, true),
+    PROJECT_ASSIGNMENT("PROJECT_ASSIGNMENT", false, false),
+    QUESTIONNAIRE_SUBMITTED("QUESTIONNAIRE_SUBMITTED", false, false),
+    QUESTIONNAIRE_COMPLETED("QUESTIONNAIRE_COMPLETED", false, false),
+    DEADLINE_REMINDER("DEADLINE_REMINDER", true, false),
+    NOTIFICATION_DIGEST("NOTIFICATION_DIGEST", false, false),
+    NOTIFICATION_DEFAULT("NOTIFICATION_DEFAULT", false, false);
 
     private final String templateKey;
+    private final boolean coalescible;
+    private final boolean containsSecret;
 
-    NotificationType(String templateKey) {
+    NotificationType(String templateKey, boolean coalescible, boolean containsSecret) {
         this.templateKey = templateKey;
+        this.coalescible = coalescible;
+        this.containsSecret = containsSecret;
     }
 
     public String templateKey() {
         return templateKey;
     }
+
+    public boolean coalescible() {
+        return coalescible;
+    }
+
+    public boolean containsSecret() {
+        return containsSecret;
+    }
+
+    public static Optional<NotificationType> fromTemplateKey(String templateKey) {
+        for (NotificationType type : values()) {
+            if (type.templateKey.equals(templateKey)) {
+                return Optional.of(type);
+            }
+        }
+        return Optional.empty();
+    }
 }
@@ -11,11 +11,6 @@ public class ResolvePlaceholderPolicy {
         if (template == null || template.isBlank() || values == null || values.isEmpty()) {
             return template;
         }
-        String resolved = template;
-        for (Map.Entry<String, String> entry : values.entrySet()) {
-            resolved = resolved.replace("{" + entry.getKey() + "}", entry.getValue());
-        }
-        return resolved;
+        return CompiledPlaceholderTemplate.compile(template).render(values);
     }
 }
-
@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,10 @@ public interface ProjectRepositoryPort {
 
     List<Project> findAllByOrderByIdAsc();
 
+    List<Long> findIdsBetween(Long fromId, Long toId);
+
+    List<Project> findByIdsWithTimeline(Collection<Long> ids);
+
     Optional<Project> findByIdWithDetails(Long id);
 
     boolean existsByIdAndOwnerId(Long projectId, Long ownerId);
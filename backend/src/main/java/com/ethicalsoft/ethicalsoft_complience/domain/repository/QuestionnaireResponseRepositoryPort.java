@@ -1,7 +1,10 @@
 package com.ethicalsoft.ethicalsoft_complience.domain.repository;
 
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.QuestionnaireAnswerPage;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.QuestionnaireResponse;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.QuestionnaireResponseStatus;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,5 +23,12 @@ public interface QuestionnaireResponseRepositoryPort {
     List<QuestionnaireResponse> findSummariesByProjectAndQuestionnaire(Long projectId, Integer questionnaireId);
 
     QuestionnaireResponse save(QuestionnaireResponse response);
+
+    Optional<QuestionnaireAnswerPage> findAnswerPage(Long projectId, Integer questionnaireId, Long representativeId, int fromIndex, int pageSize);
+
+    Optional<QuestionnaireAnswerPage> applyAnswers(Long projectId, Integer questionnaireId, Long representativeId,
+                                                   List<QuestionnaireResponse.AnswerDocument> answers, int fromIndex, int pageSize);
+
+    boolean updateStatus(String id, Long expectedVersion, QuestionnaireResponseStatus status, LocalDateTime submissionDate);
 }
 
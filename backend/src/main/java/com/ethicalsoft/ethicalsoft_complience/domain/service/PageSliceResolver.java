@@ -7,18 +7,25 @@ import org.springframework.stereotype.Service;
 public class PageSliceResolver {
 
     public PageSlice resolve(int page, int size, int totalElements) {
-        if (size <= 0) {
-            throw new BusinessException("Tamanho de página inválido");
-        }
+        int fromIndex = startIndex(page, size);
         int totalPages = (int) Math.ceil((double) totalElements / size);
-        if (page < 0 || (totalPages > 0 && page >= totalPages)) {
+        if (totalPages > 0 && page >= totalPages) {
             throw new BusinessException("Página solicitada está fora do intervalo disponível");
         }
-        int fromIndex = page * size;
         int toIndex = Math.min(fromIndex + size, totalElements);
         return new PageSlice(fromIndex, toIndex, totalPages == 0 ? 1 : totalPages);
     }
 
+    public int startIndex(int page, int size) {
+        if (size <= 0) {
+            throw new BusinessException("Tamanho de página inválido");
+        }
+        if (page < 0) {
+            throw new BusinessException("Página solicitada está fora do intervalo disponível");
+        }
+        return page * size;
+    }
+
     public record PageSlice(int fromIndex, int toIndex, int totalPages) {}
 }
 
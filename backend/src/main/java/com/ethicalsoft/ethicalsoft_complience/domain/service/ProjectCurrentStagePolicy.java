@@ -1,39 +1,20 @@
 package com.ethicalsoft.ethicalsoft_complience.domain.service;
 
-import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Project;
-import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Questionnaire;
-import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Stage;
-import com.ethicalsoft.ethicalsoft_complience.common.util.ObjectUtils;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
-import java.util.Objects;
-import java.util.Set;
 
 @Service
 public class ProjectCurrentStagePolicy {
 
-    public String findCurrentStageName(Set<Questionnaire> questionnaires, LocalDate now) {
-        if (ObjectUtils.isNullOrEmpty( questionnaires )) {
+    public String findCurrentStageName(ProjectTimelineIndex index, LocalDate now) {
+        if (index == null) {
             return null;
         }
-        return questionnaires.stream()
-                .filter(q -> q.getApplicationStartDate() != null && q.getApplicationEndDate() != null &&
-                        !now.isBefore(q.getApplicationStartDate()) && !now.isAfter(q.getApplicationEndDate()))
-                .map(Questionnaire::getStage)
-                .filter(Objects::nonNull)
-                .map(Stage::getName)
-                .findFirst()
-                .orElse(null);
+        return index.findActiveQuestionnaireStageName(now);
     }
 
-    public LocalDate findNextQuestionnaireDate(Project project) {
-        return project.getQuestionnaires().stream()
-                .map(Questionnaire::getApplicationStartDate)
-                .filter(Objects::nonNull)
-                .filter(date -> !date.isBefore(LocalDate.now()))
-                .sorted()
-                .findFirst()
-                .orElse(project.getStartDate());
+    public LocalDate findNextQuestionnaireDate(ProjectTimelineIndex index, LocalDate now) {
+        return index.findNextQuestionnaireDate(now);
     }
 }
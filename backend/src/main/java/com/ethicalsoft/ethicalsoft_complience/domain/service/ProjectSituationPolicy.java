@@ -8,11 +8,15 @@ import org.springframework.stereotype.Service;
 public class ProjectSituationPolicy {
 
     public String buildCurrentSituation(Project project, String currentStage, Integer currentIteration) {
-        if (project.getType() == ProjectTypeEnum.CASCATA) {
+        return buildCurrentSituation(project.getType(), project.getIterationCount(), currentStage, currentIteration);
+    }
+
+    public String buildCurrentSituation(ProjectTypeEnum type, Integer iterationCount, String currentStage, Integer currentIteration) {
+        if (type == ProjectTypeEnum.CASCATA) {
             return currentStage;
         }
-        if (project.getType() == ProjectTypeEnum.ITERATIVO && currentIteration != null && project.getIterationCount() != null) {
-            return "Sprint " + currentIteration + "/" + project.getIterationCount();
+        if (type == ProjectTypeEnum.ITERATIVO && currentIteration != null && iterationCount != null) {
+            return "Sprint " + currentIteration + "/" + iterationCount;
         }
         return null;
     }
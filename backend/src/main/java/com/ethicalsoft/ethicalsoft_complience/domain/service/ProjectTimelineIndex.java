@@ -0,0 +1,172 @@
+package com.ethicalsoft.ethicalsoft_complience.domain.service;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Iteration;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Project;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Questionnaire;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Stage;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.TimelineWindowDTO;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+public final class ProjectTimelineIndex {
+
+    private final Long projectId;
+    private final LocalDate projectStartDate;
+    private final IntervalSet stages;
+    private final IntervalSet iterations;
+    private final IntervalSet questionnaireStages;
+    private final long[] questionnaireStarts;
+
+    private ProjectTimelineIndex(Long projectId,
+                                 LocalDate projectStartDate,
+                                 List<TimelineWindowDTO> stagesBySequence,
+                                 List<TimelineWindowDTO> iterationsByStart,
+                                 List<TimelineWindowDTO> questionnairesById) {
+        this.projectId = projectId;
+        this.projectStartDate = projectStartDate;
+        this.stages = IntervalSet.of(stagesBySequence);
+        this.iterations = IntervalSet.of(iterationsByStart);
+        this.questionnaireStages = IntervalSet.of(questionnairesById.stream().filter(window -> window.name() != null).toList());
+        this.questionnaireStarts = questionnairesById.stream()
+                .map(TimelineWindowDTO::startDate)
+                .filter(Objects::nonNull)
+                .mapToLong(LocalDate::toEpochDay)
+                .sorted()
+                .toArray();
+    }
+
+    public static ProjectTimelineIndex of(Project project) {
+        List<TimelineWindowDTO> stages = Optional.ofNullable(project.getStages()).orElseGet(Set::of).stream()
+                .sorted(Comparator.comparingInt(Stage::getSequence).thenComparing(Stage::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(stage -> new TimelineWindowDTO(project.getId(), stage.getName(), stage.getApplicationStartDate(), stage.getApplicationEndDate()))
+                .toList();
+        List<TimelineWindowDTO> iterations = Optional.ofNullable(project.getIterations()).orElseGet(Set::of).stream()
+                .sorted(Comparator.comparing(Iteration::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(iteration -> new TimelineWindowDTO(project.getId(), iteration.getName(), iteration.getApplicationStartDate(), iteration.getApplicationEndDate()))
+                .toList();
+        List<TimelineWindowDTO> questionnaires = Optional.ofNullable(project.getQuestionnaires()).orElseGet(Set::of).stream()
+                .sorted(Comparator.comparing(Questionnaire::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .map(questionnaire -> new TimelineWindowDTO(project.getId(),
+                        questionnaire.getStage() != null ? questionnaire.getStage().getName() : null,
+                        questionnaire.getApplicationStartDate(), questionnaire.getApplicationEndDate()))
+                .toList();
+        return of(project.getId(), project.getStartDate(), stages, iterations, questionnaires);
+    }
+
+    public static ProjectTimelineIndex of(Long projectId,
+                                          LocalDate projectStartDate,
+                                          List<TimelineWindowDTO> stagesBySequence,
+                                          Collection<TimelineWindowDTO> iterations,
+                                          List<TimelineWindowDTO> questionnairesById) {
+        List<TimelineWindowDTO> iterationsByStart = iterations.stream()
+                .sorted(Comparator.comparing(TimelineWindowDTO::startDate, Comparator.nullsLast(Comparator.naturalOrder())))
+                .toList();
+        return new ProjectTimelineIndex(projectId, projectStartDate, stagesBySequence, iterationsByStart, questionnairesById);
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public String findCurrentStageName(LocalDate date) {
+        int position = stages.findFirstContaining(date.toEpochDay());
+        return position < 0 ? null : stages.labels[position];
+    }
+
+    public Integer findCurrentIterationNumber(LocalDate date) {
+        int position = iterations.findFirstContaining(date.toEpochDay());
+        return position < 0 ? null : position + 1;
+    }
+
+    public String findActiveQuestionnaireStageName(LocalDate date) {
+        int position = questionnaireStages.findFirstContaining(date.toEpochDay());
+        return position < 0 ? null : questionnaireStages.labels[position];
+    }
+
+    public LocalDate findNextQuestionnaireDate(LocalDate date) {
+        int position = lowerBound(questionnaireStarts, questionnaireStarts.length, date.toEpochDay());
+        return position < questionnaireStarts.length ? LocalDate.ofEpochDay(questionnaireStarts[position]) : projectStartDate;
+    }
+
+    public TimelineState stateAt(LocalDate date) {
+        return new TimelineState(date,
+                findCurrentStageName(date),
+                findCurrentIterationNumber(date),
+                findActiveQuestionnaireStageName(date),
+                findNextQuestionnaireDate(date));
+    }
+
+    public record TimelineState(LocalDate date,
+                                String currentStage,
+                                Integer currentIteration,
+                                String activeQuestionnaireStage,
+                                LocalDate nextQuestionnaireDate) {
+    }
+
+    private static int lowerBound(long[] sorted, int length, long key) {
+        int low = 0;
+        int high = length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static final class IntervalSet {
+
+        private final String[] labels;
+        private final long[] starts;
+        private final long[] ends;
+        private final long[] maxEnds;
+        private final int[] positions;
+
+        private IntervalSet(String[] labels, long[] starts, long[] ends, int[] positions) {
+            this.labels = labels;
+            this.starts = starts;
+            this.ends = ends;
+            this.positions = positions;
+            this.maxEnds = new long[ends.length];
+            long max = Long.MIN_VALUE;
+            for (int i = 0; i < ends.length; i++) {
+                max = Math.max(max, ends[i]);
+                maxEnds[i] = max;
+            }
+        }
+
+        static IntervalSet of(List<TimelineWindowDTO> windowsByPriority) {
+            String[] labels = windowsByPriority.stream().map(TimelineWindowDTO::name).toArray(String[]::new);
+            int[] bounded = IntStream.range(0, windowsByPriority.size())
+                    .filter(i -> windowsByPriority.get(i).startDate() != null && windowsByPriority.get(i).endDate() != null)
+                    .boxed()
+                    .sorted(Comparator.comparing((Integer i) -> windowsByPriority.get(i).startDate()).thenComparing(i -> i))
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+            long[] starts = Arrays.stream(bounded).mapToLong(i -> windowsByPriority.get(i).startDate().toEpochDay()).toArray();
+            long[] ends = Arrays.stream(bounded).mapToLong(i -> windowsByPriority.get(i).endDate().toEpochDay()).toArray();
+            return new IntervalSet(labels, starts, ends, bounded);
+        }
+
+        int findFirstContaining(long day) {
+            int best = -1;
+            for (int i = lowerBound(starts, starts.length, day + 1) - 1; i >= 0 && maxEnds[i] >= day; i--) {
+                if (ends[i] >= day && (best < 0 || positions[i] < best)) {
+                    best = positions[i];
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -1,16 +1,12 @@
 package com.ethicalsoft.ethicalsoft_complience.domain.service;
 
-import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Iteration;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Project;
-import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Stage;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.ProjectTypeEnum;
 import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.TimelineStatusEnum;
 import lombok.extern.slf4j.Slf4j;
 
 import java.time.Clock;
 import java.time.LocalDate;
-import java.util.Comparator;
-import java.util.Set;
 
 @Slf4j
 public class ProjectTimelineStatusPolicy {
@@ -22,6 +18,10 @@ public class ProjectTimelineStatusPolicy {
     }
 
     public void updateProjectTimeline(Project project) {
+        updateProjectTimeline(project, project != null ? ProjectTimelineIndex.of(project) : null);
+    }
+
+    public void updateProjectTimeline(Project project, ProjectTimelineIndex index) {
         if (project == null) {
             log.warn("[project-timeline-status-policy] Projeto nulo fornecido para atualização de timeline");
             return;
@@ -34,9 +34,9 @@ public class ProjectTimelineStatusPolicy {
         Integer currentIterationIndex = null;
 
         if (project.getType() == ProjectTypeEnum.CASCATA) {
-            currentStage = determineCurrentStage(project.getStages(), today);
+            currentStage = index.findCurrentStageName(today);
         } else if (project.getType() == ProjectTypeEnum.ITERATIVO) {
-            currentIterationIndex = determineCurrentIterationIndex(project.getIterations(), today);
+            currentIterationIndex = index.findCurrentIterationNumber(today);
         }
 
         project.setCurrentSituation(buildCurrentSituation(project, currentStage, currentIterationIndex));
@@ -81,41 +81,4 @@ public class ProjectTimelineStatusPolicy {
         }
         return null;
     }
-
-    private String determineCurrentStage(Set<Stage> stages, LocalDate today) {
-        if (stages == null || stages.isEmpty()) {
-            return null;
-        }
-        return stages.stream()
-                .filter(stage -> isWithinRange(stage.getApplicationStartDate(), stage.getApplicationEndDate(), today))
-                .sorted(Comparator.comparing(Stage::getSequence))
-                .map(Stage::getName)
-                .findFirst()
-                .orElse(null);
-    }
-
-    private Integer determineCurrentIterationIndex(Set<Iteration> iterations, LocalDate today) {
-        if (iterations == null || iterations.isEmpty()) {
-            return null;
-        }
-        var ordered = iterations.stream()
-                .sorted(Comparator.comparing(Iteration::getApplicationStartDate, Comparator.nullsLast(Comparator.naturalOrder())))
-                .toList();
-
-        for (int i = 0; i < ordered.size(); i++) {
-            Iteration iteration = ordered.get(i);
-            if (isWithinRange(iteration.getApplicationStartDate(), iteration.getApplicationEndDate(), today)) {
-                return i + 1;
-            }
-        }
-        return null;
-    }
-
-    private boolean isWithinRange(LocalDate start, LocalDate end, LocalDate date) {
-        if (start == null || end == null) {
-            return false;
-        }
-        return !date.isBefore(start) && !date.isAfter(end);
-    }
 }
-
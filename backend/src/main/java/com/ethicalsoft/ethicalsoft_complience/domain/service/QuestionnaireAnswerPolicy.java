@@ -43,6 +43,16 @@ public class QuestionnaireAnswerPolicy {
                 .orElseGet(List::of));
     }
 
+    public QuestionnaireResponse.AnswerDocument toAnswer(QuestionnaireAnswerRequestDTO dto) {
+        if (dto.getQuestionId() == null) {
+            throw new BusinessException("Questão inválida para este questionário");
+        }
+        QuestionnaireResponse.AnswerDocument answer = new QuestionnaireResponse.AnswerDocument();
+        answer.setQuestionId(dto.getQuestionId());
+        applyAnswer(dto, Map.of(dto.getQuestionId(), answer));
+        return answer;
+    }
+
     public QuestionnaireResponse.AnswerDocument toDocument(Long questionId, String questionText, List<Integer> stageIds, List<Long> roleIds) {
         QuestionnaireResponse.AnswerDocument doc = new QuestionnaireResponse.AnswerDocument();
         doc.setQuestionId(questionId);
@@ -10,13 +10,15 @@ import java.util.List;
 public class QuestionnaireStatusCalculator {
 
     public QuestionnaireResponseStatus calculateStatus(List<QuestionnaireResponse.AnswerDocument> answers) {
-        boolean hasAny = answers.stream().anyMatch(ans -> ans.getResponse() != null);
-        boolean allAnswered = hasAny && answers.stream().allMatch(ans -> ans.getResponse() != null);
+        int answered = (int) answers.stream().filter(ans -> ans.getResponse() != null).count();
+        return calculateStatus(answered, answers.size());
+    }
 
-        if (!hasAny) {
+    public QuestionnaireResponseStatus calculateStatus(int answered, int total) {
+        if (answered == 0) {
             return QuestionnaireResponseStatus.PENDING;
         }
-        return allAnswered ? QuestionnaireResponseStatus.COMPLETED : QuestionnaireResponseStatus.IN_PROGRESS;
+        return answered >= total ? QuestionnaireResponseStatus.COMPLETED : QuestionnaireResponseStatus.IN_PROGRESS;
     }
 }
 
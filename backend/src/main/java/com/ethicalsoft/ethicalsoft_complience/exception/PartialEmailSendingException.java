@@ -0,0 +1,17 @@
+package com.ethicalsoft.ethicalsoft_complience.exception;
+
+import lombok.Getter;
+
+import java.util.Set;
+
+@Getter
+public class PartialEmailSendingException extends EmailSendingException {
+
+	private final Set<String> failedRecipients;
+
+	public PartialEmailSendingException(String message, Set<String> failedRecipients) {
+		super(message, null);
+		this.failedRecipients = Set.copyOf(failedRecipients);
+	}
+
+}
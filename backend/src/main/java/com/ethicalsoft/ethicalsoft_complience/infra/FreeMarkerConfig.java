@@ -19,6 +19,7 @@ public class FreeMarkerConfig {
 		settings.put("default_encoding", "UTF-8");
 		settings.put("number_format", "computer");
 		settings.put("template_exception_handler", "rethrow");
+		settings.put("output_format", "HTMLOutputFormat");
 
 		configurer.setFreemarkerSettings(settings);
 		return configurer;
@@ -0,0 +1,29 @@
+package com.ethicalsoft.ethicalsoft_complience.infra.actuator;
+
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.ReminderFanOutExecutor;
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.ReminderRunReport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+@Endpoint(id = "reminderruns")
+@RequiredArgsConstructor
+public class ReminderRunsEndpoint {
+
+    private final ReminderFanOutExecutor reminderFanOutExecutor;
+
+    @ReadOperation
+    public Map<String, ReminderRunReport> reports() {
+        return reminderFanOutExecutor.lastReports();
+    }
+
+    @ReadOperation
+    public ReminderRunReport report(@Selector String job) {
+        return reminderFanOutExecutor.lastReports().get(job);
+    }
+}
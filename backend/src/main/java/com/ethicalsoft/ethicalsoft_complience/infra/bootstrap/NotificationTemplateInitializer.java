@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Component
@@ -23,6 +24,7 @@ public class NotificationTemplateInitializer {
     private static final String QUESTIONNAIRE_SUBMITTED = "QUESTIONNAIRE_SUBMITTED";
     private static final String QUESTIONNAIRE_COMPLETED = "QUESTIONNAIRE_COMPLETED";
     private static final String DEADLINE_REMINDER = "DEADLINE_REMINDER";
+    private static final String NOTIFICATION_DIGEST = "NOTIFICATION_DIGEST";
 
     private final NotificationTemplateRepository repository;
 
@@ -95,6 +97,15 @@ public class NotificationTemplateInitializer {
                         .body("O projeto {projectName} vence em {deadlineFormatted} (faltam {daysRemaining} dia(s)).")
                         .templateLink("users/project-deadline-reminder.ftl")
                         .channels(List.of(NotificationChannel.INTERNAL.name(), NotificationChannel.EMAIL.name()))
+                        .build(),
+                NotificationTemplateDocument.builder()
+                        .key(NOTIFICATION_DIGEST)
+                        .whoCanSend(List.of(UserRoleEnum.ADMIN.name()))
+                        .recipients(List.of())
+                        .title("Resumo: {count} nova(s) notificação(ões)")
+                        .body("Olá {recipientName}, você tem {count} nova(s) notificação(ões): {summary}.")
+                        .templateLink("users/notification-digest.ftl")
+                        .channels(List.of(NotificationChannel.INTERNAL.name(), NotificationChannel.EMAIL.name()))
                         .build()
         );
     }
@@ -106,6 +117,6 @@ public class NotificationTemplateInitializer {
         if (repository.findByKey(template.getKey()).isPresent()) {
             return;
         }
-        repository.save(template);
+        repository.save(template.toBuilder().version(1L).updatedAt(LocalDateTime.now()).build());
     }
 }
@@ -0,0 +1,26 @@
+package com.ethicalsoft.ethicalsoft_complience.infra.scheduler;
+
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.ArchiveReadNotificationsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.notification.archive.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationArchiveScheduler {
+
+    private final ArchiveReadNotificationsUseCase archiveReadNotificationsUseCase;
+
+    @Scheduled(cron = "${app.notification.archive.cron:0 30 3 * * *}")
+    public void archiveReadNotifications() {
+        try {
+            archiveReadNotificationsUseCase.execute();
+        } catch (Exception ex) {
+            log.error("[scheduler] Falha ao arquivar notificações lidas", ex);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.ethicalsoft.ethicalsoft_complience.infra.scheduler;
+
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.FlushNotificationDigestsUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.notification.digest.enabled", havingValue = "true")
+public class NotificationDigestScheduler {
+
+    private final FlushNotificationDigestsUseCase flushNotificationDigestsUseCase;
+
+    @Scheduled(fixedDelayString = "${app.notification.digest.flush-interval:PT1M}")
+    public void flushDigests() {
+        try {
+            int delivered;
+            do {
+                delivered = flushNotificationDigestsUseCase.execute();
+            } while (delivered > 0);
+        } catch (Exception ex) {
+            log.error("[scheduler] Falha ao gerar resumos de notificações", ex);
+        }
+    }
+}
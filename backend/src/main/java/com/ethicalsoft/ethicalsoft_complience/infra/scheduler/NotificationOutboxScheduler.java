@@ -0,0 +1,29 @@
+package com.ethicalsoft.ethicalsoft_complience.infra.scheduler;
+
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.DispatchNotificationOutboxUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+@ConditionalOnProperty(name = "app.notification.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationOutboxScheduler {
+
+    private final DispatchNotificationOutboxUseCase dispatchNotificationOutboxUseCase;
+
+    @Scheduled(fixedDelayString = "${app.notification.outbox.poll-interval:PT2S}")
+    public void drainOutbox() {
+        try {
+            int dispatched;
+            do {
+                dispatched = dispatchNotificationOutboxUseCase.execute();
+            } while (dispatched > 0);
+        } catch (Exception ex) {
+            log.error("[scheduler] Falha ao processar outbox de notificações", ex);
+        }
+    }
+}
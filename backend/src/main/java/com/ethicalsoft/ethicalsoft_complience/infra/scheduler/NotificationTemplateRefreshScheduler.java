@@ -0,0 +1,25 @@
+package com.ethicalsoft.ethicalsoft_complience.infra.scheduler;
+
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.RefreshNotificationTemplatesUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationTemplateRefreshScheduler {
+
+    private final RefreshNotificationTemplatesUseCase refreshNotificationTemplatesUseCase;
+
+    @Scheduled(fixedDelayString = "${app.notification.templates.refresh-interval:PT5M}",
+            initialDelayString = "${app.notification.templates.refresh-interval:PT5M}")
+    public void refreshTemplates() {
+        try {
+            refreshNotificationTemplatesUseCase.refreshChanged();
+        } catch (Exception ex) {
+            log.error("[scheduler] Falha ao atualizar registro de templates de notificação", ex);
+        }
+    }
+}
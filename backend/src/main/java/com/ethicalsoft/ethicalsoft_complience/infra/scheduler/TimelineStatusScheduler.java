@@ -2,9 +2,12 @@ package com.ethicalsoft.ethicalsoft_complience.infra.scheduler;
 
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.project.SendProjectDeadlineRemindersUseCase;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.questionnaire.SendAutomaticQuestionnaireRemindersUseCase;
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.timeline.RecomputeTimelineStatusesInBulkUseCase;
 import com.ethicalsoft.ethicalsoft_complience.application.usecase.timeline.RefreshAllProjectsTimelineStatusUseCase;
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.timeline.RefreshTimelineIncrementallyUseCase;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
@@ -16,10 +19,37 @@ public class TimelineStatusScheduler {
     private final RefreshAllProjectsTimelineStatusUseCase refreshAllProjectsTimelineStatusUseCase;
     private final SendAutomaticQuestionnaireRemindersUseCase sendAutomaticQuestionnaireRemindersUseCase;
     private final SendProjectDeadlineRemindersUseCase sendProjectDeadlineRemindersUseCase;
+    private final RecomputeTimelineStatusesInBulkUseCase recomputeTimelineStatusesInBulkUseCase;
+    private final RefreshTimelineIncrementallyUseCase refreshTimelineIncrementallyUseCase;
+
+    @Value("${app.timeline.refresh.engine:partitioned}")
+    private String timelineEngine;
+
+    @Value("${app.timeline.refresh.mode:incremental}")
+    private String timelineMode;
 
     @Scheduled(cron = "0 0 0 * * *")
     public void refreshTimelineStatuses() {
-        refreshAllProjectsTimelineStatusUseCase.execute();
+        if ("incremental".equalsIgnoreCase(timelineMode)) {
+            refreshTimelineIncrementallyUseCase.execute();
+        } else {
+            runFullTimelineSweep();
+        }
+    }
+
+    @Scheduled(cron = "${app.timeline.refresh.full-sweep-cron:0 0 2 * * SUN}")
+    public void fullTimelineSweep() {
+        if ("incremental".equalsIgnoreCase(timelineMode)) {
+            runFullTimelineSweep();
+        }
+    }
+
+    private void runFullTimelineSweep() {
+        if ("sql".equalsIgnoreCase(timelineEngine)) {
+            recomputeTimelineStatusesInBulkUseCase.execute();
+        } else {
+            refreshAllProjectsTimelineStatusUseCase.execute();
+        }
     }
 
     @Scheduled(cron = "0 0 6 * * *")
@@ -0,0 +1,50 @@
+package com.ethicalsoft.ethicalsoft_complience.infra.security;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.User;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.UserRepository;
+import com.ethicalsoft.ethicalsoft_complience.application.port.auth.ActingUserPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActingUserAdapter implements ActingUserPort {
+
+    private final UserRepository userRepository;
+
+    @Override
+    public Optional<Long> findCurrentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && authentication.getPrincipal() instanceof User user) {
+            return Optional.ofNullable(user.getId());
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void runAs(Long userId, Runnable action) {
+        if (userId == null) {
+            action.run();
+            return;
+        }
+        SecurityContext previous = SecurityContextHolder.getContext();
+        try {
+            SecurityContext context = SecurityContextHolder.createEmptyContext();
+            userRepository.findById(userId).ifPresentOrElse(
+                    user -> context.setAuthentication(new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities())),
+                    () -> log.warn("[acting-user] Usuário id={} não encontrado, executando sem autenticação", userId));
+            SecurityContextHolder.setContext(context);
+            action.run();
+        } finally {
+            SecurityContextHolder.setContext(previous);
+        }
+    }
+}
@@ -0,0 +1,3 @@
+ALTER TABLE timeline_refresh_partition ADD COLUMN IF NOT EXISTS attempts INTEGER NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS idx_timeline_refresh_run_reference_date ON timeline_refresh_run (reference_date, run_id);
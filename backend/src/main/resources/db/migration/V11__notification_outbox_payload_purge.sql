@@ -0,0 +1,3 @@
+ALTER TABLE notification_outbox ALTER COLUMN payload DROP NOT NULL;
+
+UPDATE notification_outbox SET payload = NULL WHERE status IN ('SENT', 'DEAD');
@@ -0,0 +1,12 @@
+CREATE INDEX IF NOT EXISTS idx_project_owner_name_id ON project (owner_id, name, project_id);
+CREATE INDEX IF NOT EXISTS idx_project_owner_start_date_id ON project (owner_id, start_date, project_id);
+CREATE INDEX IF NOT EXISTS idx_project_owner_deadline_id ON project (owner_id, deadline, project_id);
+
+CREATE INDEX IF NOT EXISTS idx_project_name_id ON project (name, project_id);
+CREATE INDEX IF NOT EXISTS idx_project_start_date_id ON project (start_date, project_id);
+CREATE INDEX IF NOT EXISTS idx_project_deadline_id ON project (deadline, project_id);
+
+CREATE INDEX IF NOT EXISTS idx_representative_user_project ON representative (user_id, project_id);
+CREATE INDEX IF NOT EXISTS idx_representative_project ON representative (project_id);
+CREATE INDEX IF NOT EXISTS idx_stage_project ON stage (project_id);
+CREATE INDEX IF NOT EXISTS idx_iteration_project ON iteration (project_id);
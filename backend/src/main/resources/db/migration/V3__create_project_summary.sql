@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS project_summary (
+    project_id              BIGINT       NOT NULL PRIMARY KEY REFERENCES project (project_id) ON DELETE CASCADE,
+    representative_count    INTEGER      NOT NULL DEFAULT 0,
+    stage_count             INTEGER      NOT NULL DEFAULT 0,
+    iteration_count         INTEGER      NOT NULL DEFAULT 0,
+    questionnaire_count     INTEGER      NOT NULL DEFAULT 0,
+    completed_responses     INTEGER      NOT NULL DEFAULT 0,
+    current_stage           VARCHAR(100),
+    current_iteration       INTEGER,
+    current_situation       VARCHAR(100),
+    timeline_reference_date DATE,
+    updated_at              TIMESTAMP    NOT NULL DEFAULT now()
+);
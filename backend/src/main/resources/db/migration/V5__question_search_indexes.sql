@@ -0,0 +1,4 @@
+CREATE INDEX IF NOT EXISTS idx_question_questionnaire_id ON question (questionnaire_id, question_id);
+CREATE INDEX IF NOT EXISTS idx_question_text_trgm ON question USING gin (immutable_unaccent(lower(text)) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_role_name_trgm ON role USING gin (immutable_unaccent(lower(name)) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_question_role_role_question ON question_role (role_id, question_id);
@@ -0,0 +1,24 @@
+CREATE TABLE IF NOT EXISTS timeline_refresh_run (
+    run_id             BIGSERIAL    PRIMARY KEY,
+    reference_date     DATE         NOT NULL,
+    status             VARCHAR(20)  NOT NULL,
+    processed_projects INTEGER      NOT NULL DEFAULT 0,
+    failed_projects    INTEGER      NOT NULL DEFAULT 0,
+    started_at         TIMESTAMP    NOT NULL,
+    finished_at        TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_timeline_refresh_run_status ON timeline_refresh_run (status, run_id);
+
+CREATE TABLE IF NOT EXISTS timeline_refresh_partition (
+    partition_id       BIGSERIAL    PRIMARY KEY,
+    run_id             BIGINT       NOT NULL REFERENCES timeline_refresh_run (run_id) ON DELETE CASCADE,
+    from_project_id    BIGINT       NOT NULL,
+    to_project_id      BIGINT       NOT NULL,
+    status             VARCHAR(20)  NOT NULL,
+    processed_projects INTEGER      NOT NULL DEFAULT 0,
+    failed_projects    INTEGER      NOT NULL DEFAULT 0,
+    updated_at         TIMESTAMP    NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_timeline_refresh_partition_run ON timeline_refresh_partition (run_id, status, from_project_id);
@@ -0,0 +1,6 @@
+CREATE INDEX IF NOT EXISTS idx_stage_application_start_date ON stage (application_start_date, project_id);
+CREATE INDEX IF NOT EXISTS idx_stage_application_end_date ON stage (application_end_date, project_id);
+CREATE INDEX IF NOT EXISTS idx_iteration_application_start_date ON iteration (application_start_date, project_id);
+CREATE INDEX IF NOT EXISTS idx_iteration_application_end_date ON iteration (application_end_date, project_id);
+CREATE INDEX IF NOT EXISTS idx_questionnaire_application_start_date ON questionnaire (application_start_date, project_id);
+CREATE INDEX IF NOT EXISTS idx_questionnaire_application_end_date ON questionnaire (application_end_date, project_id);
@@ -0,0 +1,19 @@
+CREATE TABLE IF NOT EXISTS notification_outbox (
+    outbox_id        BIGSERIAL     PRIMARY KEY,
+    idempotency_key  VARCHAR(200)  NOT NULL,
+    type             VARCHAR(50)   NOT NULL,
+    payload          TEXT          NOT NULL,
+    actor_user_id    BIGINT,
+    status           VARCHAR(20)   NOT NULL,
+    attempts         INTEGER       NOT NULL DEFAULT 0,
+    next_attempt_at  TIMESTAMP     NOT NULL,
+    locked_at        TIMESTAMP,
+    last_error       TEXT,
+    created_at       TIMESTAMP     NOT NULL,
+    sent_at          TIMESTAMP,
+    CONSTRAINT uk_notification_outbox_idempotency_key UNIQUE (idempotency_key)
+);
+
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_due ON notification_outbox (next_attempt_at, outbox_id) WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_processing ON notification_outbox (locked_at) WHERE status = 'PROCESSING';
+CREATE INDEX IF NOT EXISTS idx_notification_outbox_dead ON notification_outbox (created_at) WHERE status = 'DEAD';
@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS notification_digest_entry (
+    entry_id           BIGSERIAL     PRIMARY KEY,
+    recipient_email    VARCHAR(255)  NOT NULL,
+    recipient_user_id  BIGINT,
+    recipient_name     VARCHAR(255),
+    recipient_roles    VARCHAR(1000),
+    type               VARCHAR(50)   NOT NULL,
+    title              TEXT          NOT NULL,
+    body               TEXT          NOT NULL,
+    created_at         TIMESTAMP     NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_notification_digest_entry_recipient ON notification_digest_entry (recipient_email, created_at);
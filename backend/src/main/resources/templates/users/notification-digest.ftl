@@ -0,0 +1,14 @@
+<html>
+<body>
+  <p>Olá ${recipientName!""},</p>
+  <p>Você tem <strong>${count}</strong> nova(s) notificação(ões):</p>
+  <ul>
+    <#list items as item>
+      <li>
+        <strong>${item.title}</strong><#if item.createdAtFormatted?has_content> (${item.createdAtFormatted})</#if>
+        <#if item.body?has_content><br/>${item.body}</#if>
+      </li>
+    </#list>
+  </ul>
+</body>
+</html>
@@ -0,0 +1,131 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.QuestionnaireAnswerPage;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.QuestionnaireResponse;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.repository.QuestionnaireResponseRepository;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.QuestionnaireResponseStatus;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.MongoExpression;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.convert.MappingMongoConverter;
+import org.springframework.data.mongodb.core.convert.MongoCustomConversions;
+import org.springframework.data.mongodb.core.convert.NoOpDbRefResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class QuestionnaireAnswerPageTransferTest {
+
+    private static final int QUESTIONS = 400;
+    private static final int PAGE_SIZE = 10;
+    private static final int PAGE = 7;
+
+    private final MappingMongoConverter converter = converter();
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final QuestionnaireResponseRepositoryAdapter adapter =
+            new QuestionnaireResponseRepositoryAdapter(mock(QuestionnaireResponseRepository.class), mongoTemplate);
+
+    @Test
+    void deveTransferirBytesEObjetosProporcionaisAoTamanhoDaPagina() {
+        Document stored = new Document();
+        converter.write(response(), stored);
+
+        int fullBytes = bytes(stored);
+        QuestionnaireResponse full = converter.read(QuestionnaireResponse.class, stored);
+        List<QuestionnaireResponse.AnswerDocument> legacyPage = full.getAnswers().subList(PAGE * PAGE_SIZE, (PAGE + 1) * PAGE_SIZE);
+
+        Document fields = pageFields();
+        assertEquals(Document.parse("{ status: 1, submissionDate: 1, version: 1, answers: { $slice: [70, 10] }, "
+                + "answerCount: { $size: { $ifNull: ['$answers', []] } }, "
+                + "answeredCount: { $size: { $filter: { input: { $ifNull: ['$answers', []] }, "
+                + "cond: { $ne: [{ $ifNull: ['$$this.response', null] }, null] } } } } }"), fields);
+
+        Document projected = project(stored, fields);
+        int pageBytes = bytes(projected);
+        QuestionnaireAnswerPage page = converter.read(QuestionnaireAnswerPage.class, projected);
+
+        assertEquals(QUESTIONS, full.getAnswers().size());
+        assertEquals(PAGE_SIZE, page.getAnswers().size());
+        assertEquals(QUESTIONS, page.getAnswerCount());
+        assertEquals(full.getAnswers().stream().filter(answer -> answer.getResponse() != null).count(), page.getAnsweredCount());
+        assertEquals(legacyPage.stream().map(QuestionnaireResponse.AnswerDocument::getQuestionId).toList(),
+                page.getAnswers().stream().map(QuestionnaireResponse.AnswerDocument::getQuestionId).toList());
+        assertTrue(pageBytes * 20 < fullBytes, "pagina=" + pageBytes + " bytes, documento=" + fullBytes + " bytes");
+    }
+
+    private Document pageFields() {
+        when(mongoTemplate.getCollectionName(QuestionnaireResponse.class)).thenReturn("questionnaire_responses");
+        adapter.findAnswerPage(1L, 2, 3L, PAGE * PAGE_SIZE, PAGE_SIZE);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).findOne(query.capture(), eq(QuestionnaireAnswerPage.class), eq("questionnaire_responses"));
+        Document fields = new Document();
+        query.getValue().getFieldsObject().forEach((field, value) ->
+                fields.append(field, value instanceof MongoExpression expression ? expression.toDocument() : value));
+        return fields;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Document project(Document stored, Document fields) {
+        List<Document> answers = (List<Document>) stored.get("answers");
+        List<Integer> slice = (List<Integer>) ((Document) fields.get("answers")).get("$slice");
+        Document projected = new Document("_id", stored.get("_id"));
+        fields.forEach((field, value) -> {
+            if (Integer.valueOf(1).equals(value) && stored.containsKey(field)) {
+                projected.append(field, stored.get(field));
+            }
+        });
+        return projected
+                .append("answers", answers.subList(Math.min(slice.get(0), answers.size()), Math.min(slice.get(0) + slice.get(1), answers.size())))
+                .append("answerCount", answers.size())
+                .append("answeredCount", (int) answers.stream().filter(answer -> answer.get("response") != null).count());
+    }
+
+    private int bytes(Document document) {
+        return new RawBsonDocument(document, new DocumentCodec()).getByteBuffer().remaining();
+    }
+
+    private QuestionnaireResponse response() {
+        QuestionnaireResponse response = new QuestionnaireResponse();
+        response.setId("r1");
+        response.setProjectId(1L);
+        response.setQuestionnaireId(2);
+        response.setRepresentativeId(3L);
+        response.setStatus(QuestionnaireResponseStatus.IN_PROGRESS);
+        response.setVersion(9L);
+        response.setAnswers(IntStream.range(0, QUESTIONS).mapToObj(index -> {
+            QuestionnaireResponse.AnswerDocument answer = new QuestionnaireResponse.AnswerDocument();
+            answer.setQuestionId((long) index);
+            answer.setQuestionText("O projeto documenta a decisão ética número " + index + " junto às partes interessadas?");
+            answer.setStageIds(List.of(1, 2));
+            answer.setRoleIds(List.of(4L));
+            if (index % 2 == 0) {
+                answer.setResponse(true);
+                answer.setAttachments(List.of(new QuestionnaireResponse.LinkDocument("Ata " + index, "https://docs.example.com/atas/" + index)));
+            }
+            return answer;
+        }).toList());
+        return response;
+    }
+
+    private MappingMongoConverter converter() {
+        MongoCustomConversions conversions = new MongoCustomConversions(List.of());
+        MongoMappingContext mappingContext = new MongoMappingContext();
+        mappingContext.setSimpleTypeHolder(conversions.getSimpleTypeHolder());
+        MappingMongoConverter mappingConverter = new MappingMongoConverter(NoOpDbRefResolver.INSTANCE, mappingContext);
+        mappingConverter.setCustomConversions(conversions);
+        mappingConverter.afterPropertiesSet();
+        return mappingConverter;
+    }
+}
@@ -0,0 +1,95 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.QuestionnaireAnswerPage;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.QuestionnaireResponse;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.repository.QuestionnaireResponseRepository;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.QuestionnaireResponseStatus;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class QuestionnaireResponseRepositoryAdapterTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final QuestionnaireResponseRepositoryAdapter adapter =
+            new QuestionnaireResponseRepositoryAdapter(mock(QuestionnaireResponseRepository.class), mongoTemplate);
+
+    @Test
+    void deveAtualizarSomenteAsRespostasDaPaginaComFiltrosPosicionais() {
+        when(mongoTemplate.getCollectionName(QuestionnaireResponse.class)).thenReturn("questionnaire_responses");
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(QuestionnaireAnswerPage.class), eq("questionnaire_responses"))).thenReturn(new QuestionnaireAnswerPage());
+
+        adapter.applyAnswers(1L, 2, 3L, List.of(answer(10L, true), answer(11L, false), answer(10L, false)), 20, 10);
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).findAndModify(query.capture(), update.capture(), any(FindAndModifyOptions.class),
+                eq(QuestionnaireAnswerPage.class), eq("questionnaire_responses"));
+
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertEquals(false, set.get("answers.$[a0].response"));
+        assertEquals(false, set.get("answers.$[a1].response"));
+        assertEquals(8, set.size());
+        assertEquals(2, update.getValue().getArrayFilters().size());
+        assertEquals(new Document("version", 1), update.getValue().getUpdateObject().get("$inc"));
+
+        Document criteria = query.getValue().getQueryObject();
+        assertEquals(new Document("$all", List.of(10L, 11L)), criteria.get("answers.questionId"));
+        assertEquals(new Document("$exists", true), criteria.get("answers.20"));
+        Document fields = query.getValue().getFieldsObject();
+        assertEquals(new Document("$slice", List.of(20, 10)), fields.get("answers"));
+        assertTrue(fields.containsKey("answerCount"));
+        assertTrue(fields.containsKey("answeredCount"));
+    }
+
+    @Test
+    void deveApenasLerPaginaQuandoNaoHaRespostas() {
+        when(mongoTemplate.getCollectionName(QuestionnaireResponse.class)).thenReturn("questionnaire_responses");
+
+        adapter.applyAnswers(1L, 2, null, List.of(), 0, 10);
+
+        verify(mongoTemplate).findOne(any(Query.class), eq(QuestionnaireAnswerPage.class), eq("questionnaire_responses"));
+        verify(mongoTemplate, never()).findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                any(Class.class), any(String.class));
+    }
+
+    @Test
+    void deveCondicionarAtualizacaoDeStatusAVersaoEsperada() {
+        LocalDateTime submittedAt = LocalDateTime.of(2024, 6, 10, 9, 0);
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(QuestionnaireResponse.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 0L, null));
+
+        assertFalse(adapter.updateStatus("r1", 4L, QuestionnaireResponseStatus.COMPLETED, submittedAt));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(query.capture(), update.capture(), eq(QuestionnaireResponse.class));
+        assertEquals(new Document("_id", "r1").append("version", 4L), query.getValue().getQueryObject());
+        assertEquals(new Document("status", QuestionnaireResponseStatus.COMPLETED).append("submissionDate", submittedAt),
+                update.getValue().getUpdateObject().get("$set"));
+        assertEquals(new Document("version", 1), update.getValue().getUpdateObject().get("$inc"));
+    }
+
+    private QuestionnaireResponse.AnswerDocument answer(Long questionId, boolean response) {
+        QuestionnaireResponse.AnswerDocument answer = new QuestionnaireResponse.AnswerDocument();
+        answer.setQuestionId(questionId);
+        answer.setResponse(response);
+        return answer;
+    }
+}
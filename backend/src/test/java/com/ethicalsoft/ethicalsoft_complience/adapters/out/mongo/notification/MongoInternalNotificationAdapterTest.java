@@ -0,0 +1,66 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.NotificationDocument;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.repository.NotificationRepository;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.InternalNotificationPort.BatchSaveResult;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.Notification;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationParty;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationStatus;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MongoInternalNotificationAdapterTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final BulkOperations bulkOperations = mock(BulkOperations.class);
+    private final NotificationUnreadCounter unreadCounter = mock(NotificationUnreadCounter.class);
+    private final MongoInternalNotificationAdapter adapter = new MongoInternalNotificationAdapter(mock(NotificationRepository.class),
+            mongoTemplate, unreadCounter);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveIgnorarNotificacoesJaGravadasEmRetentativaDaMesmaEntrega() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, NotificationDocument.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenThrow(new BulkOperationException("E11000", new MongoBulkWriteException(
+                BulkWriteResult.unacknowledged(), List.of(new BulkWriteError(11000, "duplicate key", new BsonDocument(), 0)),
+                null, new ServerAddress(), Set.of())));
+
+        BatchSaveResult result = adapter.saveAll(List.of(notification(1L), notification(2L), notification(2L)), "QUESTIONNAIRE_REMINDER:initial:9");
+
+        ArgumentCaptor<List<NotificationDocument>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(bulkOperations).insert(inserted.capture());
+        assertEquals(List.of("QUESTIONNAIRE_REMINDER:initial:9:QUESTIONNAIRE_REMINDER:1:1",
+                        "QUESTIONNAIRE_REMINDER:initial:9:QUESTIONNAIRE_REMINDER:2:1",
+                        "QUESTIONNAIRE_REMINDER:initial:9:QUESTIONNAIRE_REMINDER:2:2"),
+                inserted.getValue().stream().map(NotificationDocument::getDeliveryKey).toList());
+        assertTrue(result.failures().isEmpty());
+        assertEquals(2, result.saved().size());
+        verify(unreadCounter).incrementAll(eq(Map.of(2L, 2L)));
+    }
+
+    private Notification notification(Long recipientUserId) {
+        return new Notification(null, null, new NotificationParty(recipientUserId, "Rep", "rep@x.com", List.of()),
+                "Pendente", "Olá", NotificationStatus.UNREAD, LocalDateTime.of(2024, 6, 10, 9, 0), null, "QUESTIONNAIRE_REMINDER");
+    }
+}
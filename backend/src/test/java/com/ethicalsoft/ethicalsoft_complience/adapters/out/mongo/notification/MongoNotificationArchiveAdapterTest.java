@@ -0,0 +1,45 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.NotificationDocument;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class MongoNotificationArchiveAdapterTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final MongoNotificationArchiveAdapter adapter =
+            new MongoNotificationArchiveAdapter(mongoTemplate, new SimpleMeterRegistry(), Duration.ofDays(365));
+
+    @Test
+    void deveUsarCreatedAtQuandoNotificacaoLidaNaoTemUpdatedAt() {
+        LocalDateTime cutoff = LocalDateTime.of(2024, 6, 10, 0, 0);
+
+        assertEquals(0, adapter.archiveReadBefore(cutoff, 50));
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(NotificationDocument.class));
+        Document criteria = query.getValue().getQueryObject();
+        assertEquals(NotificationStatus.READ, criteria.get("status"));
+        List<?> alternatives = (List<?>) criteria.get("$or");
+        assertEquals(new Document("updatedAt", new Document("$lt", cutoff)), alternatives.get(0));
+        Document withoutUpdate = (Document) alternatives.get(1);
+        assertTrue(withoutUpdate.containsKey("updatedAt"));
+        assertEquals(null, withoutUpdate.get("updatedAt"));
+        assertEquals(new Document("$lt", cutoff), withoutUpdate.get("createdAt"));
+        assertEquals(50, query.getValue().getLimit());
+    }
+}
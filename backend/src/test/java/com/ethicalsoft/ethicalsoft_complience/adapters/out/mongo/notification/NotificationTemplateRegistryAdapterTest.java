@@ -0,0 +1,66 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.NotificationTemplateDocument;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.repository.NotificationTemplateRepository;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationChannel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class NotificationTemplateRegistryAdapterTest {
+
+    private final NotificationTemplateRepository repository = mock(NotificationTemplateRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final NotificationTemplateRegistryAdapter registry = new NotificationTemplateRegistryAdapter(repository, meterRegistry);
+
+    @Test
+    void deveServirTemplatesDaMemoriaAposCarga() {
+        when(repository.findAll()).thenReturn(List.of(document("QUESTIONNAIRE_REMINDER", 1L, "Pendente: {questionnaireName}")));
+
+        registry.reloadAll();
+        var template = registry.findByKey("QUESTIONNAIRE_REMINDER");
+        registry.findByKey("QUESTIONNAIRE_REMINDER");
+
+        assertEquals("Pendente: {questionnaireName}", template.orElseThrow().title());
+        assertEquals(List.of(NotificationChannel.INTERNAL, NotificationChannel.EMAIL), template.get().channels());
+        verify(repository, never()).findByKey(any());
+        assertEquals(2d, meterRegistry.counter("notification.template.registry.hits").count());
+    }
+
+    @Test
+    void deveRecarregarSomenteTemplatesComNovaVersao() {
+        when(repository.findAll()).thenReturn(List.of(
+                document("QUESTIONNAIRE_REMINDER", 1L, "Antigo"),
+                document("DEADLINE_REMINDER", 1L, "Prazo"),
+                document("REMOVIDO", 1L, "Removido")));
+        registry.reloadAll();
+
+        when(repository.findAllVersions()).thenReturn(List.of(
+                document("QUESTIONNAIRE_REMINDER", 2L, null),
+                document("DEADLINE_REMINDER", 1L, null)));
+        when(repository.findByKey("QUESTIONNAIRE_REMINDER")).thenReturn(Optional.of(document("QUESTIONNAIRE_REMINDER", 2L, "Novo")));
+
+        assertEquals(2, registry.refreshChanged());
+        assertEquals("Novo", registry.findByKey("QUESTIONNAIRE_REMINDER").orElseThrow().title());
+        verify(repository, never()).findByKey("DEADLINE_REMINDER");
+
+        when(repository.findByKey("REMOVIDO")).thenReturn(Optional.empty());
+        assertTrue(registry.findByKey("REMOVIDO").isEmpty());
+        assertEquals(1d, meterRegistry.counter("notification.template.registry.misses").count());
+    }
+
+    private NotificationTemplateDocument document(String key, Long version, String title) {
+        return NotificationTemplateDocument.builder()
+                .key(key)
+                .title(title)
+                .body("")
+                .channels(List.of("internal", "EMAIL"))
+                .version(version)
+                .build();
+    }
+}
@@ -0,0 +1,68 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.NotificationDocument;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.NotificationUnreadCounterDocument;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationStatus;
+import org.junit.jupiter.api.Test;
+import org.bson.Document;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class NotificationUnreadCounterTest {
+
+    private final MongoTemplate mongoTemplate = mock(MongoTemplate.class);
+    private final NotificationUnreadCounter counter = new NotificationUnreadCounter(mongoTemplate);
+
+    @Test
+    void deveDecrementarSomenteQuandoSaiDeNaoLida() {
+        counter.applyTransition(3L, NotificationStatus.UNREAD, NotificationStatus.READ);
+        counter.applyTransition(3L, NotificationStatus.READ, NotificationStatus.DELETED);
+        counter.applyTransition(3L, NotificationStatus.READ, NotificationStatus.READ);
+
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate, times(1)).upsert(any(Query.class), update.capture(), eq(NotificationUnreadCounterDocument.class));
+        assertEquals(-1L, ((org.bson.Document) update.getValue().getUpdateObject().get("$inc")).get("unread"));
+    }
+
+    @Test
+    void deveLerContadorComUmaConsultaPorChave() {
+        when(mongoTemplate.findById(3L, NotificationUnreadCounterDocument.class))
+                .thenReturn(NotificationUnreadCounterDocument.builder().userId(3L).unread(4).build());
+
+        assertEquals(4L, counter.read(3L));
+        verify(mongoTemplate, never()).count(any(Query.class), any(Class.class));
+    }
+
+    @Test
+    void deveRetornarZeroSemContarNotificacoesQuandoNaoHaContador() {
+        assertEquals(0L, counter.read(3L));
+        verify(mongoTemplate, never()).count(any(Query.class), any(Class.class));
+        verify(mongoTemplate, never()).upsert(any(Query.class), any(Update.class), any(Class.class));
+    }
+
+    @Test
+    void deveRecalcularContadoresAPartirDasNotificacoesUmaUnicaVez() {
+        when(mongoTemplate.getCollectionName(NotificationUnreadCounterDocument.class)).thenReturn("notification_unread_counters");
+        when(mongoTemplate.exists(any(Query.class), eq(NotificationUnreadCounter.BACKFILL_COLLECTION))).thenReturn(false, true);
+
+        counter.backfill();
+        counter.backfill();
+
+        ArgumentCaptor<Aggregation> aggregation = ArgumentCaptor.forClass(Aggregation.class);
+        verify(mongoTemplate, times(1)).aggregate(aggregation.capture(), eq(NotificationDocument.class), eq(Document.class));
+        Document merge = aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT).getLast();
+        assertEquals("notification_unread_counters", merge.get("$merge", Document.class).get("into"));
+        assertEquals("replace", merge.get("$merge", Document.class).get("whenMatched"));
+        assertEquals(NotificationStatus.UNREAD, aggregation.getValue().toPipeline(Aggregation.DEFAULT_CONTEXT).getFirst()
+                .get("$match", Document.class).get("status"));
+        verify(mongoTemplate, times(1)).insert(any(Document.class), eq(NotificationUnreadCounter.BACKFILL_COLLECTION));
+    }
+}
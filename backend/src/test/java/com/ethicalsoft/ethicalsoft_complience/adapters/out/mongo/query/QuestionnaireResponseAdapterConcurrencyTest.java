@@ -0,0 +1,237 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.query;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.QuestionnaireAnswerPage;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.QuestionnaireResponse;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Project;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Questionnaire;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.request.LinkDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.request.QuestionnaireAnswerPageRequestDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.request.QuestionnaireAnswerRequestDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.QuestionnaireResponseStatus;
+import com.ethicalsoft.ethicalsoft_complience.application.port.project.ProjectSummaryPort;
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.SendNotificationUseCase;
+import com.ethicalsoft.ethicalsoft_complience.domain.repository.QuestionnaireRepositoryPort;
+import com.ethicalsoft.ethicalsoft_complience.domain.repository.QuestionnaireResponseRepositoryPort;
+import com.ethicalsoft.ethicalsoft_complience.domain.service.*;
+import com.ethicalsoft.ethicalsoft_complience.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class QuestionnaireResponseAdapterConcurrencyTest {
+
+    private static final long PROJECT_ID = 1L;
+    private static final int QUESTIONNAIRE_ID = 2;
+    private static final long REPRESENTATIVE_ID = 3L;
+    private static final int QUESTIONS = 40;
+    private static final int PAGE_SIZE = 5;
+
+    private final QuestionnaireRepositoryPort questionnaireRepository = mock(QuestionnaireRepositoryPort.class);
+    private final RepresentativeAccessPolicy representativeAccessPolicy = mock(RepresentativeAccessPolicy.class);
+    private final ProjectSummaryPort projectSummaryPort = mock(ProjectSummaryPort.class);
+
+    @Test
+    void naoDevePerderRespostasEmEnviosConcorrentesDePaginas() throws Exception {
+        stubQuestionnaire();
+        int pages = QUESTIONS / PAGE_SIZE;
+        ExecutorService executor = Executors.newFixedThreadPool(pages);
+        try {
+            for (int round = 0; round < 30; round++) {
+                reset(projectSummaryPort);
+                InMemoryResponseRepository repository = new InMemoryResponseRepository();
+                QuestionnaireResponseAdapter adapter = adapter(repository, 50);
+
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<?>> futures = new ArrayList<>();
+                for (int page = 0; page < pages; page++) {
+                    QuestionnaireAnswerPageRequestDTO request = request(page);
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        return adapter.submitAnswerPage(PROJECT_ID, QUESTIONNAIRE_ID, request);
+                    }));
+                }
+                start.countDown();
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+
+                assertTrue(repository.document.getAnswers().stream().allMatch(answer -> Boolean.FALSE.equals(answer.getResponse())), "round " + round);
+                assertEquals(QuestionnaireResponseStatus.COMPLETED, repository.document.getStatus(), "round " + round);
+                assertTransitionsAccountedOnce(round);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void deveDesistirAposTentativasLimiteQuandoVersaoSempreConflita() {
+        stubQuestionnaire();
+        QuestionnaireResponseRepositoryPort repository = mock(QuestionnaireResponseRepositoryPort.class);
+        QuestionnaireAnswerPage page = new QuestionnaireAnswerPage("r1", QuestionnaireResponseStatus.PENDING, null, List.of(), QUESTIONS, 1, 4L);
+        when(repository.applyAnswers(eq(PROJECT_ID), eq(QUESTIONNAIRE_ID), eq(REPRESENTATIVE_ID), anyList(), anyInt(), anyInt()))
+                .thenReturn(Optional.of(page));
+        when(repository.updateStatus(any(), anyLong(), any(), any())).thenReturn(false);
+
+        assertThrows(BusinessException.class, () -> adapter(repository, 3).submitAnswerPage(PROJECT_ID, QUESTIONNAIRE_ID, request(0)));
+
+        verify(repository, times(3)).applyAnswers(eq(PROJECT_ID), eq(QUESTIONNAIRE_ID), eq(REPRESENTATIVE_ID), anyList(), anyInt(), anyInt());
+        verifyNoInteractions(projectSummaryPort);
+    }
+
+    private void assertTransitionsAccountedOnce(int round) {
+        ArgumentCaptor<QuestionnaireResponseStatus> previous = ArgumentCaptor.forClass(QuestionnaireResponseStatus.class);
+        ArgumentCaptor<QuestionnaireResponseStatus> current = ArgumentCaptor.forClass(QuestionnaireResponseStatus.class);
+        verify(projectSummaryPort, atLeastOnce()).recordResponseStatusChange(eq(PROJECT_ID), previous.capture(), current.capture());
+        int leftPending = 0;
+        int reachedCompleted = 0;
+        for (int i = 0; i < previous.getAllValues().size(); i++) {
+            QuestionnaireResponseStatus from = previous.getAllValues().get(i);
+            QuestionnaireResponseStatus to = current.getAllValues().get(i);
+            if (from == QuestionnaireResponseStatus.PENDING && to != QuestionnaireResponseStatus.PENDING) {
+                leftPending++;
+            }
+            if (from != QuestionnaireResponseStatus.COMPLETED && to == QuestionnaireResponseStatus.COMPLETED) {
+                reachedCompleted++;
+            }
+        }
+        assertEquals(1, leftPending, "round " + round);
+        assertEquals(1, reachedCompleted, "round " + round);
+    }
+
+    private QuestionnaireResponseAdapter adapter(QuestionnaireResponseRepositoryPort repository, int maxAttempts) {
+        LinkMapper linkMapper = new LinkMapper();
+        return new QuestionnaireResponseAdapter(questionnaireRepository, repository, new QuestionnaireAnswerPolicy(linkMapper),
+                new QuestionnaireStatusCalculator(), new PageSliceResolver(), linkMapper, representativeAccessPolicy,
+                mock(SendNotificationUseCase.class), projectSummaryPort, maxAttempts);
+    }
+
+    private void stubQuestionnaire() {
+        Project project = new Project();
+        project.setId(PROJECT_ID);
+        Questionnaire questionnaire = new Questionnaire();
+        questionnaire.setId(QUESTIONNAIRE_ID);
+        questionnaire.setProject(project);
+        when(questionnaireRepository.findById(QUESTIONNAIRE_ID)).thenReturn(Optional.of(questionnaire));
+        when(representativeAccessPolicy.resolveRepresentativeId(PROJECT_ID)).thenReturn(REPRESENTATIVE_ID);
+    }
+
+    private QuestionnaireAnswerPageRequestDTO request(int page) {
+        List<QuestionnaireAnswerRequestDTO> answers = IntStream.range(page * PAGE_SIZE, (page + 1) * PAGE_SIZE)
+                .mapToObj(index -> {
+                    LinkDTO justification = new LinkDTO();
+                    justification.setDescricao("Justificativa " + index);
+                    QuestionnaireAnswerRequestDTO answer = new QuestionnaireAnswerRequestDTO();
+                    answer.setQuestionId((long) index);
+                    answer.setResponse(false);
+                    answer.setJustification(justification);
+                    return answer;
+                })
+                .toList();
+        return QuestionnaireAnswerPageRequestDTO.builder().pageNumber(page).pageSize(PAGE_SIZE).answers(answers).build();
+    }
+
+    private static class InMemoryResponseRepository implements QuestionnaireResponseRepositoryPort {
+
+        private final QuestionnaireResponse document = new QuestionnaireResponse();
+
+        InMemoryResponseRepository() {
+            document.setId("r1");
+            document.setProjectId(PROJECT_ID);
+            document.setQuestionnaireId(QUESTIONNAIRE_ID);
+            document.setRepresentativeId(REPRESENTATIVE_ID);
+            document.setStatus(QuestionnaireResponseStatus.PENDING);
+            document.setVersion(0L);
+            document.setAnswers(IntStream.range(0, QUESTIONS).mapToObj(index -> {
+                QuestionnaireResponse.AnswerDocument answer = new QuestionnaireResponse.AnswerDocument();
+                answer.setQuestionId((long) index);
+                return answer;
+            }).toList());
+        }
+
+        @Override
+        public synchronized Optional<QuestionnaireAnswerPage> findAnswerPage(Long projectId, Integer questionnaireId, Long representativeId,
+                                                                             int fromIndex, int pageSize) {
+            int answered = (int) document.getAnswers().stream().filter(answer -> answer.getResponse() != null).count();
+            return Optional.of(new QuestionnaireAnswerPage(document.getId(), document.getStatus(), document.getSubmissionDate(),
+                    List.copyOf(document.getAnswers().subList(Math.min(fromIndex, QUESTIONS), Math.min(fromIndex + pageSize, QUESTIONS))),
+                    QUESTIONS, answered, document.getVersion()));
+        }
+
+        @Override
+        public synchronized Optional<QuestionnaireAnswerPage> applyAnswers(Long projectId, Integer questionnaireId, Long representativeId,
+                                                                           List<QuestionnaireResponse.AnswerDocument> answers, int fromIndex, int pageSize) {
+            answers.forEach(submitted -> document.getAnswers().stream()
+                    .filter(stored -> stored.getQuestionId().equals(submitted.getQuestionId()))
+                    .forEach(stored -> {
+                        stored.setResponse(submitted.getResponse());
+                        stored.setJustification(submitted.getJustification());
+                    }));
+            document.setVersion(document.getVersion() + 1);
+            return findAnswerPage(projectId, questionnaireId, representativeId, fromIndex, pageSize);
+        }
+
+        @Override
+        public synchronized boolean updateStatus(String id, Long expectedVersion, QuestionnaireResponseStatus status, LocalDateTime submissionDate) {
+            if (!document.getVersion().equals(expectedVersion)) {
+                return false;
+            }
+            document.setStatus(status);
+            document.setSubmissionDate(submissionDate);
+            document.setVersion(document.getVersion() + 1);
+            return true;
+        }
+
+        @Override
+        public Optional<QuestionnaireResponse> findByQuestionnaireIdAndRepresentativeId(Integer questionnaireId, Long representativeId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<QuestionnaireResponse> findByQuestionnaireId(Integer questionnaireId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<QuestionnaireResponse> findByProjectIdAndQuestionnaireId(Long projectId, Integer questionnaireId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<QuestionnaireResponse> findPendingResponses(Long projectId, Integer questionnaireId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Optional<QuestionnaireResponse> findByProjectIdAndQuestionnaireIdAndRepresentativeId(Long projectId, Integer questionnaireId, Long representativeId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<QuestionnaireResponse> findSummariesByProjectAndQuestionnaire(Long projectId, Integer questionnaireId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public QuestionnaireResponse save(QuestionnaireResponse response) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.exception.EmailSendingException;
+import com.ethicalsoft.ethicalsoft_complience.exception.PartialEmailSendingException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Message;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class BatchingEmailDispatcherTest {
+
+    private final JavaMailSender mailSender = mock(JavaMailSender.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final BatchingEmailDispatcher dispatcher = new BatchingEmailDispatcher(mailSender, meterRegistry, 50, 2, 0, 50, 3);
+
+    @Test
+    void deveAgruparFanOutEmLotesPorSessaoSmtp() {
+        dispatcher.runBatched(() -> IntStream.range(0, 120).forEach(i -> dispatcher.dispatch(message())));
+
+        ArgumentCaptor<MimeMessage[]> batches = ArgumentCaptor.forClass(MimeMessage[].class);
+        verify(mailSender, times(3)).send(batches.capture());
+        assertEquals(List.of(50, 50, 20), batches.getAllValues().stream().map(batch -> batch.length).sorted((a, b) -> b - a).toList());
+        assertEquals(120d, meterRegistry.counter("notification.email.sent").count());
+    }
+
+    @Test
+    void naoDeveEnviarLoteQuandoEntregaFalha() {
+        assertThrows(IllegalStateException.class, () -> dispatcher.runBatched(() -> {
+            dispatcher.dispatch(message());
+            throw new IllegalStateException("template inválido");
+        }));
+
+        verifyNoInteractions(mailSender);
+    }
+
+    @Test
+    void deveReenviarApenasMensagensDoLoteQueFalhou() {
+        MimeMessage failing = message();
+        List<Integer> sentSizes = new CopyOnWriteArrayList<>();
+        AtomicBoolean failedOnce = new AtomicBoolean();
+        doAnswer(inv -> {
+            List<Object> batch = List.of(inv.getArguments());
+            sentSizes.add(batch.size());
+            if (batch.contains(failing) && failedOnce.compareAndSet(false, true)) {
+                throw new MailSendException(Map.<Object, Exception>of(failing, new MessagingException("421 try again")));
+            }
+            return null;
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        dispatcher.runBatched(() -> {
+            IntStream.range(0, 70).forEach(i -> dispatcher.dispatch(message()));
+            dispatcher.dispatch(failing);
+        });
+
+        assertEquals(List.of(50, 21, 1), sentSizes.stream().sorted((a, b) -> b - a).toList());
+        assertEquals(71d, meterRegistry.counter("notification.email.sent").count());
+        assertEquals(0d, meterRegistry.counter("notification.email.failed").count());
+    }
+
+    @Test
+    void deveFalharQuandoLoteContinuaFalhandoAposTentativas() {
+        doThrow(new MailSendException("smtp indisponível")).when(mailSender).send(any(MimeMessage[].class));
+
+        assertThrows(EmailSendingException.class, () -> dispatcher.runBatched(() -> dispatcher.dispatch(message())));
+
+        verify(mailSender, times(3)).send(any(MimeMessage[].class));
+        assertEquals(1d, meterRegistry.counter("notification.email.failed").count());
+    }
+
+    @Test
+    void deveInformarDestinatariosQueContinuaramFalhando() throws Exception {
+        MimeMessage delivered = message("ana@x.com");
+        MimeMessage failing = message("Bia@X.com");
+        doAnswer(inv -> {
+            if (List.of(inv.getArguments()).contains(failing)) {
+                throw new MailSendException(Map.<Object, Exception>of(failing, new MessagingException("550 mailbox unavailable")));
+            }
+            return null;
+        }).when(mailSender).send(any(MimeMessage[].class));
+
+        PartialEmailSendingException ex = assertThrows(PartialEmailSendingException.class, () -> dispatcher.runBatched(() -> {
+            dispatcher.dispatch(delivered);
+            dispatcher.dispatch(failing);
+        }));
+
+        assertEquals(Set.of("bia@x.com"), ex.getFailedRecipients());
+        assertEquals(1d, meterRegistry.counter("notification.email.sent").count());
+        assertEquals(1d, meterRegistry.counter("notification.email.failed").count());
+    }
+
+    private MimeMessage message(String to) throws MessagingException {
+        MimeMessage message = message();
+        message.setRecipient(Message.RecipientType.TO, new InternetAddress(to));
+        return message;
+    }
+
+    private MimeMessage message() {
+        return new MimeMessage(Session.getInstance(new Properties()));
+    }
+}
@@ -0,0 +1,72 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationDigestPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationDigestPort.DigestEntry;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationChannel;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationTemplate;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationType;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ChannelSenderTest {
+
+    private final NotificationChannelSender notificationChannelSender = mock(NotificationChannelSender.class);
+    private final NotificationDigestPort notificationDigestPort = mock(NotificationDigestPort.class);
+    private final NotificationTemplate reminder = new NotificationTemplate("QUESTIONNAIRE_REMINDER", List.of(), List.of(),
+            "Pendente: {questionnaireName}", "Olá {recipientName}", "users/questionnaire-reminder.ftl",
+            List.of(NotificationChannel.INTERNAL, NotificationChannel.EMAIL));
+
+    @Test
+    void deveAcumularTipoAgrupavelNoResumoQuandoModoAtivo() {
+        when(notificationChannelSender.supports(any())).thenReturn(true);
+        ChannelSender sender = new ChannelSender(notificationChannelSender, new NotificationTemplateCompiler(), notificationDigestPort, true);
+
+        sender.send(reminder, Map.of("questionnaireName", "Q1", "recipientName", "Ana"), builder -> builder
+                .recipientUserId(7L)
+                .recipientEmail("ana@x.com")
+                .recipientName("Ana")
+                .recipientRoles(List.of("Analista de Qualidade")));
+
+        ArgumentCaptor<DigestEntry> entry = ArgumentCaptor.forClass(DigestEntry.class);
+        verify(notificationDigestPort).buffer(entry.capture());
+        verify(notificationChannelSender, never()).sendInternal(any(), any(), any());
+        verify(notificationChannelSender, never()).sendEmail(any(), any(), any());
+        assertEquals(NotificationType.QUESTIONNAIRE_REMINDER, entry.getValue().type());
+        assertEquals("ana@x.com", entry.getValue().recipientEmail());
+        assertEquals("Pendente: Q1", entry.getValue().title());
+        assertEquals("Olá Ana", entry.getValue().body());
+    }
+
+    @Test
+    void deveEnviarImediatamenteTipoNaoAgrupavel() {
+        when(notificationChannelSender.supports(any())).thenReturn(true);
+        ChannelSender sender = new ChannelSender(notificationChannelSender, new NotificationTemplateCompiler(), notificationDigestPort, true);
+        NotificationTemplate submitted = new NotificationTemplate("QUESTIONNAIRE_SUBMITTED", List.of(), List.of(),
+                "Enviado", "Corpo", "users/questionnaire-submitted.ftl", List.of(NotificationChannel.INTERNAL, NotificationChannel.EMAIL));
+
+        sender.send(submitted, Map.of(), builder -> builder.recipientEmail("ana@x.com"));
+
+        verify(notificationDigestPort, never()).buffer(any());
+        verify(notificationChannelSender).sendInternal(any(), any(), any());
+        verify(notificationChannelSender).sendEmail(any(), any(), any());
+    }
+
+    @Test
+    void deveEnviarImediatamenteQuandoModoResumoDesativado() {
+        when(notificationChannelSender.supports(any())).thenReturn(true);
+        ChannelSender sender = new ChannelSender(notificationChannelSender, new NotificationTemplateCompiler(), notificationDigestPort, false);
+
+        sender.send(reminder, Map.of(), builder -> builder.recipientEmail("ana@x.com"));
+
+        verifyNoInteractions(notificationDigestPort);
+        verify(notificationChannelSender).sendInternal(any(), any(), any());
+        verify(notificationChannelSender).sendEmail(any(), any(), any());
+    }
+}
@@ -0,0 +1,42 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification;
+
+import freemarker.cache.StringTemplateLoader;
+import freemarker.template.Configuration;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledEmailTemplateTest {
+
+    @Test
+    void deveReaproveitarRenderizacaoQuandoVariaveisUsadasNaoMudam() throws Exception {
+        CompiledEmailTemplate compiled = new CompiledEmailTemplate(template("<p>${projectName} - ${period}</p>"), 8);
+
+        String first = compiled.render(Map.of("projectName", "Portal", "period", "jan", "recipientName", "ana@x.com"));
+        String second = compiled.render(Map.of("projectName", "Portal", "period", "jan", "recipientName", "bia@x.com"));
+        String other = compiled.render(Map.of("projectName", "Outro", "period", "jan", "recipientName", "bia@x.com"));
+
+        assertEquals("<p>Portal - jan</p>", first);
+        assertSame(first, second);
+        assertEquals("<p>Outro - jan</p>", other);
+    }
+
+    @Test
+    void deveRenderizarPorDestinatarioQuandoTemplateUsaDadosDoDestinatario() throws Exception {
+        CompiledEmailTemplate compiled = new CompiledEmailTemplate(template("<#if recipientName??>Olá ${recipientName}</#if>"), 8);
+
+        assertEquals("Olá ana", compiled.render(Map.of("recipientName", "ana")));
+        assertEquals("Olá bia", compiled.render(Map.of("recipientName", "bia")));
+        assertEquals("", compiled.render(Map.of()));
+    }
+
+    private freemarker.template.Template template(String source) throws Exception {
+        Configuration configuration = new Configuration(Configuration.VERSION_2_3_32);
+        StringTemplateLoader loader = new StringTemplateLoader();
+        loader.putTemplate("email.ftl", source);
+        configuration.setTemplateLoader(loader);
+        return configuration.getTemplate("email.ftl");
+    }
+}
@@ -0,0 +1,33 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.infra.FreeMarkerConfig;
+import freemarker.template.Configuration;
+import org.junit.jupiter.api.Test;
+import org.springframework.ui.freemarker.FreeMarkerTemplateUtils;
+import org.springframework.web.servlet.view.freemarker.FreeMarkerConfigurer;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EmailTemplateEscapingTest {
+
+    @Test
+    void deveEscaparConteudoDasNotificacoesNoResumo() throws Exception {
+        FreeMarkerConfigurer configurer = new FreeMarkerConfig().freemarkerConfigurer();
+        configurer.afterPropertiesSet();
+        Configuration configuration = configurer.getConfiguration();
+
+        String html = FreeMarkerTemplateUtils.processTemplateIntoString(configuration.getTemplate("users/notification-digest.ftl"), Map.of(
+                "recipientName", "Ana <b>",
+                "count", 1,
+                "items", List.of(Map.of("title", "<script>alert(1)</script>", "body", "<img src=x onerror=alert(1)>", "createdAtFormatted", ""))));
+
+        assertFalse(html.contains("<script>"));
+        assertFalse(html.contains("<img"));
+        assertTrue(html.contains("&lt;script&gt;alert(1)&lt;/script&gt;"));
+        assertTrue(html.contains("Ana &lt;b&gt;"));
+    }
+}
@@ -0,0 +1,55 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.InternalNotificationPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.InternalNotificationPort.BatchSaveResult;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.InternalNotificationPort.FailedNotification;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationPushPort;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.*;
+import com.ethicalsoft.ethicalsoft_complience.exception.BusinessException;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+class NotificationChannelSenderTest {
+
+    private final InternalNotificationPort internalNotificationPort = mock(InternalNotificationPort.class);
+    private final NotificationChannelSender sender = new NotificationChannelSender(internalNotificationPort, mock(NotificationEmailSender.class), mock(NotificationPushPort.class));
+    private final CompiledNotificationTemplate template = CompiledNotificationTemplate.of(new NotificationTemplate(
+            "QUESTIONNAIRE_REMINDER", List.of(), List.of(), "Pendente: {questionnaireName}", "Olá {recipientName}", null, List.of(NotificationChannel.INTERNAL)));
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveGravarNotificacoesDoFanOutEmUmUnicoLote() {
+        when(internalNotificationPort.saveAll(any(), any())).thenAnswer(invocation -> new BatchSaveResult(invocation.getArgument(0), List.of()));
+
+        sender.runBatched(() -> List.of("ana", "bia", "caio").forEach(name -> sender.sendInternal(template,
+                Map.of("questionnaireName", "Q1", "recipientName", name),
+                NotificationDispatchRequest.builder().recipientEmail(name + "@x.com").build())));
+
+        ArgumentCaptor<List<Notification>> batch = ArgumentCaptor.forClass(List.class);
+        verify(internalNotificationPort, times(1)).saveAll(batch.capture(), isNull());
+        verify(internalNotificationPort, never()).save(any());
+        assertEquals(List.of("Olá ana", "Olá bia", "Olá caio"), batch.getValue().stream().map(Notification::content).toList());
+        assertEquals("Pendente: Q1", batch.getValue().get(0).title());
+    }
+
+    @Test
+    void deveFalharQuandoParteDoLoteNaoForGravada() {
+        when(internalNotificationPort.saveAll(any(), any())).thenAnswer(invocation -> {
+            List<Notification> notifications = invocation.getArgument(0);
+            return new BatchSaveResult(notifications.subList(1, 2), List.of(new FailedNotification(0, notifications.get(0), "duplicate key")));
+        });
+
+        assertThrows(BusinessException.class, () -> sender.runBatched(() -> {
+            sender.sendInternal(template, Map.of(), NotificationDispatchRequest.builder().build());
+            sender.sendInternal(template, Map.of(), NotificationDispatchRequest.builder().build());
+        }));
+    }
+}
@@ -0,0 +1,74 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationDeliveryLedgerPort;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationDeliveryKey;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationType;
+import com.ethicalsoft.ethicalsoft_complience.exception.EmailSendingException;
+import com.ethicalsoft.ethicalsoft_complience.exception.PartialEmailSendingException;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class NotificationDeliveryLedgerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 3, 1);
+
+    private final NotificationDeliveryLedgerPort ledgerPort = mock(NotificationDeliveryLedgerPort.class);
+    private final NotificationDeliveryLedger ledger = new NotificationDeliveryLedger(ledgerPort);
+
+    private final NotificationDeliveryKey ana = NotificationDeliveryKey.forQuestionnaire(NotificationType.QUESTIONNAIRE_REMINDER, "ana@x.com", 10, TODAY);
+    private final NotificationDeliveryKey bia = NotificationDeliveryKey.forQuestionnaire(NotificationType.QUESTIONNAIRE_REMINDER, "bia@x.com", 10, TODAY);
+
+    @Test
+    void deveLiberarChavesReivindicadasQuandoEntregaFalha() {
+        when(ledgerPort.claimAll(any())).thenReturn(Set.of(ana));
+
+        assertThrows(EmailSendingException.class, () -> ledger.runBatched(() -> {
+            ledger.claimAll(List.of(ana, bia));
+            throw new EmailSendingException("smtp indisponível", null);
+        }));
+
+        verify(ledgerPort).release(List.of(ana));
+    }
+
+    @Test
+    void deveLiberarSomenteChavesDosDestinatariosCujoEnvioFalhou() {
+        NotificationDeliveryKey anaOutroQuestionario =
+                NotificationDeliveryKey.forQuestionnaire(NotificationType.QUESTIONNAIRE_REMINDER, "Ana@X.com", 11, TODAY);
+        when(ledgerPort.claimAll(any())).thenReturn(Set.of(ana, bia, anaOutroQuestionario));
+
+        assertThrows(PartialEmailSendingException.class, () -> ledger.runBatched(() -> {
+            ledger.claimAll(List.of(ana, bia, anaOutroQuestionario));
+            throw new PartialEmailSendingException("1 de 3 e-mails falharam", Set.of("ana@x.com"));
+        }));
+
+        ArgumentCaptor<List<NotificationDeliveryKey>> released = ArgumentCaptor.forClass(List.class);
+        verify(ledgerPort).release(released.capture());
+        assertEquals(Set.of(ana, anaOutroQuestionario), Set.copyOf(released.getValue()));
+    }
+
+    @Test
+    void deveManterChavesQuandoEntregaConclui() {
+        when(ledgerPort.claimAll(any())).thenReturn(Set.of(ana, bia));
+
+        ledger.runBatched(() -> assertEquals(Set.of(ana, bia), ledger.claimAll(List.of(ana, bia))));
+
+        verify(ledgerPort, never()).release(any());
+    }
+
+    @Test
+    void deveNormalizarDestinatarioNaChave() {
+        NotificationDeliveryKey upper = NotificationDeliveryKey.forQuestionnaire(NotificationType.QUESTIONNAIRE_REMINDER, " Ana@X.com ", 10, TODAY);
+
+        assertEquals("QUESTIONNAIRE_REMINDER|ana@x.com|questionnaire:10|2024-03-01", upper.value());
+        assertEquals(ana.value(), upper.value());
+        assertNotEquals(ana.value(), NotificationDeliveryKey.forQuestionnaire(NotificationType.QUESTIONNAIRE_REMINDER, "ana@x.com", 10, TODAY.plusDays(1)).value());
+    }
+}
@@ -0,0 +1,40 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.RecipientRoleRowDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.UserRoleEnum;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RecipientDirectoryTest {
+
+    @Test
+    void deveResolverTodosDestinatariosEmUmaConsulta() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findRecipientRoles(eq(7L), anyCollection())).thenReturn(List.of(
+                new RecipientRoleRowDTO(1L, "ana@x.com", "Ana", "Souza", UserRoleEnum.USER, "Analista de Qualidade"),
+                new RecipientRoleRowDTO(1L, "ana@x.com", "Ana", "Souza", UserRoleEnum.USER, "Desenvolvedor"),
+                new RecipientRoleRowDTO(2L, "admin@x.com", null, null, UserRoleEnum.ADMIN, null)
+        ));
+
+        RecipientDirectory.Recipients recipients = new RecipientDirectory(userRepository)
+                .resolve(7L, List.of("ana@x.com", "admin@x.com", "externo@x.com", "ana@x.com"));
+
+        var ana = recipients.get("ana@x.com");
+        assertEquals(1L, ana.id());
+        assertEquals("Ana Souza", ana.name());
+        assertEquals(List.of("USER", "Analista de Qualidade", "Desenvolvedor"), ana.roles());
+        assertEquals(List.of("ADMIN"), recipients.get("admin@x.com").roles());
+        assertEquals("admin@x.com", recipients.displayNameOrEmail("admin@x.com"));
+
+        var external = recipients.get("externo@x.com");
+        assertNull(external.id());
+        assertEquals(List.of(), external.roles());
+        verify(userRepository, times(1)).findRecipientRoles(eq(7L), argThat(emails -> emails.size() == 3));
+    }
+}
@@ -0,0 +1,137 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.notification.stream;
+
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.ListInternalNotificationsPort;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.Notification;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationParty;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class NotificationStreamHubTest {
+
+    private final ListInternalNotificationsPort listPort = mock(ListInternalNotificationsPort.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final NotificationStreamHub hub = new NotificationStreamHub(listPort, meterRegistry, Duration.ofMinutes(1), 10, 2, 5);
+
+    @Test
+    void deveEntregarSomenteParaAssinantesDoDestinatario() {
+        hub.subscribe(1L, null);
+
+        hub.deliverLocal(List.of(notification(1L), notification(2L)));
+
+        assertTrue(hub.hasSubscribers(1L));
+        assertFalse(hub.hasSubscribers(2L));
+        assertEquals(1d, meterRegistry.counter("notification.stream.delivered").count());
+        verifyNoInteractions(listPort);
+    }
+
+    @Test
+    void deveReenviarNotificacoesAposUltimoEventoNaReconexao() {
+        String lastEventId = new ObjectId().toHexString();
+        when(listPort.listAfter(1L, lastEventId, 2)).thenReturn(List.of(notification(1L)));
+
+        hub.subscribe(1L, lastEventId);
+        hub.subscribe(1L, "id-invalido");
+
+        verify(listPort, times(1)).listAfter(anyLong(), anyString(), anyInt());
+    }
+
+    @Test
+    void deveEncerrarConexoesMaisAntigasAoExcederLimitePorUsuario() throws Exception {
+        NotificationStreamHub limited = new NotificationStreamHub(listPort, meterRegistry, Duration.ofMinutes(1), 10, 2, 2);
+        List<SseEmitter> emitters = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            emitters.add(limited.subscribe(1L, null));
+        }
+
+        for (SseEmitter evicted : emitters.subList(0, 4)) {
+            assertThrows(IllegalStateException.class, () -> evicted.send("ping"));
+        }
+        for (SseEmitter active : emitters.subList(4, 6)) {
+            active.send("ping");
+        }
+    }
+
+    @Test
+    void deveLimitarReenvioAoBufferEPararQuandoConexaoForRecusada() {
+        NotificationStreamHub limited = new NotificationStreamHub(listPort, meterRegistry, Duration.ofMinutes(1), 4, 200, 1);
+        List<Notification> notifications = IntStream.range(0, 3).mapToObj(i -> notification(1L)).toList();
+        AtomicInteger read = new AtomicInteger();
+        List<Notification> missed = new AbstractList<>() {
+            @Override
+            public Notification get(int index) {
+                read.incrementAndGet();
+                return notifications.get(index);
+            }
+
+            @Override
+            public int size() {
+                return notifications.size();
+            }
+        };
+        String lastEventId = new ObjectId().toHexString();
+        when(listPort.listAfter(1L, lastEventId, 3)).thenAnswer(inv -> {
+            limited.subscribe(1L, null);
+            return missed;
+        });
+
+        limited.subscribe(1L, lastEventId);
+
+        verify(listPort).listAfter(1L, lastEventId, 3);
+        assertEquals(1, read.get());
+    }
+
+    @Test
+    void deveSegurarEventosAoVivoAteConcluirReenvio() throws Exception {
+        SseEmitter emitter = mock(SseEmitter.class);
+        NotificationStreamSubscription subscription = new NotificationStreamSubscription(1L, emitter, 10, Runnable::run);
+        SseEmitter.SseEventBuilder replayed = SseEmitter.event().id("a");
+        SseEmitter.SseEventBuilder duplicated = SseEmitter.event().id("a");
+        SseEmitter.SseEventBuilder live = SseEmitter.event().id("b");
+
+        subscription.beginReplay();
+        assertTrue(subscription.offerLive("a", duplicated));
+        assertTrue(subscription.offerLive("b", live));
+        verify(emitter, never()).send(any(SseEmitter.SseEventBuilder.class));
+
+        subscription.offer(replayed);
+        subscription.endReplay(Set.of("a"));
+
+        InOrder order = inOrder(emitter);
+        order.verify(emitter).send(replayed);
+        order.verify(emitter).send(live);
+        verify(emitter, never()).send(duplicated);
+    }
+
+    @Test
+    void deveAgruparIdsDoPayloadPostgresDentroDoLimite() {
+        List<Notification> notifications = IntStream.range(0, 400).mapToObj(i -> notification(1L)).toList();
+
+        List<String> payloads = PostgresNotificationPushAdapter.encode(notifications);
+
+        assertTrue(payloads.size() > 1);
+        assertTrue(payloads.stream().allMatch(payload -> payload.length() <= 7000));
+        assertEquals(400, payloads.stream().mapToInt(payload -> payload.split(",").length).sum());
+    }
+
+    private Notification notification(Long userId) {
+        return new Notification(new ObjectId().toHexString(), null, new NotificationParty(userId, null, null, List.of()),
+                "t", "c", NotificationStatus.UNREAD, LocalDateTime.now(), null, "KEY");
+    }
+}
@@ -0,0 +1,35 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.notification;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+class NotificationOutboxPayloadCodecTest {
+
+    private final NotificationOutboxPayloadCodec codec = new NotificationOutboxPayloadCodec();
+
+    @Test
+    void devePreservarTiposDoContextoAposSerializacao() {
+        Map<String, Object> context = new HashMap<>();
+        context.put("projectId", 7L);
+        context.put("questionnaireId", 12);
+        context.put("deadline", LocalDate.of(2024, 6, 30));
+        context.put("submittedAt", LocalDateTime.of(2024, 6, 1, 10, 15));
+        context.put("recipients", List.of("a@ethicalsoft.com", "b@ethicalsoft.com"));
+        context.put("representativeId", null);
+
+        Map<String, Object> decoded = codec.decode(codec.encode(context));
+
+        assertInstanceOf(Long.class, decoded.get("projectId"));
+        assertInstanceOf(Integer.class, decoded.get("questionnaireId"));
+        assertInstanceOf(List.class, decoded.get("recipients"));
+        assertEquals(context, decoded);
+    }
+}
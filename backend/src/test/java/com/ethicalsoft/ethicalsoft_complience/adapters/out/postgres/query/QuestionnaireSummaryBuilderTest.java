@@ -0,0 +1,93 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.query;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.model.dto.QuestionnaireProgressDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.mongo.repository.QuestionnaireResponseRepository;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Project;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Questionnaire;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Representative;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.QuestionnaireSummaryResponseDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.QuestionnaireResponseStatus;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class QuestionnaireSummaryBuilderTest {
+
+    @Test
+    void deveMontarPaginaComUmaUnicaAgregacao() {
+        QuestionnaireResponseRepository repository = mock(QuestionnaireResponseRepository.class);
+        QuestionnaireSummaryBuilder builder = new QuestionnaireSummaryBuilder(repository);
+
+        Project project = new Project();
+        project.setId(1L);
+        Questionnaire q1 = questionnaire(10, project);
+        Questionnaire q2 = questionnaire(20, project);
+        Representative rep1 = representative(100L);
+        Representative rep2 = representative(200L);
+
+        LocalDateTime submittedAt = LocalDateTime.of(2024, 5, 10, 9, 0);
+        when(repository.aggregateProgressByQuestionnaireIds(1L, List.of(10, 20)))
+                .thenReturn(List.of(progress(10,
+                        respondent(100L, QuestionnaireResponseStatus.COMPLETED, submittedAt),
+                        respondent(200L, QuestionnaireResponseStatus.IN_PROGRESS, null))));
+
+        List<QuestionnaireSummaryResponseDTO> summaries = builder.buildAll(1L, List.of(q1, q2), Map.of(100L, rep1, 200L, rep2));
+
+        assertEquals(2, summaries.size());
+        assertEquals(1, summaries.get(0).getRespondedRespondents());
+        assertEquals(1, summaries.get(0).getPendingRespondents());
+        assertEquals(submittedAt, summaries.get(0).getLastResponseAt());
+        assertEquals(QuestionnaireResponseStatus.IN_PROGRESS, summaries.get(0).getProgressStatus());
+        assertEquals(0, summaries.get(1).getRespondedRespondents());
+        assertEquals(QuestionnaireResponseStatus.PENDING, summaries.get(1).getProgressStatus());
+        verify(repository, times(1)).aggregateProgressByQuestionnaireIds(anyLong(), any());
+        verify(repository, never()).findByProjectIdAndQuestionnaireId(anyLong(), any());
+    }
+
+    @Test
+    void naoDeveConsultarMongoParaPaginaVazia() {
+        QuestionnaireResponseRepository repository = mock(QuestionnaireResponseRepository.class);
+        QuestionnaireSummaryBuilder builder = new QuestionnaireSummaryBuilder(repository);
+
+        assertEquals(List.of(), builder.buildAll(1L, List.of(), Map.of()));
+        verifyNoInteractions(repository);
+    }
+
+    private Questionnaire questionnaire(Integer id, Project project) {
+        Questionnaire questionnaire = new Questionnaire();
+        questionnaire.setId(id);
+        questionnaire.setName("Q" + id);
+        questionnaire.setProject(project);
+        return questionnaire;
+    }
+
+    private Representative representative(Long id) {
+        Representative representative = new Representative();
+        representative.setId(id);
+        return representative;
+    }
+
+    private QuestionnaireProgressDTO progress(Integer questionnaireId, QuestionnaireProgressDTO.RespondentProgressDTO... respondents) {
+        QuestionnaireProgressDTO progress = new QuestionnaireProgressDTO();
+        progress.setQuestionnaireId(questionnaireId);
+        progress.setRespondents(List.of(respondents));
+        return progress;
+    }
+
+    private QuestionnaireProgressDTO.RespondentProgressDTO respondent(Long representativeId,
+                                                                     QuestionnaireResponseStatus status,
+                                                                     LocalDateTime submissionDate) {
+        QuestionnaireProgressDTO.RespondentProgressDTO respondent = new QuestionnaireProgressDTO.RespondentProgressDTO();
+        respondent.setRepresentativeId(representativeId);
+        respondent.setStatus(status);
+        respondent.setSubmissionDate(submissionDate);
+        return respondent;
+    }
+}
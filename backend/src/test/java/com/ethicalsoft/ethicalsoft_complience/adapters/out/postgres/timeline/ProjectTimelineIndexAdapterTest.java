@@ -0,0 +1,88 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.timeline;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.TimelineWindowDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.IterationRepository;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.ProjectRepository;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.QuestionnaireRepository;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.repository.StageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class ProjectTimelineIndexAdapterTest {
+
+    private static final Instant NOW = Instant.parse("2024-06-10T12:00:00Z");
+
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final StageRepository stageRepository = mock(StageRepository.class);
+    private final IterationRepository iterationRepository = mock(IterationRepository.class);
+    private final QuestionnaireRepository questionnaireRepository = mock(QuestionnaireRepository.class);
+    private final MutableClock clock = new MutableClock(NOW);
+    private final ProjectTimelineIndexAdapter adapter = new ProjectTimelineIndexAdapter(projectRepository, stageRepository,
+            iterationRepository, questionnaireRepository, 100, Duration.ofMinutes(15), clock);
+
+    @BeforeEach
+    void setUp() {
+        when(projectRepository.findTimelineWindowsByIds(any()))
+                .thenReturn(List.of(new TimelineWindowDTO(1L, "Projeto", LocalDate.of(2024, 1, 1), null)));
+    }
+
+    @Test
+    void deveReutilizarIndiceDentroDoTtl() {
+        adapter.findByProjectId(1L);
+        clock.advance(Duration.ofMinutes(14));
+
+        assertNotNull(adapter.findByProjectId(1L));
+        verify(projectRepository, times(1)).findTimelineWindowsByIds(any());
+    }
+
+    @Test
+    void deveRecarregarIndiceExpiradoOuRemovido() {
+        adapter.findByProjectId(1L);
+        clock.advance(Duration.ofMinutes(16));
+        adapter.findByProjectId(1L);
+        adapter.evict(1L);
+        adapter.findByProjectId(1L);
+
+        verify(projectRepository, times(3)).findTimelineWindowsByIds(any());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+    }
+}
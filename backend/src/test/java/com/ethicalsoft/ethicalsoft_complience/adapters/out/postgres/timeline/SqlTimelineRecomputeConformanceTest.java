@@ -0,0 +1,204 @@
+package com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.timeline;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Iteration;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Project;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Questionnaire;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Stage;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.ProjectTypeEnum;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.TimelineStatusEnum;
+import com.ethicalsoft.ethicalsoft_complience.domain.service.ProjectTimelineStatusPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.sql.*;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@EnabledIfEnvironmentVariable(named = "TIMELINE_CONFORMANCE_DB_URL", matches = ".+")
+class SqlTimelineRecomputeConformanceTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 15);
+    private static final List<LocalDate> DATES = Arrays.asList(null, TODAY.minusDays(10), TODAY.minusDays(1), TODAY, TODAY.plusDays(1), TODAY.plusDays(10));
+    private static final List<TimelineStatusEnum> STATUSES = List.of(TimelineStatusEnum.PENDENTE, TimelineStatusEnum.EM_ANDAMENTO, TimelineStatusEnum.CONCLUIDO);
+
+    private final ProjectTimelineStatusPolicy policy =
+            new ProjectTimelineStatusPolicy(Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+
+    @Test
+    void deveProduzirOMesmoResultadoQueAPoliticaJava() throws SQLException {
+        List<Project> projects = buildScenarios();
+
+        try (Connection connection = DriverManager.getConnection(System.getenv("TIMELINE_CONFORMANCE_DB_URL"),
+                System.getenv("TIMELINE_CONFORMANCE_DB_USER"), System.getenv("TIMELINE_CONFORMANCE_DB_PASSWORD"))) {
+            createTemporarySchema(connection);
+            insert(connection, projects);
+
+            for (String sql : List.of(SqlTimelineRecomputeAdapter.UPDATE_PROJECT_STATUS,
+                    SqlTimelineRecomputeAdapter.UPDATE_STAGE_STATUS,
+                    SqlTimelineRecomputeAdapter.UPDATE_ITERATION_STATUS,
+                    SqlTimelineRecomputeAdapter.UPDATE_QUESTIONNAIRE_STATUS,
+                    SqlTimelineRecomputeAdapter.UPDATE_PROJECT_SITUATION)) {
+                executeWithToday(connection, sql);
+            }
+
+            projects.forEach(policy::updateProjectTimeline);
+
+            Map<String, String> actual = readState(connection);
+            Map<String, String> expected = expectedState(projects);
+            assertEquals(expected, actual);
+        }
+    }
+
+    private List<Project> buildScenarios() {
+        List<Project> projects = new ArrayList<>();
+        long projectId = 1;
+        int childId = 1;
+        for (LocalDate start : DATES) {
+            for (LocalDate end : DATES) {
+                if (start != null && end != null && end.isBefore(start)) {
+                    continue;
+                }
+                for (TimelineStatusEnum status : STATUSES) {
+                    Project waterfall = project(projectId++, ProjectTypeEnum.CASCATA, start, end, status, null);
+                    Stage first = stage(childId++, waterfall, 2, start, end, status);
+                    Stage second = stage(childId++, waterfall, 1, TODAY.minusDays(1), TODAY.plusDays(1), TimelineStatusEnum.PENDENTE);
+                    waterfall.setStages(new HashSet<>(List.of(first, second)));
+                    waterfall.setQuestionnaires(new HashSet<>(List.of(questionnaire(childId++, waterfall, start, end, status))));
+                    projects.add(waterfall);
+
+                    Project iterative = project(projectId++, ProjectTypeEnum.ITERATIVO, start, end, status, 3);
+                    iterative.setIterations(new HashSet<>(List.of(
+                            iteration(childId++, iterative, start, end, status),
+                            iteration(childId++, iterative, TODAY.minusDays(30), TODAY.minusDays(20), TimelineStatusEnum.CONCLUIDO),
+                            iteration(childId++, iterative, TODAY.minusDays(5), TODAY.plusDays(5), TimelineStatusEnum.PENDENTE))));
+                    projects.add(iterative);
+                }
+            }
+        }
+        return projects;
+    }
+
+    private void createTemporarySchema(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create temporary table project (project_id bigint primary key, type varchar(50), start_date date, deadline date, " +
+                    "timeline_status varchar(20), iteration_count integer, current_situation varchar(100))");
+            statement.execute("create temporary table stage (stage_id integer primary key, project_id bigint, name varchar(100), sequence integer, " +
+                    "application_start_date date, application_end_date date, status varchar(20))");
+            statement.execute("create temporary table iteration (iteration_id integer primary key, project_id bigint, name varchar(100), " +
+                    "application_start_date date, application_end_date date, status varchar(20))");
+            statement.execute("create temporary table questionnaire (questionnaire_id integer primary key, project_id bigint, stage_id integer, " +
+                    "application_start_date date, application_end_date date, status varchar(20))");
+        }
+    }
+
+    private void insert(Connection connection, List<Project> projects) throws SQLException {
+        for (Project project : projects) {
+            update(connection, "insert into project values (?, ?, ?, ?, ?, ?, null)",
+                    project.getId(), project.getType().name(), project.getStartDate(), project.getDeadline(), project.getTimelineStatus().name(), project.getIterationCount());
+            for (Stage stage : Optional.ofNullable(project.getStages()).orElse(Set.of())) {
+                update(connection, "insert into stage values (?, ?, ?, ?, ?, ?, ?)",
+                        stage.getId(), project.getId(), stage.getName(), stage.getSequence(), stage.getApplicationStartDate(), stage.getApplicationEndDate(), stage.getStatus().name());
+            }
+            for (Iteration iteration : Optional.ofNullable(project.getIterations()).orElse(Set.of())) {
+                update(connection, "insert into iteration values (?, ?, ?, ?, ?, ?)",
+                        iteration.getId(), project.getId(), iteration.getName(), iteration.getApplicationStartDate(), iteration.getApplicationEndDate(), iteration.getStatus().name());
+            }
+            for (Questionnaire questionnaire : Optional.ofNullable(project.getQuestionnaires()).orElse(Set.of())) {
+                update(connection, "insert into questionnaire values (?, ?, null, ?, ?, ?)",
+                        questionnaire.getId(), project.getId(), questionnaire.getApplicationStartDate(), questionnaire.getApplicationEndDate(), questionnaire.getStatus().name());
+            }
+        }
+    }
+
+    private void executeWithToday(Connection connection, String sql) throws SQLException {
+        int occurrences = sql.split(":today", -1).length - 1;
+        Object[] params = new Object[occurrences];
+        Arrays.fill(params, TODAY);
+        update(connection, sql.replace(":today", "cast(? as date)"), params);
+    }
+
+    private void update(Connection connection, String sql, Object... params) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < params.length; i++) {
+                statement.setObject(i + 1, params[i]);
+            }
+            statement.executeUpdate();
+        }
+    }
+
+    private Map<String, String> readState(Connection connection) throws SQLException {
+        Map<String, String> state = new TreeMap<>();
+        read(connection, state, "select 'project:' || project_id, timeline_status || '|' || coalesce(current_situation, '-') from project");
+        read(connection, state, "select 'stage:' || stage_id, status from stage");
+        read(connection, state, "select 'iteration:' || iteration_id, status from iteration");
+        read(connection, state, "select 'questionnaire:' || questionnaire_id, status from questionnaire");
+        return state;
+    }
+
+    private void read(Connection connection, Map<String, String> state, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement(); ResultSet rs = statement.executeQuery(sql)) {
+            while (rs.next()) {
+                state.put(rs.getString(1), rs.getString(2));
+            }
+        }
+    }
+
+    private Map<String, String> expectedState(List<Project> projects) {
+        Map<String, String> state = new TreeMap<>();
+        for (Project project : projects) {
+            state.put("project:" + project.getId(), project.getTimelineStatus() + "|" + Optional.ofNullable(project.getCurrentSituation()).orElse("-"));
+            Optional.ofNullable(project.getStages()).orElse(Set.of()).forEach(stage -> state.put("stage:" + stage.getId(), stage.getStatus().name()));
+            Optional.ofNullable(project.getIterations()).orElse(Set.of()).forEach(iteration -> state.put("iteration:" + iteration.getId(), iteration.getStatus().name()));
+            Optional.ofNullable(project.getQuestionnaires()).orElse(Set.of()).forEach(questionnaire -> state.put("questionnaire:" + questionnaire.getId(), questionnaire.getStatus().name()));
+        }
+        return state;
+    }
+
+    private Project project(long id, ProjectTypeEnum type, LocalDate start, LocalDate end, TimelineStatusEnum status, Integer iterationCount) {
+        Project project = new Project();
+        project.setId(id);
+        project.setType(type);
+        project.setStartDate(start);
+        project.setDeadline(end);
+        project.setTimelineStatus(status);
+        project.setIterationCount(iterationCount);
+        return project;
+    }
+
+    private Stage stage(int id, Project project, int sequence, LocalDate start, LocalDate end, TimelineStatusEnum status) {
+        Stage stage = new Stage();
+        stage.setId(id);
+        stage.setProject(project);
+        stage.setName("Etapa " + id);
+        stage.setSequence(sequence);
+        stage.setApplicationStartDate(start);
+        stage.setApplicationEndDate(end);
+        stage.setStatus(status);
+        return stage;
+    }
+
+    private Iteration iteration(int id, Project project, LocalDate start, LocalDate end, TimelineStatusEnum status) {
+        Iteration iteration = new Iteration();
+        iteration.setId(id);
+        iteration.setProject(project);
+        iteration.setName("Sprint " + id);
+        iteration.setApplicationStartDate(start);
+        iteration.setApplicationEndDate(end);
+        iteration.setStatus(status);
+        return iteration;
+    }
+
+    private Questionnaire questionnaire(int id, Project project, LocalDate start, LocalDate end, TimelineStatusEnum status) {
+        Questionnaire questionnaire = new Questionnaire();
+        questionnaire.setId(id);
+        questionnaire.setProject(project);
+        questionnaire.setApplicationStartDate(start);
+        questionnaire.setApplicationEndDate(end);
+        questionnaire.setStatus(status);
+        return questionnaire;
+    }
+}
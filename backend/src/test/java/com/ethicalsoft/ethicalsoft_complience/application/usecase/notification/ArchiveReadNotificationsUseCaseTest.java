@@ -0,0 +1,53 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationArchivePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class ArchiveReadNotificationsUseCaseTest {
+
+    private final NotificationArchivePort notificationArchivePort = mock(NotificationArchivePort.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void deveMoverEmLotesAteEsgotarCandidatos() {
+        when(notificationArchivePort.archiveReadBefore(any(), eq(100))).thenReturn(100, 100, 37, 0);
+        var useCase = new ArchiveReadNotificationsUseCase(notificationArchivePort, meterRegistry, Duration.ofDays(30), 100, 50);
+
+        assertEquals(237, useCase.execute());
+
+        verify(notificationArchivePort, times(4)).archiveReadBefore(any(), eq(100));
+        assertEquals(237.0, meterRegistry.counter("notification.archive.moved").count());
+        assertEquals(4, meterRegistry.timer("notification.archive.batch").count());
+    }
+
+    @Test
+    void deveRespeitarLimiteDeLotesPorExecucao() {
+        when(notificationArchivePort.archiveReadBefore(any(), eq(10))).thenReturn(10);
+        var useCase = new ArchiveReadNotificationsUseCase(notificationArchivePort, meterRegistry, Duration.ofDays(30), 10, 3);
+
+        assertEquals(30, useCase.execute());
+
+        verify(notificationArchivePort, times(3)).archiveReadBefore(any(), eq(10));
+    }
+
+    @Test
+    void deveArquivarApenasLidasAntesDaIdadeConfigurada() {
+        when(notificationArchivePort.archiveReadBefore(any(), anyInt())).thenReturn(0);
+        var useCase = new ArchiveReadNotificationsUseCase(notificationArchivePort, meterRegistry, Duration.ofDays(30), 10, 3);
+        LocalDateTime before = LocalDateTime.now().minusDays(30);
+
+        useCase.execute();
+
+        verify(notificationArchivePort).archiveReadBefore(argThat(cutoff -> !cutoff.isBefore(before)
+                && cutoff.isBefore(LocalDateTime.now().minusDays(29))), eq(10));
+    }
+}
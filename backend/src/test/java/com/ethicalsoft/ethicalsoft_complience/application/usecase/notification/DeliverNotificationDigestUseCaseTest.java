@@ -0,0 +1,56 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationDigestPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationDigestPort.DigestEntry;
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.command.SendNotificationCommand;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationType;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class DeliverNotificationDigestUseCaseTest {
+
+    private final NotificationDigestPort notificationDigestPort = mock(NotificationDigestPort.class);
+    private final SendNotificationUseCase sendNotificationUseCase = mock(SendNotificationUseCase.class);
+    private final DeliverNotificationDigestUseCase useCase = new DeliverNotificationDigestUseCase(notificationDigestPort, sendNotificationUseCase);
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void deveAgruparEventosDoDestinatarioEmUmUnicoResumo() {
+        LocalDateTime now = LocalDateTime.of(2024, 3, 1, 6, 0);
+        when(notificationDigestPort.drain("ana@x.com")).thenReturn(List.of(
+                entry(1L, NotificationType.QUESTIONNAIRE_REMINDER, "Pendente: Q1", now),
+                entry(2L, NotificationType.QUESTIONNAIRE_REMINDER, "Pendente: Q2", now.plusMinutes(1)),
+                entry(5L, NotificationType.DEADLINE_REMINDER, "Prazo próximo: P1", now.plusMinutes(2))));
+
+        assertEquals(3, useCase.execute("ana@x.com"));
+
+        ArgumentCaptor<SendNotificationCommand> command = ArgumentCaptor.forClass(SendNotificationCommand.class);
+        verify(sendNotificationUseCase, times(1)).execute(command.capture());
+        assertEquals(NotificationType.NOTIFICATION_DIGEST, command.getValue().type());
+        assertEquals("NOTIFICATION_DIGEST:ana@x.com:5", command.getValue().idempotencyKey());
+        List<Map<String, Object>> items = (List<Map<String, Object>>) command.getValue().context().get("items");
+        assertEquals(List.of("Pendente: Q1", "Pendente: Q2", "Prazo próximo: P1"), items.stream().map(item -> item.get("title")).toList());
+        assertEquals(7L, command.getValue().context().get("recipientUserId"));
+    }
+
+    @Test
+    void naoDeveEnviarResumoSemEventosPendentes() {
+        when(notificationDigestPort.drain("ana@x.com")).thenReturn(List.of());
+
+        assertEquals(0, useCase.execute("ana@x.com"));
+
+        verify(sendNotificationUseCase, never()).execute(any());
+    }
+
+    private DigestEntry entry(Long id, NotificationType type, String title, LocalDateTime createdAt) {
+        return new DigestEntry(id, type, 7L, "ana@x.com", "Ana", List.of("Analista de Qualidade"), title, "corpo", createdAt);
+    }
+}
@@ -0,0 +1,90 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.application.port.auth.ActingUserPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationOutboxPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationOutboxPort.OutboxNotification;
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.command.SendNotificationCommand;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DispatchNotificationOutboxUseCaseTest {
+
+    private final NotificationOutboxPort outboxPort = mock(NotificationOutboxPort.class);
+    private final SendNotificationUseCase sendNotificationUseCase = mock(SendNotificationUseCase.class);
+    private final ActingUserPort actingUserPort = mock(ActingUserPort.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final DispatchNotificationOutboxUseCase useCase = new DispatchNotificationOutboxUseCase(outboxPort, sendNotificationUseCase,
+            actingUserPort, meterRegistry, 2, 10, 3, Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofMinutes(10));
+
+    DispatchNotificationOutboxUseCaseTest() {
+        doAnswer(inv -> {
+            inv.<Runnable>getArgument(1).run();
+            return null;
+        }).when(actingUserPort).runAs(any(), any());
+    }
+
+    @Test
+    void deveEntregarComUsuarioDeOrigemEReagendarFalhas() {
+        OutboxNotification ok = notification(1L, 1);
+        OutboxNotification failing = notification(2L, 1);
+        when(outboxPort.claimDue(10)).thenReturn(List.of(ok, failing));
+        doThrow(new IllegalStateException("smtp indisponível")).when(sendNotificationUseCase).deliver(failing.command());
+
+        assertEquals(2, useCase.execute());
+
+        verify(actingUserPort, times(2)).runAs(eq(99L), any());
+        verify(outboxPort).markSent(1L);
+        verify(outboxPort).markForRetry(eq(2L), anyString(), any());
+        verify(outboxPort, never()).markDead(any(), any());
+        assertEquals(1d, meterRegistry.counter("notification.outbox.sent").count());
+        assertEquals(1d, meterRegistry.counter("notification.outbox.retries").count());
+    }
+
+    @Test
+    void deveMoverParaDeadLetterAposEsgotarTentativas() {
+        OutboxNotification exhausted = notification(3L, 3);
+        doThrow(new IllegalStateException("template ausente")).when(sendNotificationUseCase).deliver(exhausted.command());
+
+        useCase.dispatch(exhausted);
+
+        verify(outboxPort).markDead(eq(3L), anyString());
+        verify(outboxPort, never()).markForRetry(any(), any(), any());
+        assertEquals(Duration.ofSeconds(30), useCase.backoff(1));
+        assertEquals(Duration.ofMinutes(2), useCase.backoff(3));
+        assertEquals(Duration.ofMinutes(5), useCase.backoff(10));
+    }
+
+    @Test
+    void deveRenovarLockEnquantoEntregaEstiverEmAndamento() {
+        DispatchNotificationOutboxUseCase shortLease = new DispatchNotificationOutboxUseCase(outboxPort, sendNotificationUseCase,
+                actingUserPort, meterRegistry, 2, 10, 3, Duration.ofSeconds(30), Duration.ofMinutes(5), Duration.ofMillis(150));
+        OutboxNotification slow = notification(4L, 1);
+        doAnswer(inv -> {
+            Thread.sleep(300);
+            return null;
+        }).when(sendNotificationUseCase).deliver(slow.command());
+
+        shortLease.dispatch(slow);
+        shortLease.shutdown();
+
+        verify(outboxPort, atLeast(2)).renewLease(4L);
+        verify(outboxPort).markSent(4L);
+    }
+
+    private OutboxNotification notification(Long id, int attempts) {
+        SendNotificationCommand command = new SendNotificationCommand(NotificationType.QUESTIONNAIRE_SUBMITTED,
+                Map.of("projectId", id), "QUESTIONNAIRE_SUBMITTED:" + id);
+        return new OutboxNotification(id, command, 99L, attempts);
+    }
+}
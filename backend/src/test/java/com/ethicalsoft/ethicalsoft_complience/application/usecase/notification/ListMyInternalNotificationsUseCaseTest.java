@@ -0,0 +1,74 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.in.web.dto.notification.NotificationInboxCursorDTO;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.User;
+import com.ethicalsoft.ethicalsoft_complience.application.port.auth.CurrentUserPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.ListInternalNotificationsPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationStreamPort;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.Notification;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationStatus;
+import com.ethicalsoft.ethicalsoft_complience.exception.BusinessException;
+import org.bson.types.ObjectId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ListMyInternalNotificationsUseCaseTest {
+
+    private final ListInternalNotificationsPort port = mock(ListInternalNotificationsPort.class);
+    private final CurrentUserPort currentUserPort = mock(CurrentUserPort.class);
+    private final ListMyInternalNotificationsUseCase useCase = new ListMyInternalNotificationsUseCase(port, currentUserPort, mock(NotificationStreamPort.class));
+
+    @BeforeEach
+    void setUp() {
+        User user = new User();
+        user.setId(9L);
+        when(currentUserPort.getCurrentUser()).thenReturn(user);
+    }
+
+    @Test
+    void devePaginarPorCursorDeDataEId() {
+        LocalDateTime base = LocalDateTime.of(2024, 5, 1, 10, 0);
+        List<Notification> fetched = IntStream.range(0, 4)
+                .mapToObj(i -> notification(new ObjectId().toHexString(), base.minusMinutes(i)))
+                .toList();
+        when(port.listInboxPage(eq(9L), eq(NotificationStatus.UNREAD), isNull(), isNull(), eq(4))).thenReturn(fetched);
+
+        var page = useCase.executeInbox(null, 3, NotificationStatus.UNREAD);
+
+        assertEquals(3, page.getContent().size());
+        assertTrue(page.isHasNext());
+        NotificationInboxCursorDTO cursor = NotificationInboxCursorDTO.decode(page.getNextCursor());
+        assertEquals(fetched.get(2).createdAt(), cursor.createdAt());
+        assertEquals(fetched.get(2).id(), cursor.id());
+
+        when(port.listInboxPage(9L, null, cursor.createdAt(), cursor.id(), 4)).thenReturn(fetched.subList(3, 4));
+        var next = useCase.executeInbox(page.getNextCursor(), 3, null);
+        assertFalse(next.isHasNext());
+        assertNull(next.getNextCursor());
+    }
+
+    @Test
+    void deveRejeitarCursorInvalido() {
+        assertThrows(BusinessException.class, () -> useCase.executeInbox("nao-e-cursor", 10, null));
+    }
+
+    @Test
+    void deveLerContadorDeNaoLidas() {
+        when(port.countUnread(9L)).thenReturn(5L);
+
+        assertEquals(5L, useCase.executeUnreadCount().unread());
+        verify(port, never()).listUnseenForRecipient(any());
+    }
+
+    private Notification notification(String id, LocalDateTime createdAt) {
+        return new Notification(id, null, null, "t", "c", NotificationStatus.UNREAD, createdAt, null, "KEY");
+    }
+}
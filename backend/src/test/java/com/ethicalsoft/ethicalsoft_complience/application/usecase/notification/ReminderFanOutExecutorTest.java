@@ -0,0 +1,64 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.notification;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReminderFanOutExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void deveLimitarConcorrenciaEIsolarFalhasPorItem() {
+        ReminderFanOutExecutor executor = new ReminderFanOutExecutor(meterRegistry, 3);
+        Map<Long, List<Long>> groups = new LinkedHashMap<>();
+        for (long project = 1; project <= 20; project++) {
+            groups.put(project, List.of(project * 10 + 1, project * 10 + 2));
+        }
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        ReminderRunReport report = executor.run("teste", groups, item -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10);
+                if (item % 50 == 1) {
+                    throw new IllegalStateException("falha no item " + item);
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            } finally {
+                running.decrementAndGet();
+            }
+        });
+
+        assertTrue(peak.get() <= 3, "pico de concorrência " + peak.get());
+        assertEquals(20, report.groups());
+        assertEquals(40, report.items());
+        assertEquals(36, report.succeededItems());
+        assertEquals(4, report.failedItems());
+        assertEquals(4, report.failedGroups());
+        assertTrue(report.p95ItemLatencyMillis() >= 10);
+        assertEquals(report, executor.lastReports().get("teste"));
+        assertEquals(40, meterRegistry.get("notification.reminder.item").tag("job", "teste").timer().count());
+        assertEquals(4.0, meterRegistry.get("notification.reminder.items").tag("outcome", "failure").counter().count());
+    }
+
+    @Test
+    void deveCalcularPercentilPorPosicao() {
+        long[] sorted = new long[100];
+        for (int i = 0; i < sorted.length; i++) {
+            sorted[i] = i + 1;
+        }
+
+        assertEquals(95, ReminderFanOutExecutor.percentile(sorted, 0.95));
+        assertEquals(7, ReminderFanOutExecutor.percentile(new long[]{7}, 0.95));
+        assertEquals(0, ReminderFanOutExecutor.percentile(new long[0], 0.95));
+    }
+}
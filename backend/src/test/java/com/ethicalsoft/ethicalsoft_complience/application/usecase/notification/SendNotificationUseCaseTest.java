@@ -0,0 +1,95 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.notification;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.notification.NotificationTypeStrategy;
+import com.ethicalsoft.ethicalsoft_complience.application.port.auth.ActingUserPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationDeliveryBatchPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.notification.NotificationOutboxPort;
+import com.ethicalsoft.ethicalsoft_complience.application.usecase.notification.command.SendNotificationCommand;
+import com.ethicalsoft.ethicalsoft_complience.domain.notification.NotificationType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class SendNotificationUseCaseTest {
+
+    private final NotificationTypeStrategy credentialsStrategy = strategy(NotificationType.NEW_USER_CREDENTIALS);
+    private final NotificationTypeStrategy assignmentStrategy = strategy(NotificationType.PROJECT_ASSIGNMENT);
+    private final NotificationOutboxPort outboxPort = mock(NotificationOutboxPort.class);
+    private final ActingUserPort actingUserPort = mock(ActingUserPort.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final Runnable flush = mock(Runnable.class);
+    private final NotificationDeliveryBatchPort batchPort = delivery -> {
+        delivery.run();
+        flush.run();
+    };
+    private final SendNotificationUseCase useCase = new SendNotificationUseCase(List.of(credentialsStrategy, assignmentStrategy),
+            outboxPort, actingUserPort, List.of(batchPort), transactionManager, true);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void naoDeveGravarCredenciaisNoOutboxEDeveEnviarAposCommit() {
+        SendNotificationCommand command = new SendNotificationCommand(NotificationType.NEW_USER_CREDENTIALS,
+                Map.of("to", "rep@ethicalsoft.com", "tempPassword", "s3cr3t"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        useCase.execute(command);
+
+        verifyNoInteractions(outboxPort);
+        verify(credentialsStrategy, never()).send(any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(credentialsStrategy).send(command);
+    }
+
+    @Test
+    void deveEnfileirarNotificacaoSemSegredo() {
+        SendNotificationCommand command = new SendNotificationCommand(NotificationType.PROJECT_ASSIGNMENT, Map.of("to", "rep@ethicalsoft.com"));
+        when(actingUserPort.findCurrentUserId()).thenReturn(Optional.of(4L));
+        when(outboxPort.enqueue(command, 4L)).thenReturn(true);
+
+        useCase.execute(command);
+
+        verify(outboxPort).enqueue(eq(command), eq(4L));
+        verify(assignmentStrategy, never()).send(any());
+    }
+
+    @Test
+    void deveEnviarPelosCanaisSomenteAposEncerrarTransacaoDaEstrategia() {
+        SendNotificationCommand command = new SendNotificationCommand(NotificationType.PROJECT_ASSIGNMENT, Map.of("to", "rep@ethicalsoft.com"));
+
+        useCase.deliver(command);
+
+        InOrder order = inOrder(transactionManager, assignmentStrategy, flush);
+        order.verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        order.verify(assignmentStrategy).send(command);
+        order.verify(transactionManager).commit(any());
+        order.verify(flush).run();
+    }
+
+    private static NotificationTypeStrategy strategy(NotificationType type) {
+        NotificationTypeStrategy strategy = mock(NotificationTypeStrategy.class);
+        when(strategy.type()).thenReturn(type);
+        return strategy;
+    }
+}
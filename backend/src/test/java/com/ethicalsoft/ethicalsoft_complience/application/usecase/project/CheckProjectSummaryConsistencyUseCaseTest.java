@@ -0,0 +1,57 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.project;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.ProjectSummary;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.dto.response.ProjectSummaryDriftResponseDTO;
+import com.ethicalsoft.ethicalsoft_complience.application.port.project.ProjectSummaryPort;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class CheckProjectSummaryConsistencyUseCaseTest {
+
+    @Test
+    void deveApontarDivergenciasEResumosAusentes() {
+        ProjectSummaryPort port = mock(ProjectSummaryPort.class);
+        CheckProjectSummaryConsistencyUseCase useCase = new CheckProjectSummaryConsistencyUseCase(port);
+        LocalDate today = LocalDate.now();
+
+        when(port.findAllProjectIds()).thenReturn(List.of(1L, 2L));
+        when(port.findByProjectIds(List.of(1L, 2L))).thenReturn(Map.of(1L, summary(1L, 3, 2, "Planejamento", today)));
+        when(port.compute(eq(1L), any())).thenReturn(summary(1L, 4, 2, "Planejamento", today));
+
+        List<ProjectSummaryDriftResponseDTO> drifts = useCase.execute();
+
+        assertEquals(2, drifts.size());
+        assertEquals("representativeCount", drifts.get(0).getField());
+        assertEquals("3", drifts.get(0).getStored());
+        assertEquals("4", drifts.get(0).getActual());
+        assertEquals(2L, drifts.get(1).getProjectId());
+        assertEquals("summary", drifts.get(1).getField());
+        verify(port, never()).compute(eq(2L), any());
+    }
+
+    @Test
+    void deveIgnorarTimelineDeResumoDesatualizado() {
+        ProjectSummaryPort port = mock(ProjectSummaryPort.class);
+        CheckProjectSummaryConsistencyUseCase useCase = new CheckProjectSummaryConsistencyUseCase(port);
+        LocalDate today = LocalDate.now();
+
+        when(port.findAllProjectIds()).thenReturn(List.of(1L));
+        when(port.findByProjectIds(List.of(1L))).thenReturn(Map.of(1L, summary(1L, 3, 2, "Planejamento", today.minusDays(1))));
+        when(port.compute(eq(1L), any())).thenReturn(summary(1L, 3, 2, "Execução", today));
+
+        assertEquals(List.of(), useCase.execute());
+    }
+
+    private ProjectSummary summary(Long projectId, int representatives, int completed, String stage, LocalDate referenceDate) {
+        return new ProjectSummary(projectId, representatives, 1, 0, 1, completed, stage, null, stage, referenceDate, LocalDateTime.now());
+    }
+}
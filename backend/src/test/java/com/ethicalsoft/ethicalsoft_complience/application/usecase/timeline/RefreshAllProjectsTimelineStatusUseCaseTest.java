@@ -0,0 +1,89 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.timeline;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.TimelineRefreshPartition;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.TimelineRefreshRun;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.enums.TimelineRefreshStatusEnum;
+import com.ethicalsoft.ethicalsoft_complience.application.port.timeline.TimelineRefreshCheckpointPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RefreshAllProjectsTimelineStatusUseCaseTest {
+
+    private final TimelineRefreshCheckpointPort checkpointPort = mock(TimelineRefreshCheckpointPort.class);
+    private final RefreshTimelinePartitionUseCase partitionUseCase = mock(RefreshTimelinePartitionUseCase.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RefreshAllProjectsTimelineStatusUseCase useCase =
+            new RefreshAllProjectsTimelineStatusUseCase(checkpointPort, partitionUseCase, meterRegistry, 100, 2, 3);
+
+    @Test
+    void deveRetomarExecucaoPendenteProcessandoApenasParticoesNaoConcluidas() {
+        TimelineRefreshRun run = run(7L);
+        TimelineRefreshPartition pending = partition(71L, 101L, 200L);
+        when(checkpointPort.findResumableRun(LocalDate.now())).thenReturn(Optional.of(run));
+        when(checkpointPort.findPendingPartitions(7L, 3)).thenReturn(List.of(pending));
+        when(partitionUseCase.execute(eq(pending), any())).thenReturn(new RefreshTimelinePartitionUseCase.PartitionResult(95, 5));
+        when(checkpointPort.finishRun(7L)).thenReturn(run);
+
+        useCase.execute();
+
+        verify(checkpointPort, never()).startRun(any(), anyInt());
+        verify(partitionUseCase, times(1)).execute(eq(pending), any());
+        verify(checkpointPort).finishRun(7L);
+        assertEquals(95d, meterRegistry.counter("timeline.refresh.projects").count());
+        assertEquals(5d, meterRegistry.counter("timeline.refresh.failures").count());
+    }
+
+    @Test
+    void deveMarcarParticaoComoFalhaSemInterromperAsDemais() {
+        TimelineRefreshRun run = run(8L);
+        TimelineRefreshPartition broken = partition(81L, 1L, 100L);
+        TimelineRefreshPartition healthy = partition(82L, 101L, 200L);
+        when(checkpointPort.findResumableRun(any(LocalDate.class))).thenReturn(Optional.empty());
+        when(checkpointPort.startRun(any(LocalDate.class), eq(100))).thenReturn(run);
+        when(checkpointPort.findPendingPartitions(8L, 3)).thenReturn(List.of(broken, healthy));
+        when(partitionUseCase.execute(eq(broken), any())).thenThrow(new IllegalStateException("rollback"));
+        when(partitionUseCase.execute(eq(healthy), any())).thenReturn(new RefreshTimelinePartitionUseCase.PartitionResult(100, 0));
+        when(checkpointPort.finishRun(8L)).thenReturn(run);
+
+        useCase.execute();
+
+        verify(checkpointPort).markPartitionFailed(81L);
+        verify(checkpointPort, never()).markPartitionFailed(82L);
+        assertEquals(100d, meterRegistry.counter("timeline.refresh.projects").count());
+        assertEquals(1L, meterRegistry.timer("timeline.refresh.duration").count());
+    }
+
+    @Test
+    void deveAbandonarExecucaoDeDiaAnteriorEIniciarNovaParaHoje() {
+        TimelineRefreshRun run = run(9L);
+        when(checkpointPort.abandonRunsBefore(LocalDate.now())).thenReturn(1);
+        when(checkpointPort.findResumableRun(LocalDate.now())).thenReturn(Optional.empty());
+        when(checkpointPort.startRun(LocalDate.now(), 100)).thenReturn(run);
+        when(checkpointPort.findPendingPartitions(9L, 3)).thenReturn(List.of());
+        when(checkpointPort.finishRun(9L)).thenReturn(run);
+
+        useCase.execute();
+
+        verify(checkpointPort).abandonRunsBefore(LocalDate.now());
+        verify(checkpointPort).startRun(LocalDate.now(), 100);
+    }
+
+    private TimelineRefreshRun run(Long id) {
+        return new TimelineRefreshRun(id, LocalDate.now(), TimelineRefreshStatusEnum.RUNNING, 0, 0, LocalDateTime.now(), null);
+    }
+
+    private TimelineRefreshPartition partition(Long id, Long fromId, Long toId) {
+        return new TimelineRefreshPartition(id, 1L, fromId, toId, TimelineRefreshStatusEnum.PENDING, 0, 0, 0, LocalDateTime.now());
+    }
+}
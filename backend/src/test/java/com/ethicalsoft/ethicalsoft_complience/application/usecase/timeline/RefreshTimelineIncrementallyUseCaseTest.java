@@ -0,0 +1,55 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.timeline;
+
+import com.ethicalsoft.ethicalsoft_complience.application.port.project.ProjectSummaryPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.timeline.TimelineBoundaryQueryPort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class RefreshTimelineIncrementallyUseCaseTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 10);
+
+    private final TimelineBoundaryQueryPort boundaryQueryPort = mock(TimelineBoundaryQueryPort.class);
+    private final RefreshTimelinePartitionUseCase partitionUseCase = mock(RefreshTimelinePartitionUseCase.class);
+    private final ProjectSummaryPort projectSummaryPort = mock(ProjectSummaryPort.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final RefreshTimelineIncrementallyUseCase useCase =
+            new RefreshTimelineIncrementallyUseCase(boundaryQueryPort, partitionUseCase, projectSummaryPort, meterRegistry, 2);
+
+    @Test
+    void deveAtualizarApenasProjetosComDatasDeOntemOuHoje() {
+        when(boundaryQueryPort.findProjectIdsWithBoundaryOn(List.of(TODAY.minusDays(1), TODAY)))
+                .thenReturn(new TreeSet<>(Set.of(3L, 5L, 9L)));
+        when(partitionUseCase.executeForProjects(eq(List.of(3L, 5L)), eq(TODAY)))
+                .thenReturn(new RefreshTimelinePartitionUseCase.PartitionResult(2, 0));
+        when(partitionUseCase.executeForProjects(eq(List.of(9L)), eq(TODAY)))
+                .thenThrow(new IllegalStateException("lock timeout"));
+
+        useCase.execute(TODAY);
+
+        verify(partitionUseCase, times(2)).executeForProjects(any(), eq(TODAY));
+        verify(projectSummaryPort).advanceTimelineReferenceDate(TODAY.minusDays(1), TODAY, Set.of(3L, 5L, 9L));
+        assertEquals(2d, meterRegistry.counter("timeline.refresh.incremental.projects").count());
+        assertEquals(1d, meterRegistry.counter("timeline.refresh.incremental.failures").count());
+    }
+
+    @Test
+    void naoDeveCarregarProjetosQuandoNenhumaDataMudou() {
+        when(boundaryQueryPort.findProjectIdsWithBoundaryOn(any())).thenReturn(Set.of());
+
+        useCase.execute(TODAY);
+
+        verifyNoInteractions(partitionUseCase);
+        verify(projectSummaryPort).advanceTimelineReferenceDate(TODAY.minusDays(1), TODAY, Set.of());
+    }
+}
@@ -0,0 +1,105 @@
+package com.ethicalsoft.ethicalsoft_complience.application.usecase.timeline;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Project;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.TimelineRefreshPartition;
+import com.ethicalsoft.ethicalsoft_complience.application.port.project.ProjectSummaryPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.timeline.ProjectTimelineIndexPort;
+import com.ethicalsoft.ethicalsoft_complience.application.port.timeline.TimelineRefreshCheckpointPort;
+import com.ethicalsoft.ethicalsoft_complience.domain.repository.ProjectRepositoryPort;
+import com.ethicalsoft.ethicalsoft_complience.domain.service.ProjectTimelineStatusPolicy;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RefreshTimelinePartitionUseCaseTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 10);
+
+    private final ProjectRepositoryPort projectRepositoryPort = mock(ProjectRepositoryPort.class);
+    private final ProjectSummaryPort projectSummaryPort = mock(ProjectSummaryPort.class);
+    private final TimelineRefreshCheckpointPort checkpointPort = mock(TimelineRefreshCheckpointPort.class);
+    private final RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+    private final RefreshTimelinePartitionUseCase useCase = new RefreshTimelinePartitionUseCase(
+            projectRepositoryPort, transactional(new RefreshProjectTimelineUseCase(projectRepositoryPort,
+                    mock(ProjectTimelineStatusPolicy.class), projectSummaryPort, mock(ProjectTimelineIndexPort.class))),
+            checkpointPort);
+
+    @Test
+    void deveConfirmarDemaisProjetosQuandoUmFalhaNaParticao() {
+        TimelineRefreshPartition partition = new TimelineRefreshPartition();
+        partition.setId(5L);
+        partition.setFromProjectId(1L);
+        partition.setToProjectId(3L);
+        when(projectRepositoryPort.findIdsBetween(1L, 3L)).thenReturn(List.of(1L, 2L, 3L));
+        when(projectRepositoryPort.findByIdsWithTimeline(any())).thenAnswer(inv -> List.of(project(((List<Long>) inv.getArgument(0)).get(0))));
+        doThrow(new EntityNotFoundException("resumo ausente")).when(projectSummaryPort).refreshTimeline(2L, TODAY);
+
+        RefreshTimelinePartitionUseCase.PartitionResult result = useCase.execute(partition, TODAY);
+
+        assertEquals(new RefreshTimelinePartitionUseCase.PartitionResult(2, 1), result);
+        assertEquals(List.of("commit", "rollback", "commit"), transactionManager.outcomes);
+        verify(projectRepositoryPort, times(3)).save(any());
+        verify(checkpointPort).markPartitionDone(5L, 2, 1);
+    }
+
+    @Test
+    void deveIgnorarProjetoRemovidoEntreALeituraDosIdsEARecarga() {
+        when(projectRepositoryPort.findByIdsWithTimeline(List.of(9L))).thenReturn(List.of());
+
+        assertEquals(new RefreshTimelinePartitionUseCase.PartitionResult(0, 0), useCase.executeForProjects(List.of(9L), TODAY));
+
+        verify(projectRepositoryPort, never()).save(any());
+        assertEquals(List.of("commit"), transactionManager.outcomes);
+    }
+
+    private RefreshProjectTimelineUseCase transactional(RefreshProjectTimelineUseCase target) {
+        ProxyFactory factory = new ProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAdvice(new TransactionInterceptor((TransactionManager) transactionManager, new AnnotationTransactionAttributeSource()));
+        return (RefreshProjectTimelineUseCase) factory.getProxy();
+    }
+
+    private Project project(Long id) {
+        Project project = new Project();
+        project.setId(id);
+        return project;
+    }
+
+    private static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+
+        private final List<String> outcomes = new ArrayList<>();
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            outcomes.add("commit");
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            outcomes.add("rollback");
+        }
+    }
+}
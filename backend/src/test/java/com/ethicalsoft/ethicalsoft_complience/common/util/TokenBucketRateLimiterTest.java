@@ -0,0 +1,23 @@
+package com.ethicalsoft.ethicalsoft_complience.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TokenBucketRateLimiterTest {
+
+    @Test
+    void deveLiberarRajadaEDepoisRespeitarTaxa() {
+        AtomicLong clock = new AtomicLong();
+        TokenBucketRateLimiter limiter = new TokenBucketRateLimiter(10, 20, clock::get);
+
+        assertEquals(0, limiter.reserve(20));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(500), limiter.reserve(5));
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertEquals(0, limiter.reserve(5));
+    }
+}
@@ -0,0 +1,53 @@
+package com.ethicalsoft.ethicalsoft_complience.domain.notification;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class CompiledPlaceholderTemplateTest {
+
+    @Test
+    void deveRenderizarIgualSubstituicaoSequencial() {
+        Map<String, String> values = new LinkedHashMap<>();
+        values.put("recipientName", "Ana");
+        values.put("projectName", "Portal");
+        values.put("period", "01/01 a 10/01");
+        values.put("", "vazio");
+
+        List<String> templates = List.of(
+                "Olá {recipientName}, o projeto {projectName} abriu no período {period}.",
+                "{projectName}{projectName}",
+                "Sem placeholders",
+                "{desconhecido} e {recipientName}",
+                "Chaves {{recipientName}} aninhadas",
+                "Aberto { sem fechar {projectName",
+                "Fechado } antes {period}",
+                "{}",
+                ""
+        );
+
+        for (String template : templates) {
+            assertEquals(sequentialReplace(template, values), CompiledPlaceholderTemplate.compile(template).render(values), template);
+        }
+    }
+
+    @Test
+    void deveManterPlaceholderSemValor() {
+        CompiledPlaceholderTemplate compiled = CompiledPlaceholderTemplate.compile("Projeto {projectName}");
+
+        assertEquals("Projeto {projectName}", compiled.render(Map.of()));
+        assertEquals("Projeto X", compiled.render(Map.of("projectName", "X")));
+    }
+
+    private String sequentialReplace(String template, Map<String, String> values) {
+        String resolved = template;
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            resolved = resolved.replace("{" + entry.getKey() + "}", entry.getValue());
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,160 @@
+package com.ethicalsoft.ethicalsoft_complience.domain.service;
+
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Iteration;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Project;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Questionnaire;
+import com.ethicalsoft.ethicalsoft_complience.adapters.out.postgres.model.Stage;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ProjectTimelineIndexTest {
+
+    private static final LocalDate BASE = LocalDate.of(2024, 1, 1);
+
+    @Test
+    void deveResponderEstadoEmQualquerData() {
+        Project project = project(1L, BASE);
+        project.getStages().add(stage(1, "Levantamento", 1, BASE, BASE.plusDays(9)));
+        project.getStages().add(stage(2, "Projeto", 2, BASE.plusDays(10), BASE.plusDays(19)));
+        project.getQuestionnaires().add(questionnaire(1, project.getStages().iterator().next(), BASE.plusDays(5), BASE.plusDays(8)));
+
+        ProjectTimelineIndex index = ProjectTimelineIndex.of(project);
+
+        ProjectTimelineIndex.TimelineState state = index.stateAt(BASE.plusDays(12));
+        assertEquals("Projeto", state.currentStage());
+        assertEquals(BASE, index.findNextQuestionnaireDate(BASE.plusDays(9)));
+        assertEquals(BASE.plusDays(5), index.findNextQuestionnaireDate(BASE.plusDays(1)));
+        assertEquals(null, index.findCurrentStageName(BASE.minusDays(1)));
+    }
+
+    @Test
+    void deveCoincidirComBuscaLinearEmIntervalosSobrepostos() {
+        Random random = new Random(42);
+        for (int run = 0; run < 200; run++) {
+            Project project = randomProject(random, run);
+            ProjectTimelineIndex index = ProjectTimelineIndex.of(project);
+            for (int day = -5; day < 130; day++) {
+                LocalDate date = BASE.plusDays(day);
+                assertEquals(linearStage(project.getStages(), date), index.findCurrentStageName(date), "stage " + run + " " + date);
+                assertEquals(linearIteration(project.getIterations(), date), index.findCurrentIterationNumber(date), "iteration " + run + " " + date);
+                assertEquals(linearQuestionnaireStage(project.getQuestionnaires(), date), index.findActiveQuestionnaireStageName(date), "questionnaire " + run + " " + date);
+                assertEquals(linearNextQuestionnaireDate(project, date), index.findNextQuestionnaireDate(date), "next " + run + " " + date);
+            }
+        }
+    }
+
+    private Project randomProject(Random random, int run) {
+        Project project = project((long) run, BASE);
+        List<Stage> stages = new ArrayList<>();
+        for (int i = 0; i < 1 + random.nextInt(6); i++) {
+            Stage stage = stage(i, "S" + i, i, randomDate(random), null);
+            stage.setApplicationEndDate(stage.getApplicationStartDate() == null ? null : stage.getApplicationStartDate().plusDays(random.nextInt(30)));
+            stages.add(stage);
+            project.getStages().add(stage);
+        }
+        for (int i = 0; i < random.nextInt(6); i++) {
+            Iteration iteration = new Iteration();
+            iteration.setId(i);
+            iteration.setName("Sprint " + i);
+            iteration.setApplicationStartDate(BASE.plusDays(i * 14L + random.nextInt(5)));
+            iteration.setApplicationEndDate(random.nextInt(8) == 0 ? null : iteration.getApplicationStartDate().plusDays(13));
+            project.getIterations().add(iteration);
+        }
+        for (int i = 0; i < random.nextInt(8); i++) {
+            LocalDate start = randomDate(random);
+            Stage stage = random.nextInt(4) == 0 ? null : stages.get(random.nextInt(stages.size()));
+            project.getQuestionnaires().add(questionnaire(i, stage, start, start == null ? null : start.plusDays(random.nextInt(20))));
+        }
+        return project;
+    }
+
+    private LocalDate randomDate(Random random) {
+        return random.nextInt(10) == 0 ? null : BASE.plusDays(random.nextInt(100));
+    }
+
+    private String linearStage(Set<Stage> stages, LocalDate today) {
+        return stages.stream()
+                .filter(stage -> within(stage.getApplicationStartDate(), stage.getApplicationEndDate(), today))
+                .sorted(Comparator.comparing(Stage::getSequence))
+                .map(Stage::getName)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Integer linearIteration(Set<Iteration> iterations, LocalDate today) {
+        List<Iteration> ordered = iterations.stream()
+                .sorted(Comparator.comparing(Iteration::getApplicationStartDate, Comparator.nullsLast(Comparator.naturalOrder()))
+                        .thenComparing(Iteration::getId))
+                .toList();
+        for (int i = 0; i < ordered.size(); i++) {
+            if (within(ordered.get(i).getApplicationStartDate(), ordered.get(i).getApplicationEndDate(), today)) {
+                return i + 1;
+            }
+        }
+        return null;
+    }
+
+    private String linearQuestionnaireStage(Set<Questionnaire> questionnaires, LocalDate now) {
+        return questionnaires.stream()
+                .sorted(Comparator.comparing(Questionnaire::getId))
+                .filter(q -> within(q.getApplicationStartDate(), q.getApplicationEndDate(), now))
+                .map(Questionnaire::getStage)
+                .filter(Objects::nonNull)
+                .map(Stage::getName)
+                .findFirst()
+                .orElse(null);
+    }
+
+    private LocalDate linearNextQuestionnaireDate(Project project, LocalDate now) {
+        return project.getQuestionnaires().stream()
+                .map(Questionnaire::getApplicationStartDate)
+                .filter(Objects::nonNull)
+                .filter(date -> !date.isBefore(now))
+                .sorted()
+                .findFirst()
+                .orElse(project.getStartDate());
+    }
+
+    private boolean within(LocalDate start, LocalDate end, LocalDate date) {
+        return start != null && end != null && !date.isBefore(start) && !date.isAfter(end);
+    }
+
+    private Project project(Long id, LocalDate startDate) {
+        Project project = new Project();
+        project.setId(id);
+        project.setStartDate(startDate);
+        project.setStages(new HashSet<>());
+        project.setIterations(new HashSet<>());
+        project.setQuestionnaires(new HashSet<>());
+        return project;
+    }
+
+    private Stage stage(Integer id, String name, int sequence, LocalDate start, LocalDate end) {
+        Stage stage = new Stage();
+        stage.setId(id);
+        stage.setName(name);
+        stage.setSequence(sequence);
+        stage.setApplicationStartDate(start);
+        stage.setApplicationEndDate(end);
+        return stage;
+    }
+
+    private Questionnaire questionnaire(Integer id, Stage stage, LocalDate start, LocalDate end) {
+        Questionnaire questionnaire = new Questionnaire();
+        questionnaire.setId(id);
+        questionnaire.setStage(stage);
+        questionnaire.setApplicationStartDate(start);
+        questionnaire.setApplicationEndDate(end);
+        return questionnaire;
+    }
+}